@@ -0,0 +1,68 @@
+package nc.randomEvents.services;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares a draw from the alias table with the cumulative scan RewardGenerator used before it,
+ * for tiers of increasing size. Chances are percentages summing to 100, as in rewards.yml.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class AliasTableBenchmark {
+    @Param({"10", "100", "1000"})
+    public int entries;
+
+    private double[] chances;
+    private AliasTable<Integer> aliasTable;
+    private Random random;
+
+    @Setup
+    public void setup() {
+        Random weights = new Random(42);
+        chances = new double[entries];
+        double total = 0.0;
+        for (int i = 0; i < entries; i++) {
+            chances[i] = 1.0 + weights.nextDouble() * 99.0;
+            total += chances[i];
+        }
+        List<Integer> ids = new ArrayList<>(entries);
+        for (int i = 0; i < entries; i++) {
+            chances[i] = chances[i] * 100.0 / total;
+            ids.add(i);
+        }
+        aliasTable = new AliasTable<>(ids, id -> chances[id]);
+        random = new Random(7);
+    }
+
+    @Benchmark
+    public Integer aliasTable() {
+        return aliasTable.sample(random);
+    }
+
+    @Benchmark
+    public int cumulativeScan() {
+        double roll = random.nextDouble() * 100.0; // Roll between 0 and 100
+        double currentSum = 0.0;
+        for (int i = 0; i < chances.length; i++) {
+            currentSum += chances[i];
+            if (roll < currentSum) {
+                return i;
+            }
+        }
+        // Chances can sum to slightly under 100 after rounding
+        return chances.length - 1;
+    }
+}
@@ -9,6 +9,10 @@ import nc.randomEvents.services.participants.EntityManager;
 import nc.randomEvents.services.participants.EquipmentManager;
 import nc.randomEvents.services.participants.ProjectileManager;
 import nc.randomEvents.services.participants.TestManager;
+import nc.randomEvents.services.profiling.TickProfiler;
+import nc.randomEvents.services.scheduling.TickLoadMonitor;
+import nc.randomEvents.services.scheduling.TickPhaseAllocator;
+import nc.randomEvents.services.scheduling.TimingWheel;
 import nc.randomEvents.utils.Metrics;
 import nc.randomEvents.services.participants.ContainerManager;
 
@@ -20,6 +24,11 @@ public final class RandomEvents extends JavaPlugin {
     private ConfigManager configManager;
     private SessionRegistry sessionRegistry;
     private RewardGenerator rewardGenerator;
+    private ChestIndex chestIndex;
+    private TimingWheel timingWheel;
+    private TickPhaseAllocator phaseAllocator;
+    private TickLoadMonitor tickLoadMonitor;
+    private TickProfiler tickProfiler;
     private EquipmentManager equipmentManager;
     private TestManager testManager;
     private DisableManager disableManager;
@@ -84,6 +93,26 @@ public final class RandomEvents extends JavaPlugin {
         this.rewardGenerator = rewardGenerator;
     }
 
+    void setChestIndex(ChestIndex chestIndex) {
+        this.chestIndex = chestIndex;
+    }
+
+    void setTimingWheel(TimingWheel timingWheel) {
+        this.timingWheel = timingWheel;
+    }
+
+    void setPhaseAllocator(TickPhaseAllocator phaseAllocator) {
+        this.phaseAllocator = phaseAllocator;
+    }
+
+    void setTickLoadMonitor(TickLoadMonitor tickLoadMonitor) {
+        this.tickLoadMonitor = tickLoadMonitor;
+    }
+
+    void setTickProfiler(TickProfiler tickProfiler) {
+        this.tickProfiler = tickProfiler;
+    }
+
     void setEquipmentManager(EquipmentManager equipmentManager) {
         this.equipmentManager = equipmentManager;
     }
@@ -144,6 +173,26 @@ public final class RandomEvents extends JavaPlugin {
         return rewardGenerator;
     }
     
+    public ChestIndex getChestIndex() {
+        return chestIndex;
+    }
+
+    public TimingWheel getTimingWheel() {
+        return timingWheel;
+    }
+
+    public TickPhaseAllocator getPhaseAllocator() {
+        return phaseAllocator;
+    }
+
+    public TickLoadMonitor getTickLoadMonitor() {
+        return tickLoadMonitor;
+    }
+
+    public TickProfiler getTickProfiler() {
+        return tickProfiler;
+    }
+
     public EquipmentManager getEquipmentManager() {
         return equipmentManager;
     }
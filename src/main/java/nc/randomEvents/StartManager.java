@@ -2,6 +2,7 @@ package nc.randomEvents;
 
 import nc.randomEvents.commands.CommandManager;
 import nc.randomEvents.listeners.PlayerListener;
+import nc.randomEvents.services.ChestIndex;
 import nc.randomEvents.services.ConfigManager;
 import nc.randomEvents.services.DataManager;
 import nc.randomEvents.services.DisableManager;
@@ -14,7 +15,12 @@ import nc.randomEvents.services.participants.EquipmentManager;
 import nc.randomEvents.services.participants.ProjectileManager;
 import nc.randomEvents.services.participants.TestManager;
 import nc.randomEvents.services.participants.ContainerManager;
+import nc.randomEvents.services.profiling.TickProfiler;
+import nc.randomEvents.services.scheduling.TickLoadMonitor;
+import nc.randomEvents.services.scheduling.TickPhaseAllocator;
+import nc.randomEvents.services.scheduling.TimingWheel;
 import nc.randomEvents.utils.Metrics;
+import nc.randomEvents.utils.PdcKeys;
 
 public class StartManager {
     private final RandomEvents plugin;
@@ -24,12 +30,20 @@ public class StartManager {
     }
 
     public void start() {
+        // Persistent data keys are bound once, before any service reads or writes tags
+        PdcKeys.init(plugin);
+
         // First layer: Independent services
         plugin.setMetrics(new Metrics(plugin, 26005));
+        plugin.setTickProfiler(new TickProfiler(plugin));
         plugin.setConfigManager(new ConfigManager(plugin));
         plugin.setDataManager(new DataManager(plugin));
         plugin.setSessionRegistry(new SessionRegistry(plugin));
         plugin.setRewardGenerator(new RewardGenerator(plugin));
+        plugin.setChestIndex(new ChestIndex(plugin));
+        plugin.setTimingWheel(new TimingWheel(plugin));
+        plugin.setPhaseAllocator(new TickPhaseAllocator(plugin));
+        plugin.setTickLoadMonitor(new TickLoadMonitor(plugin));
 
         // Second layer: Services that depend on independent services
         plugin.setDisableManager(new DisableManager(plugin));
@@ -28,6 +28,9 @@ public class CommandManager implements CommandExecutor, TabCompleter {
         registerSubCommand("RemoveWorld", new RemoveWorldCommand(plugin));
         registerSubCommand("Reload", new ReloadCommand(plugin));
         registerSubCommand("List", new ListCommand(plugin));
+        registerSubCommand("MigrateData", new MigrateDataCommand(plugin));
+        registerSubCommand("Debug", new DebugCommand(plugin));
+        registerSubCommand("Profile", new ProfileCommand(plugin));
 
         // Register the main command and its alias with Bukkit
         PluginCommand mainCommand = plugin.getCommand("randomevents");
@@ -85,6 +88,12 @@ public class CommandManager implements CommandExecutor, TabCompleter {
                 return ((RemoveWorldCommand) subCmd).onTabComplete(sender, args);
             } else if (subCmd instanceof ListCommand) {
                 return ((ListCommand) subCmd).onTabComplete(sender, args);
+            } else if (subCmd instanceof MigrateDataCommand) {
+                return ((MigrateDataCommand) subCmd).onTabComplete(sender, args);
+            } else if (subCmd instanceof DebugCommand) {
+                return ((DebugCommand) subCmd).onTabComplete(sender, args);
+            } else if (subCmd instanceof ProfileCommand) {
+                return ((ProfileCommand) subCmd).onTabComplete(sender, args);
             } else if (subCmd instanceof HelpCommand) {
                 return ((HelpCommand) subCmd).onTabComplete(sender, args);
             }
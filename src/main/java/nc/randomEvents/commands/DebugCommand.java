@@ -0,0 +1,92 @@
+package nc.randomEvents.commands;
+
+import nc.randomEvents.RandomEvents;
+import nc.randomEvents.core.EventSession;
+import nc.randomEvents.core.SessionScope;
+import nc.randomEvents.services.scheduling.TickPhaseAllocator;
+import org.bukkit.command.CommandSender;
+
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+public class DebugCommand implements SubCommand {
+    private final RandomEvents plugin;
+
+    public DebugCommand(RandomEvents plugin) {
+        this.plugin = plugin;
+    }
+
+    @Override
+    public boolean execute(CommandSender sender, String[] args) {
+        if (!sender.isOp()) {
+            sender.sendMessage("You do not have permission to use this command.");
+            return true;
+        }
+
+        if (args.length >= 2 && args[1].equalsIgnoreCase("leaks")) {
+            reportLeaks(sender);
+            return true;
+        }
+        if (args.length >= 2 && args[1].equalsIgnoreCase("phases")) {
+            reportPhases(sender);
+            return true;
+        }
+        sender.sendMessage("Usage: /randomevents debug <leaks|phases>");
+        return false;
+    }
+
+    private void reportPhases(CommandSender sender) {
+        TickPhaseAllocator allocator = plugin.getPhaseAllocator();
+        long now = plugin.getTimingWheel().getCurrentTick();
+        sender.sendMessage("§6--- Tick Phases ---");
+        sender.sendMessage("§7Ticking sessions: " + allocator.getAllocationCount() + ", most on one tick: " + allocator.getPeakLoad());
+        StringBuilder upcoming = new StringBuilder("§7Next 20 ticks:§f");
+        for (int i = 1; i <= 20; i++) {
+            upcoming.append(' ').append(allocator.getLoad(now + i));
+        }
+        sender.sendMessage(upcoming.toString());
+    }
+
+    private void reportLeaks(CommandSender sender) {
+        int liveTasks = 0;
+        for (EventSession session : plugin.getSessionRegistry().getActiveSessions()) {
+            liveTasks += session.getScheduler().getTaskCount();
+        }
+        sender.sendMessage("§6--- Session Leaks ---");
+        sender.sendMessage("§7Active sessions: " + plugin.getSessionRegistry().getActiveSessions().size()
+                + ", live tasks: " + liveTasks
+                + ", timer entries: " + plugin.getTimingWheel().getPendingCount());
+
+        List<SessionScope> ended = plugin.getSessionRegistry().getEndedScopes();
+        int leaking = 0;
+        for (SessionScope scope : ended) {
+            List<String> leaks = scope.findLeaks();
+            if (leaks.isEmpty()) continue;
+            leaking++;
+            long secondsAgo = (System.currentTimeMillis() - scope.getClosedAt()) / 1000;
+            sender.sendMessage("§c" + scope.getEventName() + " §7session " + scope.getSessionId() + " (ended " + secondsAgo + "s ago):");
+            for (String leak : leaks) {
+                sender.sendMessage("§7 - " + leak);
+            }
+        }
+
+        if (leaking == 0) {
+            sender.sendMessage("§aNo leaks in the last " + ended.size() + " ended sessions.");
+        }
+    }
+
+    @Override
+    public String getDescription() {
+        return "Debugging tools. Usage: /re debug <leaks|phases>";
+    }
+
+    public List<String> onTabComplete(CommandSender sender, String[] args) {
+        if (args.length == 2) {
+            return Stream.of("leaks", "phases")
+                    .filter(option -> option.startsWith(args[1].toLowerCase()))
+                    .collect(Collectors.toList());
+        }
+        return null;
+    }
+}
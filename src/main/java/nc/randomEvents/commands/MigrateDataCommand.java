@@ -0,0 +1,63 @@
+package nc.randomEvents.commands;
+
+import nc.randomEvents.RandomEvents;
+import nc.randomEvents.services.DataManager;
+import nc.randomEvents.services.storage.JournalDataStore;
+import nc.randomEvents.services.storage.YamlDataStore;
+import org.bukkit.command.CommandSender;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+public class MigrateDataCommand implements SubCommand {
+    private final RandomEvents plugin;
+    private final DataManager dataManager;
+
+    public MigrateDataCommand(RandomEvents plugin) {
+        this.plugin = plugin;
+        this.dataManager = plugin.getDataManager();
+    }
+
+    @Override
+    public boolean execute(CommandSender sender, String[] args) {
+        if (!sender.isOp()) {
+            sender.sendMessage("You do not have permission to use this command.");
+            return true;
+        }
+
+        if (args.length < 2) {
+            sender.sendMessage("Usage: /randomevents migratedata <" + YamlDataStore.NAME + "|" + JournalDataStore.NAME + ">");
+            return false;
+        }
+
+        String target = args[1].toLowerCase();
+        try {
+            int migrated = dataManager.migrateTo(target);
+            sender.sendMessage("Copied " + migrated + " records from the " + dataManager.getStoreName() + " store to the " + target + " store.");
+            sender.sendMessage("Set settings.dataStore to '" + target + "' and reload to start using it.");
+        } catch (IllegalArgumentException e) {
+            sender.sendMessage(e.getMessage());
+        } catch (IOException e) {
+            plugin.getLogger().severe("Data migration to " + target + " failed: " + e.getMessage());
+            sender.sendMessage("Migration failed, see the console for details. The current data was not changed.");
+        }
+        return true;
+    }
+
+    @Override
+    public String getDescription() {
+        return "Copies all plugin data into another data store (yaml or journal).";
+    }
+
+    public List<String> onTabComplete(CommandSender sender, String[] args) {
+        if (args.length == 2) {
+            return Stream.of(YamlDataStore.NAME, JournalDataStore.NAME)
+                    .filter(name -> !name.equalsIgnoreCase(dataManager.getStoreName()))
+                    .filter(name -> name.startsWith(args[1].toLowerCase()))
+                    .collect(Collectors.toList());
+        }
+        return null;
+    }
+}
@@ -0,0 +1,129 @@
+package nc.randomEvents.commands;
+
+import nc.randomEvents.RandomEvents;
+import nc.randomEvents.core.BaseEvent;
+import nc.randomEvents.services.profiling.TickProfiler;
+import org.bukkit.command.CommandSender;
+import org.bukkit.scheduler.BukkitTask;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+public class ProfileCommand implements SubCommand {
+    private static final int DEFAULT_SECONDS = 10;
+    private static final int MAX_ROWS = 15;
+
+    private final RandomEvents plugin;
+    private BukkitTask reportTask;
+
+    public ProfileCommand(RandomEvents plugin) {
+        this.plugin = plugin;
+    }
+
+    @Override
+    public boolean execute(CommandSender sender, String[] args) {
+        if (!sender.isOp()) {
+            sender.sendMessage("You do not have permission to use this command.");
+            return true;
+        }
+
+        TickProfiler profiler = plugin.getTickProfiler();
+        if (args.length >= 2 && args[1].equalsIgnoreCase("stop")) {
+            if (!profiler.isRunning()) {
+                sender.sendMessage("The profiler is not running.");
+                return true;
+            }
+            finish(sender);
+            return true;
+        }
+
+        if (profiler.isRunning()) {
+            sender.sendMessage("Already profiling '" + profiler.getOwnerFilter() + "'. Use /randomevents profile stop to see the results.");
+            return true;
+        }
+
+        String filter = TickProfiler.ALL;
+        if (args.length >= 2 && !args[1].equalsIgnoreCase(TickProfiler.ALL)) {
+            BaseEvent event = plugin.getEventManager().getEvent(args[1]);
+            if (event == null) {
+                sender.sendMessage("Unknown event: " + args[1]);
+                return true;
+            }
+            filter = event.getName();
+        }
+
+        int seconds = DEFAULT_SECONDS;
+        if (args.length >= 3) {
+            try {
+                seconds = Integer.parseInt(args[2]);
+            } catch (NumberFormatException e) {
+                sender.sendMessage("Invalid duration: " + args[2] + ". Use a whole number of seconds, or 0 to run until stopped.");
+                return true;
+            }
+            if (seconds < 0) {
+                sender.sendMessage("The duration cannot be negative.");
+                return true;
+            }
+        }
+
+        profiler.start(filter);
+        if (seconds > 0) {
+            reportTask = plugin.getServer().getScheduler().runTaskLater(plugin, () -> finish(sender), seconds * 20L);
+            sender.sendMessage("Profiling '" + filter + "' for " + seconds + " seconds...");
+        } else {
+            sender.sendMessage("Profiling '" + filter + "' until /randomevents profile stop.");
+        }
+        return true;
+    }
+
+    private void finish(CommandSender sender) {
+        if (reportTask != null) {
+            reportTask.cancel();
+            reportTask = null;
+        }
+        TickProfiler profiler = plugin.getTickProfiler();
+        profiler.stop();
+
+        List<TickProfiler.HookStats> stats = profiler.report();
+        sender.sendMessage("§6--- Profile: " + profiler.getOwnerFilter() + " ---");
+        if (stats.isEmpty()) {
+            sender.sendMessage("§7No instrumented hooks ran.");
+            return;
+        }
+        for (TickProfiler.HookStats row : stats.subList(0, Math.min(MAX_ROWS, stats.size()))) {
+            sender.sendMessage(String.format("§a%s §7%s: §f%.1f/s §7p50 §f%s §7p99 §f%s §7max §f%s",
+                    row.owner(), row.hook(), row.callsPerSecond(),
+                    formatNanos(row.p50Nanos()), formatNanos(row.p99Nanos()), formatNanos(row.maxNanos())));
+        }
+        if (stats.size() > MAX_ROWS) {
+            sender.sendMessage("§7... and " + (stats.size() - MAX_ROWS) + " more hooks");
+        }
+    }
+
+    private static String formatNanos(long nanos) {
+        if (nanos >= 1_000_000) {
+            return String.format("%.2fms", nanos / 1_000_000.0);
+        }
+        return String.format("%.1fµs", nanos / 1_000.0);
+    }
+
+    @Override
+    public String getDescription() {
+        return "Times event hooks and listeners. Usage: /re profile [event|all|stop] [seconds]";
+    }
+
+    public List<String> onTabComplete(CommandSender sender, String[] args) {
+        if (args.length == 2) {
+            List<String> options = new ArrayList<>(plugin.getEventManager().getEventNames());
+            options.add(TickProfiler.ALL);
+            options.add("stop");
+            return options.stream()
+                    .filter(option -> option.toLowerCase().startsWith(args[1].toLowerCase()))
+                    .sorted()
+                    .collect(Collectors.toList());
+        }
+        return Collections.emptyList();
+    }
+}
@@ -22,12 +22,21 @@ public class StartEventCommand implements SubCommand {
         }
 
         if (args.length < 2) {
-            sender.sendMessage("Usage: /randomevents start <event-name>");
+            sender.sendMessage("Usage: /randomevents start <event-name> [seed]");
             return false;
         }
 
         String eventName = args[1];
-        if (plugin.getEventManager().startEvent(eventName)) {
+        Long seed = null;
+        if (args.length >= 3) {
+            try {
+                seed = Long.parseLong(args[2]);
+            } catch (NumberFormatException e) {
+                sender.sendMessage("Invalid seed: " + args[2] + ". The seed must be a whole number.");
+                return true;
+            }
+        }
+        if (plugin.getEventManager().startEvent(eventName, seed)) {
             sender.sendMessage("Event '" + eventName + "' started successfully.");
         } else {
             sender.sendMessage("Failed to start event '" + eventName + "'. Check console for details.");
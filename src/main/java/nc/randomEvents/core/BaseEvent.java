@@ -7,6 +7,7 @@ import java.util.UUID;
 interface IBaseEvent {
     void onStart(UUID sessionId, Set<Player> players);
     void onTick(UUID sessionId, Set<Player> players);
+    void onTick(UUID sessionId, Set<Player> players, long elapsedTicks);
     void onEnd(UUID sessionId, Set<Player> players);
     String getName();
     String getDescription();
@@ -14,6 +15,7 @@ interface IBaseEvent {
 
 public abstract class BaseEvent implements IBaseEvent {
     private long tickInterval = 20L; // Default 1 second
+    private long maxTickInterval = 0; // Default fixed tick interval
     private long duration = 0; // Default no duration
     private long maxPlayers = 0; // Default no max players
     private boolean stripsInventory = false; // Default no inventory stripping
@@ -37,6 +39,18 @@ public abstract class BaseEvent implements IBaseEvent {
     public void onTick(UUID sessionId, Set<Player> players) {
         // Default implementation does nothing
     }
+
+    /**
+     * Called periodically based on tickInterval. Override this instead of {@link #onTick(UUID, Set)} when the event's
+     * logic depends on how much time passed, since adaptive ticking can stretch the interval under load
+     * @param sessionId The ID of the session being ticked
+     * @param players The current set of players in the event
+     * @param elapsedTicks Server ticks since the previous call. The first call counts from the session start, so it
+     *                     includes the phase delay that staggers sessions and can differ from the tick interval.
+     */
+    public void onTick(UUID sessionId, Set<Player> players, long elapsedTicks) {
+        onTick(sessionId, players);
+    }
     
     /**
      * Called when the event session ends
@@ -51,6 +65,20 @@ public abstract class BaseEvent implements IBaseEvent {
         return tickInterval;
     }
 
+    /**
+     * @return The slowest interval in ticks between onTick calls when the server is under load, 0 if the interval is fixed
+     */
+    public long getMaxTickInterval() {
+        return maxTickInterval;
+    }
+
+    /**
+     * @return Whether the tick interval may be stretched when the server is under load
+     */
+    public boolean isAdaptiveTicking() {
+        return tickInterval > 0 && maxTickInterval > tickInterval;
+    }
+
     /**
      * @return Whether the event strips player inventories
      */
@@ -78,6 +106,14 @@ public abstract class BaseEvent implements IBaseEvent {
     protected void setTickInterval(long tickInterval) {
         this.tickInterval = tickInterval;
     }
+
+    /**
+     * Opts the event into adaptive ticking: when the server is under load, onTick is called less often, down to this interval
+     * @param maxTickInterval The slowest interval in ticks between onTick calls, at most the tick interval to opt out
+     */
+    protected void setMaxTickInterval(long maxTickInterval) {
+        this.maxTickInterval = maxTickInterval;
+    }
     
     /**
      * @return The total duration of the event in ticks
@@ -0,0 +1,16 @@
+package nc.randomEvents.core;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks the constructor the DataManager uses to load a PluginData class, record style:
+ * its parameters must be the non-transient fields of the class, in declaration order.
+ * Classes without it fall back to the public constructor with the most parameters, matched by type.
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.CONSTRUCTOR)
+public @interface DataConstructor {
+}
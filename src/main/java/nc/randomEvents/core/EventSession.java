@@ -1,22 +1,29 @@
 package nc.randomEvents.core;
 
 import org.bukkit.entity.Player;
-import org.bukkit.scheduler.BukkitTask;
 
 import nc.randomEvents.RandomEvents;
 import nc.randomEvents.data.PlayerData;
 import nc.randomEvents.services.DataManager;
+import nc.randomEvents.services.profiling.ProfilerHook;
+import nc.randomEvents.services.profiling.TickProfiler;
+import nc.randomEvents.services.scheduling.SessionScheduler;
+import nc.randomEvents.services.scheduling.SessionTask;
+import nc.randomEvents.services.scheduling.TickPhaseAllocator;
 
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
 
 interface IEventSession {
     void start();
     void end();
     UUID getSessionId();
     Set<Player> getPlayers();
+    boolean addPlayer(Player player);
+    boolean removePlayer(Player player);
     BaseEvent getEvent();
 }
 
@@ -25,17 +32,42 @@ public class EventSession implements IEventSession {
     private final BaseEvent event;
     private final Set<Player> players;
     private final RandomEvents plugin;
-    private BukkitTask tickTask;
-    private BukkitTask endTask;
+    private final SessionScope scope;
+    private SessionTask tickTask;
+    private SessionTask endTask;
+    private TickPhaseAllocator.Phase tickPhase;
+    private long lastTickAt;
     private boolean isEnded = false;
     private final DataManager dataManager;
+    private final SessionStats stats = new SessionStats();
+    private final SessionRandom random;
+    private final ProfilerHook startHook;
+    private final ProfilerHook tickHook;
+    private final ProfilerHook endHook;
     
     public EventSession(RandomEvents plugin, BaseEvent event, Set<Player> players) {
+        this(plugin, event, players, ThreadLocalRandom.current().nextLong());
+    }
+
+    /**
+     * Creates and starts a session whose random streams are derived from a fixed seed, e.g. to replay a logged session
+     * @param plugin The plugin instance
+     * @param event The event to run
+     * @param players The participating players
+     * @param seed The seed for the session's random streams
+     */
+    public EventSession(RandomEvents plugin, BaseEvent event, Set<Player> players, long seed) {
         this.sessionId = UUID.randomUUID();
+        this.random = new SessionRandom(seed);
+        this.scope = new SessionScope(plugin, sessionId, event.getName());
         this.plugin = plugin;
         this.event = event;
         this.players = new HashSet<>(players);
         this.dataManager = plugin.getDataManager();
+        TickProfiler profiler = plugin.getTickProfiler();
+        this.startHook = profiler.hook(event.getName(), "onStart");
+        this.tickHook = profiler.hook(event.getName(), "onTick");
+        this.endHook = profiler.hook(event.getName(), "onEnd");
         start();
     }
     
@@ -50,24 +82,40 @@ public class EventSession implements IEventSession {
             throw new IllegalStateException("Cannot start an event with more players than the max players");
         }
         
+        // Keep participants' data in memory for the whole session, even if they log out
+        for (Player player : players) {
+            dataManager.pin(PlayerData.class, player.getUniqueId().toString());
+        }
+        prefetchPlayerData(players);
+
         // Start the event
+        plugin.getLogger().info("Starting " + event.getName() + " session " + sessionId + " with seed " + random.getSeed());
         plugin.getSessionRegistry().registerSession(this);
-        event.onStart(sessionId, getPlayers());
+        long startedAt = startHook.start();
+        try {
+            event.onStart(sessionId, getPlayers());
+        } finally {
+            startHook.stop(startedAt);
+        }
         
-        // Schedule periodic ticks if interval > 0
+        // Schedule periodic ticks if interval > 0, offset so sessions of the same event don't all tick together
         if (event.getTickInterval() > 0) {
-            tickTask = plugin.getServer().getScheduler().runTaskTimer(
-                plugin,
-                () -> event.onTick(sessionId, getPlayers()),
-                event.getTickInterval(),
-                event.getTickInterval()
-            );
+            lastTickAt = plugin.getTimingWheel().getCurrentTick();
+            if (event.isAdaptiveTicking()) {
+                scheduleAdaptiveTick();
+            } else {
+                tickPhase = plugin.getPhaseAllocator().allocate(event.getTickInterval());
+                tickTask = scope.getScheduler().runTimer(
+                    this::tick,
+                    tickPhase.firstDelay(lastTickAt),
+                    event.getTickInterval()
+                );
+            }
         }
         
         // Schedule the end task if duration > 0
         if (event.getDuration() > 0) {
-            endTask = plugin.getServer().getScheduler().runTaskLater(
-                plugin,
+            endTask = scope.getScheduler().runLater(
                 this::end,
                 event.getDuration()
             );
@@ -89,24 +137,113 @@ public class EventSession implements IEventSession {
             tickTask.cancel();
             tickTask = null;
         }
+        if (tickPhase != null) {
+            plugin.getPhaseAllocator().release(tickPhase);
+            tickPhase = null;
+        }
         if (endTask != null) {
             endTask.cancel();
             endTask = null;
         }
 
         // End the event
-        event.onEnd(sessionId, getPlayers());
+        long endedAt = endHook.start();
+        try {
+            event.onEnd(sessionId, getPlayers());
+        } finally {
+            endHook.stop(endedAt);
+        }
+        // Release everything the event allocated for this session
+        scope.close();
         plugin.getSessionRegistry().unregisterSession(sessionId);
 
+        // Commit every participant's stats as one write
         for (Player player : getPlayers()) {
-            PlayerData playerData = dataManager.get(PlayerData.class, player.getUniqueId().toString());
-            if (playerData != null) {
-                playerData.eventsParticipated++;
-                dataManager.set(playerData.getId(), playerData);
-            }
+            stats.recordParticipation(player.getUniqueId());
+        }
+        dataManager.commit(stats.toBatch());
+        for (Player player : getPlayers()) {
+            dataManager.unpin(PlayerData.class, player.getUniqueId().toString());
+        }
+    }
+
+    private void tick() {
+        long now = plugin.getTimingWheel().getCurrentTick();
+        long elapsedTicks = now - lastTickAt;
+        lastTickAt = now;
+        long tickedAt = tickHook.start();
+        try {
+            event.onTick(sessionId, getPlayers(), elapsedTicks);
+        } finally {
+            tickHook.stop(tickedAt);
         }
     }
+
+    private void adaptiveTick() {
+        tick();
+        // The event may have ended the session from inside onTick
+        if (!isEnded) {
+            scheduleAdaptiveTick();
+        }
+    }
+
+    /**
+     * Schedules the next tick of an adaptive event, stretching the interval while the server is under load.
+     * The phase is only reallocated when the effective interval changes, so steady load keeps a steady rhythm.
+     */
+    private void scheduleAdaptiveTick() {
+        long interval = plugin.getTickLoadMonitor().getEffectiveInterval(event.getTickInterval(), event.getMaxTickInterval());
+        if (tickPhase == null || tickPhase.getInterval() != interval) {
+            plugin.getPhaseAllocator().release(tickPhase);
+            tickPhase = plugin.getPhaseAllocator().allocate(interval);
+        }
+        tickTask = scope.getScheduler().runLater(this::adaptiveTick, tickPhase.firstDelay(plugin.getTimingWheel().getCurrentTick()));
+    }
+
+    /**
+     * Loads the players' data off the main thread, so the commit at the end of the session finds it in memory
+     * @param toPrefetch The players to prefetch
+     */
+    private void prefetchPlayerData(Set<Player> toPrefetch) {
+        Set<UUID> playerIds = new HashSet<>();
+        for (Player player : toPrefetch) {
+            playerIds.add(player.getUniqueId());
+        }
+        plugin.getServer().getScheduler().runTaskAsynchronously(plugin, () -> {
+            for (UUID playerId : playerIds) {
+                dataManager.preload(PlayerData.class, playerId.toString());
+            }
+        });
+    }
     
+    /**
+     * @return The scheduler for work that should stop when this session ends
+     */
+    public SessionScheduler getScheduler() {
+        return scope.getScheduler();
+    }
+
+    /**
+     * @return The scope holding everything the event allocated for this session
+     */
+    public SessionScope getScope() {
+        return scope;
+    }
+
+    /**
+     * @return The seeded random streams of this session
+     */
+    public SessionRandom getRandom() {
+        return random;
+    }
+
+    /**
+     * @return The statistics accumulated for this session's players
+     */
+    public SessionStats getStats() {
+        return stats;
+    }
+
     /**
      * @return The unique identifier for this session
      */
@@ -120,6 +257,56 @@ public class EventSession implements IEventSession {
     public Set<Player> getPlayers() {
         return Collections.unmodifiableSet(players);
     }
+
+    /**
+     * Add a player to this session
+     * @param player The player joining the session
+     * @return Whether the player was added
+     */
+    public boolean addPlayer(Player player) {
+        if (isEnded) {
+            return false;
+        }
+        if (event.getMaxPlayers() > 0 && players.size() >= event.getMaxPlayers()) {
+            return false;
+        }
+        if (!players.add(player)) {
+            return false;
+        }
+        dataManager.pin(PlayerData.class, player.getUniqueId().toString());
+        prefetchPlayerData(Collections.singleton(player));
+        plugin.getSessionRegistry().indexPlayer(this, player.getUniqueId());
+        return true;
+    }
+
+    /**
+     * Remove a player from this session
+     * @param player The player leaving the session
+     * @return Whether the player was removed
+     */
+    public boolean removePlayer(Player player) {
+        if (!players.remove(player)) {
+            return false;
+        }
+        if (!isEnded) {
+            dataManager.unpin(PlayerData.class, player.getUniqueId().toString());
+        }
+        plugin.getSessionRegistry().unindexPlayer(this, player.getUniqueId());
+        return true;
+    }
+
+    /**
+     * @param playerId The UUID of the player to check
+     * @return Whether the player is part of this session
+     */
+    public boolean hasPlayer(UUID playerId) {
+        for (Player player : players) {
+            if (player.getUniqueId().equals(playerId)) {
+                return true;
+            }
+        }
+        return false;
+    }
     
     /**
      * @return The event instance for this session
@@ -2,16 +2,16 @@ package nc.randomEvents.core;
 
 import nc.randomEvents.RandomEvents;
 import nc.randomEvents.services.participants.ContainerManager;
+import nc.randomEvents.services.ChestIndex;
 import nc.randomEvents.services.RewardGenerator;
 import nc.randomEvents.services.RewardGenerator.Tier;
-import nc.randomEvents.utils.PersistentDataHelper;
+import nc.randomEvents.utils.PdcKeys;
 import org.bukkit.Location;
 import org.bukkit.Material;
 import org.bukkit.block.Block;
 import org.bukkit.block.Container;
 import org.bukkit.inventory.ItemStack;
 import org.bukkit.inventory.meta.ItemMeta;
-import org.bukkit.persistence.PersistentDataType;
 
 import java.util.*;
 
@@ -123,12 +123,17 @@ public class LootContainer implements ILootContainer {
         
         Container container = (Container) block.getState();
 
+        // Placed with setType, so no place event reaches the chest index
+        if (ChestIndex.isChest(block.getType()) && plugin.getChestIndex() != null) {
+            plugin.getChestIndex().addChest(block);
+        }
+
         // Add persistent data
-        PersistentDataHelper.set(container.getPersistentDataContainer(), plugin, "container", PersistentDataType.BYTE, (byte) 1);
-        PersistentDataHelper.set(container.getPersistentDataContainer(), plugin, "container_id", PersistentDataType.STRING, containerId);
-        PersistentDataHelper.set(container.getPersistentDataContainer(), plugin, "container_session", PersistentDataType.STRING, sessionId.toString());
-        PersistentDataHelper.set(container.getPersistentDataContainer(), plugin, "container_type", PersistentDataType.STRING, type.name());
-        PersistentDataHelper.set(container.getPersistentDataContainer(), plugin, "clear_at_end", PersistentDataType.BYTE, (byte) (clearAtEnd ? 1 : 0));
+        PdcKeys.CONTAINER.set(container.getPersistentDataContainer(), (byte) 1);
+        PdcKeys.CONTAINER_ID.set(container.getPersistentDataContainer(), containerId);
+        PdcKeys.CONTAINER_SESSION.set(container.getPersistentDataContainer(), sessionId);
+        PdcKeys.CONTAINER_TYPE.set(container.getPersistentDataContainer(), type.name());
+        PdcKeys.CLEAR_AT_END.set(container.getPersistentDataContainer(), (byte) (clearAtEnd ? 1 : 0));
         
         container.update();
 
@@ -136,11 +141,12 @@ public class LootContainer implements ILootContainer {
         for (ItemStack item : questItems) {
             ItemMeta meta = item.getItemMeta();
             if (meta != null) {
-                PersistentDataHelper.set(meta.getPersistentDataContainer(), plugin, "quest_item", PersistentDataType.BYTE, (byte) 1);
-                PersistentDataHelper.set(meta.getPersistentDataContainer(), plugin, "quest_item_session", PersistentDataType.STRING, sessionId.toString());
+                PdcKeys.QUEST_ITEM.set(meta.getPersistentDataContainer(), (byte) 1);
+                PdcKeys.QUEST_ITEM_SESSION.set(meta.getPersistentDataContainer(), sessionId);
                 item.setItemMeta(meta);
             }
             container.getInventory().addItem(item);
+            containerManager.trackQuestItem(item, location);
         }
 
         // Add normal items
@@ -152,7 +158,9 @@ public class LootContainer implements ILootContainer {
         if (!rewardTiers.isEmpty()) {
             RewardGenerator rewardGenerator = plugin.getRewardGenerator();
             if (rewardGenerator != null) {
-                List<ItemStack> rewards = rewardGenerator.generateRewards(rewardTiers);
+                // Drawn from the session's reward stream, so seeded sessions fill their chests the same way
+                List<ItemStack> rewards = rewardGenerator.generateRewards(rewardTiers,
+                    plugin.getSessionRegistry().getRandom(sessionId, "rewards"));
                 for (ItemStack reward : rewards) {
                     container.getInventory().addItem(reward);
                 }
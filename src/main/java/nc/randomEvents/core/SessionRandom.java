@@ -0,0 +1,87 @@
+package nc.randomEvents.core;
+
+import java.util.Map;
+import java.util.Random;
+import java.util.SplittableRandom;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Seeded source of random streams for one event session.
+ * Each subsystem (e.g. "spawns", "rewards") gets its own stream derived only from the session seed and the
+ * stream name, so a session can be replayed with the same seed regardless of the order streams are first used.
+ * Streams are not thread-safe; each is meant to be used from the main thread only.
+ */
+public final class SessionRandom {
+    private final long seed;
+    private final Map<String, Random> streams = new ConcurrentHashMap<>();
+
+    public SessionRandom(long seed) {
+        this.seed = seed;
+    }
+
+    /**
+     * @return The seed this session was started with
+     */
+    public long getSeed() {
+        return seed;
+    }
+
+    /**
+     * @param name The subsystem the stream is for
+     * @return The stream for that subsystem, the same instance on every call
+     */
+    public Random stream(String name) {
+        return streams.computeIfAbsent(name, k -> new StreamRandom(new SplittableRandom(mix(seed ^ mix(k.hashCode())))));
+    }
+
+    /**
+     * Murmur3 finalizer, so similar seeds and names still give unrelated streams
+     */
+    private static long mix(long z) {
+        z = (z ^ (z >>> 33)) * 0xff51afd7ed558ccdL;
+        z = (z ^ (z >>> 33)) * 0xc4ceb9fe1a85ec53L;
+        return z ^ (z >>> 33);
+    }
+
+    /**
+     * Random backed by a SplittableRandom, so callers keep the Random API without its atomic seed updates
+     */
+    private static final class StreamRandom extends Random {
+        private final SplittableRandom source;
+
+        StreamRandom(SplittableRandom source) {
+            super(0L);
+            this.source = source;
+        }
+
+        @Override
+        protected int next(int bits) {
+            return source.nextInt() >>> (32 - bits);
+        }
+
+        @Override
+        public int nextInt(int bound) {
+            return source.nextInt(bound);
+        }
+
+        @Override
+        public double nextDouble() {
+            return source.nextDouble();
+        }
+
+        @Override
+        public boolean nextBoolean() {
+            return source.nextBoolean();
+        }
+
+        @Override
+        public long nextLong() {
+            return source.nextLong();
+        }
+
+        @Override
+        public synchronized void setSeed(long seed) {
+            // Only called by the Random constructor; streams are reseeded through SessionRandom instead
+        }
+    }
+}
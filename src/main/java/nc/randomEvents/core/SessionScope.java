@@ -0,0 +1,244 @@
+package nc.randomEvents.core;
+
+import nc.randomEvents.RandomEvents;
+import nc.randomEvents.services.scheduling.SessionScheduler;
+import org.bukkit.entity.Entity;
+import org.bukkit.event.HandlerList;
+import org.bukkit.event.Listener;
+import org.bukkit.plugin.RegisteredListener;
+
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.BooleanSupplier;
+import java.util.logging.Level;
+
+/**
+ * Everything an event allocates for one session: scheduled tasks, listeners, entities and other resources.
+ * The scope is closed when the session ends, releasing resources in reverse order of registration,
+ * and afterwards can report anything that is unexpectedly still alive. Once closed it only keeps
+ * descriptions and weak probes, so recently ended scopes kept for leak reports hold no entities or listeners.
+ */
+public class SessionScope {
+    private final RandomEvents plugin;
+    private final UUID sessionId;
+    private final String eventName;
+    private final SessionScheduler scheduler;
+    // Insertion ordered and removable, so single resources can be released before the session ends
+    private final Set<Resource> resources = new LinkedHashSet<>();
+    private final Map<UUID, Resource> entities = new HashMap<>();
+    // What is checked for leaks after closing, replacing the resources and their closers
+    private final List<Resource> probes = new ArrayList<>();
+    private final List<String> failedToClose = new ArrayList<>();
+    private int resourceCount = 0;
+    private boolean closed = false;
+    private long closedAt = 0L;
+
+    // Compared by identity, as two resources may share a description
+    private static final class Resource {
+        private final String description;
+        private final Runnable closer;
+        private final BooleanSupplier alive;
+
+        private Resource(String description, Runnable closer, BooleanSupplier alive) {
+            this.description = description;
+            this.closer = closer;
+            this.alive = alive;
+        }
+    }
+
+    public SessionScope(RandomEvents plugin, UUID sessionId, String eventName) {
+        this.plugin = plugin;
+        this.sessionId = sessionId;
+        this.eventName = eventName;
+        this.scheduler = new SessionScheduler(plugin.getTimingWheel());
+    }
+
+    /**
+     * @return The scheduler whose tasks are cancelled when this scope closes
+     */
+    public SessionScheduler getScheduler() {
+        return scheduler;
+    }
+
+    /**
+     * Registers a listener for the lifetime of the session
+     * @param listener The listener to register
+     * @return The listener
+     */
+    public <T extends Listener> T registerListener(T listener) {
+        plugin.getServer().getPluginManager().registerEvents(listener, plugin);
+        WeakReference<Listener> ref = new WeakReference<>(listener);
+        add("listener " + listener.getClass().getSimpleName(), () -> HandlerList.unregisterAll(listener), () -> {
+            Listener registered = ref.get();
+            return registered != null && isRegistered(registered);
+        });
+        return listener;
+    }
+
+    /**
+     * Tracks an entity that must not outlive the session; it is removed when the scope closes
+     * @param entity The entity to track
+     * @return The entity
+     */
+    public <T extends Entity> T trackEntity(T entity) {
+        WeakReference<Entity> ref = new WeakReference<>(entity);
+        Resource resource = add("entity " + entity.getType() + " " + entity.getUniqueId(), () -> {
+            if (entity.isValid()) {
+                entity.remove();
+            }
+        }, () -> {
+            Entity tracked = ref.get();
+            return tracked != null && tracked.isValid();
+        });
+        if (resource != null) {
+            entities.put(entity.getUniqueId(), resource);
+        }
+        return entity;
+    }
+
+    /**
+     * Stops tracking an entity the event removed itself, so the scope no longer holds on to it
+     * @param entity The entity to forget
+     */
+    public void untrackEntity(Entity entity) {
+        Resource resource = entities.remove(entity.getUniqueId());
+        if (resource != null) {
+            resources.remove(resource);
+        }
+    }
+
+    /**
+     * Runs a cleanup action when the session ends, e.g. to restore temporary blocks
+     * @param description What the action cleans up, shown in leak reports if it fails
+     * @param action The cleanup action
+     */
+    public void onClose(String description, Runnable action) {
+        add(description, action, () -> false);
+    }
+
+    /**
+     * Closes a resource when the session ends
+     * @param description What the resource is, shown in leak reports if it fails to close
+     * @param resource The resource to close
+     * @return The resource
+     */
+    public <T extends AutoCloseable> T add(String description, T resource) {
+        add(description, () -> {
+            try {
+                resource.close();
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        }, () -> false);
+        return resource;
+    }
+
+    /**
+     * @return The registered resource, or null if the scope was already closed and it was released right away
+     */
+    private Resource add(String description, Runnable closer, BooleanSupplier alive) {
+        Resource resource = new Resource(description, closer, alive);
+        if (closed) {
+            // The session already ended, so release immediately instead of leaking
+            runCloser(resource);
+            return null;
+        }
+        resources.add(resource);
+        resourceCount++;
+        return resource;
+    }
+
+    /**
+     * Cancels every task and releases every resource, most recently registered first
+     */
+    public void close() {
+        if (closed) return;
+        closed = true;
+        closedAt = System.currentTimeMillis();
+        scheduler.cancelAll();
+        List<Resource> closing = new ArrayList<>(resources);
+        Collections.reverse(closing);
+        for (Resource resource : closing) {
+            runCloser(resource);
+            // Keep only the probe; the closer may hold the resource itself
+            probes.add(new Resource(resource.description, null, resource.alive));
+        }
+        resources.clear();
+        entities.clear();
+    }
+
+    private void runCloser(Resource resource) {
+        try {
+            resource.closer.run();
+        } catch (RuntimeException e) {
+            failedToClose.add(resource.description);
+            plugin.getLogger().log(Level.WARNING, "Failed to release " + resource.description + " of " + eventName + " session " + sessionId, e);
+        }
+    }
+
+    /**
+     * @return Descriptions of everything still alive although the scope was closed, empty if nothing leaked
+     */
+    public List<String> findLeaks() {
+        List<String> leaks = new ArrayList<>();
+        if (!closed) return leaks;
+        // The scheduler forgets its tasks when cancelling them, so ask the wheel what is still queued
+        if (scheduler.getQueuedCount() > 0) {
+            leaks.add(scheduler.getQueuedCount() + " tasks still scheduled");
+        }
+        if (scheduler.getRunsAfterClose() > 0) {
+            leaks.add(scheduler.getRunsAfterClose() + " task runs after the session ended (dropped)");
+        }
+        for (Resource probe : probes) {
+            if (probe.alive.getAsBoolean()) {
+                leaks.add(probe.description);
+            }
+        }
+        for (String failed : failedToClose) {
+            leaks.add(failed + " (failed to close)");
+        }
+        return leaks;
+    }
+
+    private boolean isRegistered(Listener listener) {
+        for (RegisteredListener registered : HandlerList.getRegisteredListeners(plugin)) {
+            if (registered.getListener() == listener) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public UUID getSessionId() {
+        return sessionId;
+    }
+
+    public String getEventName() {
+        return eventName;
+    }
+
+    public boolean isClosed() {
+        return closed;
+    }
+
+    /**
+     * @return When the scope was closed, in epoch milliseconds, or 0 if it is still open
+     */
+    public long getClosedAt() {
+        return closedAt;
+    }
+
+    /**
+     * @return The number of resources registered over the scope's lifetime, excluding scheduled tasks
+     */
+    public int getResourceCount() {
+        return resourceCount;
+    }
+}
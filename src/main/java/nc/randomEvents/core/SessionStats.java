@@ -0,0 +1,51 @@
+package nc.randomEvents.core;
+
+import nc.randomEvents.data.PlayerData;
+import nc.randomEvents.services.DataBatch;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Per-session accumulator for player statistics.
+ * Counters are bumped in memory while the session runs and turned into a single data batch when it ends.
+ */
+public class SessionStats {
+    private final Map<UUID, AtomicInteger> participations = new ConcurrentHashMap<>();
+
+    /**
+     * Counts one event participation for a player
+     * @param playerId The UUID of the player
+     */
+    public void recordParticipation(UUID playerId) {
+        participations.computeIfAbsent(playerId, k -> new AtomicInteger()).incrementAndGet();
+    }
+
+    /**
+     * @param playerId The UUID of the player
+     * @return The participations counted for the player in this session so far
+     */
+    public int getParticipations(UUID playerId) {
+        AtomicInteger count = participations.get(playerId);
+        return count != null ? count.get() : 0;
+    }
+
+    /**
+     * Builds the batch that adds the accumulated counters to the players' stored data
+     * @return The batch to commit, with one update per player
+     */
+    public DataBatch toBatch() {
+        DataBatch batch = new DataBatch();
+        for (Map.Entry<UUID, AtomicInteger> entry : participations.entrySet()) {
+            UUID playerId = entry.getKey();
+            int delta = entry.getValue().get();
+            if (delta == 0) continue;
+            batch.update(PlayerData.class, playerId.toString(),
+                () -> new PlayerData(playerId, 0),
+                data -> data.eventsParticipated += delta);
+        }
+        return batch;
+    }
+}
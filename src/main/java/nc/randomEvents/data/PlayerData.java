@@ -2,6 +2,7 @@ package nc.randomEvents.data;
 
 import java.util.UUID;
 
+import nc.randomEvents.core.DataConstructor;
 import nc.randomEvents.core.PluginData;
 
 public class PlayerData implements PluginData {
@@ -14,6 +15,7 @@ public class PlayerData implements PluginData {
     }
 
     // Constructor for deserialization
+    @DataConstructor
     public PlayerData(int eventsParticipated) {
         this.eventsParticipated = eventsParticipated;
     }
@@ -1,5 +1,6 @@
 package nc.randomEvents.data;
 
+import nc.randomEvents.core.DataConstructor;
 import nc.randomEvents.core.PluginData;
 import java.util.UUID;
 
@@ -15,6 +16,7 @@ public class WorldData implements PluginData {
     }
 
     // Constructor for deserialization
+    @DataConstructor
     public WorldData(UUID worldId, long lastModified) {
         this.worldId = worldId;
         this.lastModified = lastModified;
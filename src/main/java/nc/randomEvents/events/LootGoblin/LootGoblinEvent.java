@@ -2,10 +2,14 @@ package nc.randomEvents.events.LootGoblin;
 
 import nc.randomEvents.RandomEvents;
 import nc.randomEvents.core.BaseEvent;
+import nc.randomEvents.core.EventSession;
+import nc.randomEvents.services.ConfigView;
+import nc.randomEvents.services.EventConfigReader;
 import nc.randomEvents.services.participants.EntityManager;
+import nc.randomEvents.services.scheduling.SessionTask;
 import nc.randomEvents.utils.SoundHelper;
 import nc.randomEvents.utils.EntityHelper;
-import nc.randomEvents.utils.PersistentDataHelper;
+import nc.randomEvents.utils.PdcKeys;
 
 import org.bukkit.*;
 import org.bukkit.block.Block;
@@ -22,9 +26,7 @@ import org.bukkit.event.entity.EntityDamageByEntityEvent;
 import org.bukkit.event.entity.EntityTargetLivingEntityEvent;
 import org.bukkit.inventory.Inventory;
 import org.bukkit.inventory.ItemStack;
-import org.bukkit.scheduler.BukkitRunnable;
 import org.bukkit.util.Vector;
-import org.bukkit.persistence.PersistentDataType;
 
 import net.kyori.adventure.text.Component;
 import net.kyori.adventure.text.format.NamedTextColor;
@@ -35,13 +37,12 @@ import java.util.concurrent.ConcurrentHashMap;
 public class LootGoblinEvent extends BaseEvent implements Listener {
     private final RandomEvents plugin;
     private final EntityManager entityManager;
-    private final Random random = new Random();
+    private final ConfigView<Settings> settings;
     private final Map<UUID, GoblinTask> activeGoblins = new ConcurrentHashMap<>(); // Goblin UUID to its task
-    private static final String LOOT_GOBLIN_TAG = "loot_goblin";
-    private static final String CRYING_TAG = "crying";
 
     public LootGoblinEvent(RandomEvents plugin) {
         this.plugin = plugin;
+        this.settings = plugin.getConfigManager().registerView(getName(), Settings::read);
         this.entityManager = plugin.getEntityManager();
         Bukkit.getPluginManager().registerEvents(this, plugin);
         
@@ -83,6 +84,9 @@ public class LootGoblinEvent extends BaseEvent implements Listener {
     }
 
     private void spawnGoblinForPlayer(Player player, UUID sessionId) {
+        EventSession session = plugin.getSessionRegistry().getSession(sessionId);
+        if (session == null) return;
+
         Location playerLoc = player.getLocation();
         World world = player.getWorld();
         Location spawnLoc = null;
@@ -117,9 +121,10 @@ public class LootGoblinEvent extends BaseEvent implements Listener {
 
         // Spawn and track the goblin using EntityManager
         PigZombie goblin = (PigZombie)entityManager.spawnTracked(EntityType.ZOMBIFIED_PIGLIN, spawnLoc, "loot_goblin", player.getUniqueId());
+        session.getScope().trackEntity(goblin);
         
         // Add loot goblin tag
-        PersistentDataHelper.set(goblin.getPersistentDataContainer(), plugin, LOOT_GOBLIN_TAG, PersistentDataType.BYTE, (byte)1);
+        PdcKeys.LOOT_GOBLIN.set(goblin.getPersistentDataContainer(), (byte) 1);
         
         // Configure goblin attributes
         goblin.setAge(-1); // Ensure it's a baby
@@ -127,7 +132,7 @@ public class LootGoblinEvent extends BaseEvent implements Listener {
         goblin.setCustomNameVisible(true);
 
         // Set movement speed using EntityHelper
-        double speedMultiplier = plugin.getConfigManager().getDoubleValue(getName(), "speed");
+        double speedMultiplier = settings.get().speed();
         EntityHelper.setMovementSpeed(goblin, speedMultiplier * 0.23); // 0.23 is base zombie speed
         
         // Clear equipment
@@ -154,7 +159,7 @@ public class LootGoblinEvent extends BaseEvent implements Listener {
 
         GoblinTask task = new GoblinTask(goblin, player, sessionId);
         activeGoblins.put(goblin.getUniqueId(), task);
-        task.runTaskTimer(plugin, 0L, 5L); // Run AI tick every 5 ticks (0.25s)
+        task.runTimer(session.getScheduler(), 1L, 5L); // Run AI tick every 5 ticks (0.25s)
     }
 
     // Helper method to check if a location is safe for a 2-block high mob
@@ -186,7 +191,7 @@ public class LootGoblinEvent extends BaseEvent implements Listener {
     @EventHandler
     public void onEntityDeath(EntityDeathEvent event) {
         LivingEntity deadEntity = event.getEntity();
-        if (PersistentDataHelper.has(deadEntity.getPersistentDataContainer(), plugin, LOOT_GOBLIN_TAG, PersistentDataType.BYTE)) {
+        if (PdcKeys.LOOT_GOBLIN.has(deadEntity.getPersistentDataContainer())) {
             event.getDrops().clear(); // Clear default zombie drops
 
             // Drop the stored item if it exists
@@ -204,7 +209,7 @@ public class LootGoblinEvent extends BaseEvent implements Listener {
 
     @EventHandler
     public void onEntityCombust(EntityCombustEvent event) {
-        if (PersistentDataHelper.has(event.getEntity().getPersistentDataContainer(), plugin, LOOT_GOBLIN_TAG, PersistentDataType.BYTE)) {
+        if (PdcKeys.LOOT_GOBLIN.has(event.getEntity().getPersistentDataContainer())) {
             event.setCancelled(true); // Prevent loot goblins from burning in daylight
         }
     }
@@ -212,7 +217,7 @@ public class LootGoblinEvent extends BaseEvent implements Listener {
     @EventHandler
     public void onEntityDamage(EntityDamageByEntityEvent event) {
         if (!(event.getEntity() instanceof LivingEntity) || 
-            !PersistentDataHelper.has(event.getEntity().getPersistentDataContainer(), plugin, LOOT_GOBLIN_TAG, PersistentDataType.BYTE)) {
+            !PdcKeys.LOOT_GOBLIN.has(event.getEntity().getPersistentDataContainer())) {
             return;
         }
         LivingEntity livingEntity = (LivingEntity) event.getEntity();
@@ -221,10 +226,10 @@ public class LootGoblinEvent extends BaseEvent implements Listener {
         event.setCancelled(true);
 
         // If already crying, ignore additional hits
-        if (PersistentDataHelper.has(livingEntity.getPersistentDataContainer(), plugin, CRYING_TAG, PersistentDataType.BYTE)) return;
+        if (PdcKeys.CRYING.has(livingEntity.getPersistentDataContainer())) return;
 
         // Mark as crying
-        PersistentDataHelper.set(livingEntity.getPersistentDataContainer(), plugin, CRYING_TAG, PersistentDataType.BYTE, (byte)1);
+        PdcKeys.CRYING.set(livingEntity.getPersistentDataContainer(), (byte) 1);
 
         // Drop the item if carrying one
         ItemStack stolenItem = livingEntity.getEquipment().getItemInMainHand();
@@ -240,8 +245,14 @@ public class LootGoblinEvent extends BaseEvent implements Listener {
         Location particleLoc = loc.clone().add(0, 1.5, 0);
         world.spawnParticle(Particle.CLOUD, particleLoc.getX(), particleLoc.getY(), particleLoc.getZ(), 20, 0.2, 0.2, 0.2, 0);
 
-        // Schedule disappearance after crying
-        new BukkitRunnable() {
+        // Schedule disappearance after crying, on the goblin's session so it stops when the session ends
+        GoblinTask goblinTask = activeGoblins.get(livingEntity.getUniqueId());
+        EventSession session = goblinTask != null ? plugin.getSessionRegistry().getSession(goblinTask.sessionId) : null;
+        if (session == null) {
+            cleanupGoblin(livingEntity.getUniqueId(), true);
+            return;
+        }
+        new SessionTask() {
             int ticks = 0;
             @Override
             public void run() {
@@ -267,12 +278,12 @@ public class LootGoblinEvent extends BaseEvent implements Listener {
                     this.cancel();
                 }
             }
-        }.runTaskTimer(plugin, 0L, 1L);
+        }.runTimer(session.getScheduler(), 1L, 1L);
     }
 
     @EventHandler
     public void onGoblinTargetPlayer(EntityTargetLivingEntityEvent event) {
-        if (PersistentDataHelper.has(event.getEntity().getPersistentDataContainer(), plugin, LOOT_GOBLIN_TAG, PersistentDataType.BYTE)) {
+        if (PdcKeys.LOOT_GOBLIN.has(event.getEntity().getPersistentDataContainer())) {
             if (event.getTarget() instanceof Player) {
                 // Prevent the Loot Goblin from targeting players
                 event.setCancelled(true);
@@ -286,7 +297,7 @@ public class LootGoblinEvent extends BaseEvent implements Listener {
             task.cancel();
             PigZombie goblinEntity = task.goblin;
             if (goblinEntity != null && goblinEntity.isValid()) {
-                if (withEscapeEffect && !PersistentDataHelper.has(goblinEntity.getPersistentDataContainer(), plugin, CRYING_TAG, PersistentDataType.BYTE)) {
+                if (withEscapeEffect && !PdcKeys.CRYING.has(goblinEntity.getPersistentDataContainer())) {
                     SoundHelper.playWorldSoundSafely(goblinEntity.getWorld(), "entity.fox.teleport", goblinEntity.getLocation(), 1.0f, 1.0f);
                     Location escapeParticleLoc = goblinEntity.getLocation().add(0, 1, 0);
                     goblinEntity.getWorld().spawnParticle(Particle.CLOUD, escapeParticleLoc.getX(), escapeParticleLoc.getY(), escapeParticleLoc.getZ(), 20, 0.3, 0.3, 0.3, 0.05);
@@ -299,10 +310,11 @@ public class LootGoblinEvent extends BaseEvent implements Listener {
         }
     }
 
-    private class GoblinTask extends BukkitRunnable {
+    private class GoblinTask extends SessionTask {
         final PigZombie goblin;
         final Player initialPlayerTarget;
         final UUID sessionId;
+        private final Random random;
         Block targetChest = null;
         boolean hasReachedChest = false;
         boolean isFleeing = false;
@@ -315,6 +327,7 @@ public class LootGoblinEvent extends BaseEvent implements Listener {
             this.goblin = goblin;
             this.initialPlayerTarget = player;
             this.sessionId = sessionId;
+            this.random = plugin.getSessionRegistry().getRandom(sessionId, "goblin");
         }
 
         @Override
@@ -492,22 +505,7 @@ public class LootGoblinEvent extends BaseEvent implements Listener {
         }
 
         private Block findNearbyChest(Location center, double radius) {
-            World world = center.getWorld();
-            if (world == null) return null;
-            List<Block> chests = new ArrayList<>();
-            int R = (int) radius;
-            for (int x = -R; x <= R; x++) {
-                for (int y = -R; y <= R; y++) {
-                    for (int z = -R; z <= R; z++) {
-                        Block block = world.getBlockAt(center.getBlockX() + x, center.getBlockY() + y, center.getBlockZ() + z);
-                        if (block.getType() == Material.CHEST || block.getType() == Material.TRAPPED_CHEST) {
-                            if (block.getLocation().distanceSquared(center) <= radius * radius) {
-                                chests.add(block);
-                            }
-                        }
-                    }
-                }
-            }
+            List<Block> chests = plugin.getChestIndex().findChests(center, radius);
             return chests.isEmpty() ? null : chests.get(random.nextInt(chests.size()));
         }
     }
@@ -540,4 +538,13 @@ public class LootGoblinEvent extends BaseEvent implements Listener {
         return name.endsWith("_HELMET") || name.endsWith("_CHESTPLATE") ||
                name.endsWith("_LEGGINGS") || name.endsWith("_BOOTS");
     }
+
+    /**
+     * Typed view of the LootGoblinEvent config section
+     */
+    private record Settings(double speed) {
+        static Settings read(EventConfigReader config) {
+            return new Settings(config.getDouble("speed", 1.0));
+        }
+    }
 }
@@ -2,16 +2,20 @@ package nc.randomEvents.events.Meteor;
 
 import nc.randomEvents.RandomEvents;
 import nc.randomEvents.core.BaseEvent;
+import nc.randomEvents.core.EventSession;
+import nc.randomEvents.services.ConfigView;
+import nc.randomEvents.services.EventConfigReader;
 import nc.randomEvents.services.SessionRegistry;
 import nc.randomEvents.services.RewardGenerator;
 import nc.randomEvents.services.RewardGenerator.Tier;
 import nc.randomEvents.services.RewardGenerator.TierQuantity;
 import nc.randomEvents.services.participants.EntityManager;
 import nc.randomEvents.services.participants.ProjectileManager;
+import nc.randomEvents.services.scheduling.SessionTask;
 import nc.randomEvents.utils.LocationHelper;
 import nc.randomEvents.utils.MetadataHelper;
 import nc.randomEvents.utils.SoundHelper;
-import nc.randomEvents.utils.PersistentDataHelper;
+import nc.randomEvents.utils.PdcKeys;
 import nc.randomEvents.utils.EntityHelper;
 
 import org.bukkit.Location;
@@ -24,11 +28,9 @@ import org.bukkit.event.entity.ProjectileHitEvent;
 import org.bukkit.event.entity.SlimeSplitEvent;
 import org.bukkit.inventory.ItemStack;
 import org.bukkit.util.Vector;
-import org.bukkit.persistence.PersistentDataType;
 import net.kyori.adventure.text.Component;
 import net.kyori.adventure.text.format.NamedTextColor;
 import net.kyori.adventure.text.format.TextDecoration;
-import org.bukkit.scheduler.BukkitRunnable;
 
 import java.util.*;
 
@@ -37,10 +39,8 @@ public class MeteorEvent extends BaseEvent implements Listener {
     private final RewardGenerator rewardGenerator;
     private final ProjectileManager projectileManager;
     private final SessionRegistry sessionRegistry;
-    private final Random random = new Random();
+    private final ConfigView<Settings> settings;
     private static final String METEOR_METADATA_KEY = "meteor_event_fireball";
-    private static final String METEOR_SESSION_KEY = "meteor_session";
-    private static final String ENTITY_KEY = "entity";
     private static final int GROUP_RADIUS = 100; // Radius for grouping players
     private final Map<UUID, Set<Set<Player>>> sessionGroups = new HashMap<>();
     private final Map<UUID, Integer> totalMeteorsSpawned = new HashMap<>();
@@ -53,7 +53,9 @@ public class MeteorEvent extends BaseEvent implements Listener {
         this.rewardGenerator = plugin.getRewardGenerator();
         this.projectileManager = plugin.getProjectileManager();
         this.sessionRegistry = plugin.getSessionRegistry();
+        this.settings = plugin.getConfigManager().registerView(getName(), Settings::read);
         setTickInterval(10L);
+        setMaxTickInterval(40L); // Spawn in bigger, rarer batches when the server is struggling
         setDuration(0);
         setClearEntitiesAtEnd(false);
         setClearProjectilesAtEnd(true);
@@ -89,13 +91,13 @@ public class MeteorEvent extends BaseEvent implements Listener {
     }
 
     @Override
-    public void onTick(UUID sessionId, Set<Player> players) {
+    public void onTick(UUID sessionId, Set<Player> players, long elapsedTicks) {
         Set<Set<Player>> groups = sessionGroups.get(sessionId);
         if (groups == null) return;
 
         // Get total meteors that should be spawned for this session
         int totalPlayers = players.size();
-        int meteorsPerPlayer = plugin.getConfigManager().getIntValue(getName(), "amountPerPlayer");
+        int meteorsPerPlayer = settings.get().amountPerPlayer();
         meteorsPerPlayer = Math.max(0, Math.min(10000, meteorsPerPlayer));
         int totalMeteorsForSession = totalPlayers * meteorsPerPlayer;
 
@@ -105,12 +107,16 @@ public class MeteorEvent extends BaseEvent implements Listener {
             return;
         }
 
+        Random random = sessionRegistry.getRandom(sessionId, "spawns");
+
         for (Set<Player> group : groups) {
             Location groupMidpoint = LocationHelper.findMidpoint(group);
             if (groupMidpoint == null) continue;
 
-            // Calculate how many meteors to spawn this tick
-            int meteorsThisTick = Math.max(1, (meteorsPerPlayer * group.size()) / 20);
+            // Calculate how many meteors to spawn per regular tick, then scale by the ticks that actually passed.
+            // The minimum of one applies before scaling, so a stretched interval keeps the same rate.
+            int meteorsPerTick = Math.max(1, (meteorsPerPlayer * group.size()) / 20);
+            int meteorsThisTick = (int) Math.min(Integer.MAX_VALUE, meteorsPerTick * elapsedTicks / getTickInterval());
             
             // Adjust meteorsThisTick to not exceed the total remaining
             int remainingMeteors = totalMeteorsForSession - spawned;
@@ -139,15 +145,19 @@ public class MeteorEvent extends BaseEvent implements Listener {
             plugin.getLogger().warning("Attempted to spawn meteor mob with null sessionId");
             return;
         }
+        // Mob tasks run on the session's scheduler, so they stop when the session ends
+        EventSession session = sessionRegistry.getSession(sessionId);
+        if (session == null) return;
+        Random random = sessionRegistry.getRandom(sessionId, "spawns");
 
         // Check if we've reached the spawn limit
-        int maxEnemySpawns = plugin.getConfigManager().getIntValue(getName(), "maxEnemySpawns");
+        int maxEnemySpawns = settings.get().maxEnemySpawns();
         maxEnemySpawns = Math.max(0, maxEnemySpawns);
         if (spawnedEnemyCount >= maxEnemySpawns) {
             return; // Skip enemy spawn chance roll entirely
         }
 
-        double enemySpawnChance = plugin.getConfigManager().getDoubleValue(getName(), "enemySpawnChance");
+        double enemySpawnChance = settings.get().enemySpawnChance();
         enemySpawnChance = Math.max(0.0, Math.min(1.0, enemySpawnChance));
         
         EntityManager entityManager = plugin.getEntityManager();
@@ -168,7 +178,7 @@ public class MeteorEvent extends BaseEvent implements Listener {
                 }
                 
                 // Start the turret shooting task
-                new BukkitRunnable() {
+                new SessionTask() {
                     @Override
                     public void run() {
                         if (!blaze.isValid() || blaze.isDead()) {
@@ -195,7 +205,7 @@ public class MeteorEvent extends BaseEvent implements Listener {
                             SoundHelper.playWorldSoundSafely(blazeLoc.getWorld(), "entity.blaze.shoot", blazeLoc, 1.0f, 1.0f);
                         }
                     }
-                }.runTaskTimer(plugin, 20L, 30L); // Shoot every second (20 ticks)
+                }.runTimer(session.getScheduler(), 20L, 30L); // Shoot every second (20 ticks)
             }
         } else if (random.nextDouble() < enemySpawnChance) {
             entity = (MagmaCube)entityManager.spawnTracked(EntityType.MAGMA_CUBE, location, "meteor_magma", sessionId);
@@ -213,7 +223,7 @@ public class MeteorEvent extends BaseEvent implements Listener {
                 }
                 
                 // Start the jumping attack task
-                new BukkitRunnable() {
+                new SessionTask() {
                     @Override
                     public void run() {
                         if (!magma.isValid() || magma.isDead()) {
@@ -238,7 +248,7 @@ public class MeteorEvent extends BaseEvent implements Listener {
                             }
                         }
                     }
-                }.runTaskTimer(plugin, 40L, 40L); // Check for jump every 2 seconds
+                }.runTimer(session.getScheduler(), 40L, 40L); // Check for jump every 2 seconds
             }
         }
     }
@@ -248,11 +258,12 @@ public class MeteorEvent extends BaseEvent implements Listener {
             plugin.getLogger().warning("Attempted to spawn meteor with null sessionId");
             return;
         }
+        Random random = sessionRegistry.getRandom(sessionId, "spawns");
 
         World world = targetLoc.getWorld();
         if (world == null) return;
         
-        int radius = plugin.getConfigManager().getIntValue(getName(), "radius");
+        int radius = settings.get().radius();
         radius = Math.max(1, Math.min(1000, radius));
         double offsetX = (random.nextDouble() - 0.5) * radius;
         double offsetZ = (random.nextDouble() - 0.5) * radius;
@@ -278,8 +289,7 @@ public class MeteorEvent extends BaseEvent implements Listener {
             
             // Store both the meteor flag and the session ID
             MetadataHelper.setMetadata(fireball, METEOR_METADATA_KEY, true, plugin);
-            PersistentDataHelper.set(fireball.getPersistentDataContainer(), plugin, METEOR_SESSION_KEY, 
-                                    PersistentDataType.STRING, sessionId.toString());
+            PdcKeys.METEOR_SESSION.set(fireball.getPersistentDataContainer(), sessionId);
             
             // Increment total meteors spawned
             totalMeteorsSpawned.merge(sessionId, 1, Integer::sum);
@@ -298,24 +308,15 @@ public class MeteorEvent extends BaseEvent implements Listener {
         }
 
         // Get the session ID from the meteor
-        String sessionIdStr = PersistentDataHelper.get(fireball.getPersistentDataContainer(), 
-                                                     plugin, METEOR_SESSION_KEY, PersistentDataType.STRING);
-        if (sessionIdStr == null) {
-            plugin.getLogger().warning("Meteor hit but had no session ID!");
-            return;
-        }
-
-        UUID sessionId;
-        try {
-            sessionId = UUID.fromString(sessionIdStr);
-        } catch (IllegalArgumentException e) {
-            plugin.getLogger().warning("Invalid session ID on meteor: " + sessionIdStr);
+        UUID sessionId = PdcKeys.METEOR_SESSION.get(fireball.getPersistentDataContainer());
+        if (sessionId == null) {
+            plugin.getLogger().warning("Meteor hit but had no valid session ID!");
             return;
         }
 
         // Remove metadata
         MetadataHelper.removeMetadata(fireball, METEOR_METADATA_KEY, plugin);
-        PersistentDataHelper.remove(fireball.getPersistentDataContainer(), plugin, METEOR_SESSION_KEY);
+        PdcKeys.METEOR_SESSION.remove(fireball.getPersistentDataContainer());
 
         // Increment meteors hit
         meteorsHit.merge(sessionId, 1, Integer::sum);
@@ -345,15 +346,17 @@ public class MeteorEvent extends BaseEvent implements Listener {
             }
 
             // Handle loot drops
-            double lootChance = plugin.getConfigManager().getDoubleValue(getName(), "lootChance");
+            double lootChance = settings.get().lootChance();
             lootChance = Math.max(0.0, Math.min(1.0, lootChance));
+            Random random = sessionRegistry.getRandom(sessionId, "rewards");
             
             if (random.nextDouble() < lootChance) {
                 List<ItemStack> rewards = rewardGenerator.generateRewards(
                     new TierQuantity()
                         .add(Tier.COMMON, random.nextInt(2) + 1)
                         .add(Tier.BASIC, random.nextInt(2) + 1)
-                        .build()
+                        .build(),
+                    random
                 );
                 
                 if (!rewards.isEmpty()) {
@@ -376,9 +379,23 @@ public class MeteorEvent extends BaseEvent implements Listener {
     public void onSlimeSplit(SlimeSplitEvent event) {
         // Check if it's one of our tracked magma cubes
         if (event.getEntity() instanceof MagmaCube && 
-            PersistentDataHelper.has(event.getEntity().getPersistentDataContainer(), plugin, ENTITY_KEY, PersistentDataType.BYTE)) {
+            PdcKeys.ENTITY.has(event.getEntity().getPersistentDataContainer())) {
             // Prevent splitting
             event.setCancelled(true);
         }
     }
+
+    /**
+     * Typed view of the MeteorEvent config section
+     */
+    private record Settings(int radius, int amountPerPlayer, double lootChance, double enemySpawnChance, int maxEnemySpawns) {
+        static Settings read(EventConfigReader config) {
+            return new Settings(
+                config.getInt("radius", 40),
+                config.getInt("amountPerPlayer", 5),
+                config.getDouble("lootChance", 0.4),
+                config.getDouble("enemySpawnChance", 0.5),
+                config.getInt("maxEnemySpawns", 6));
+        }
+    }
 }
@@ -13,13 +13,16 @@ import net.kyori.adventure.text.format.NamedTextColor;
 import org.bukkit.*;
 import org.bukkit.Particle;
 import org.bukkit.block.Block;
+import org.bukkit.block.BlockState;
 import org.bukkit.block.Container;
+import org.bukkit.entity.Item;
 import org.bukkit.entity.Player;
 import org.bukkit.event.EventHandler;
 import org.bukkit.event.HandlerList;
 import org.bukkit.event.Listener;
 import org.bukkit.event.block.Action;
 import org.bukkit.event.player.PlayerInteractEvent;
+import org.bukkit.inventory.Inventory;
 import org.bukkit.inventory.ItemStack;
 import org.bukkit.inventory.meta.BookMeta;
 import org.bukkit.util.Vector;
@@ -33,17 +36,16 @@ public class QuestEvent extends BaseEvent implements Listener {
     private static final int SINGLE_PLAYER_DISTANCE = 800; // Distance for single player
     private static final int MIN_GROUP_OFFSET = 600; // Minimum offset for group midpoint
     private static final int MAX_GROUP_OFFSET = 1000; // Maximum offset for group midpoint
+    private static final int CLEANUP_RADIUS = 50; // Radius around players and the chest cleaned of quest scrolls
 
     private final RandomEvents plugin;
     private final Set<QuestSession> activeSessions;
-    private final Random random;
     private final EquipmentManager equipmentManager;
     private final ContainerManager containerManager;
 
     public QuestEvent(RandomEvents plugin) {
         this.plugin = plugin;
         this.activeSessions = new HashSet<>();
-        this.random = new Random();
         this.equipmentManager = plugin.getEquipmentManager();
         this.containerManager = plugin.getContainerManager();
         
@@ -82,13 +84,14 @@ public class QuestEvent extends BaseEvent implements Listener {
         Set<Set<Player>> playerGroups = LocationHelper.groupPlayers(overworldPlayers, GROUP_RADIUS);
         
         // Create a session for each valid group
+        Random random = plugin.getSessionRegistry().getRandom(sessionId, "locations");
         for (Set<Player> group : playerGroups) {
             Location targetLocation = null;
             
             // Single player case
             if (group.size() == 1) {
                 Player player = group.iterator().next();
-                targetLocation = LocationHelper.getPointAwayFrom(player.getLocation(), SINGLE_PLAYER_DISTANCE);
+                targetLocation = LocationHelper.getPointAwayFrom(player.getLocation(), SINGLE_PLAYER_DISTANCE, random);
             } else {
                 // Find the farthest pair of players
                 Player player1 = null;
@@ -124,15 +127,15 @@ public class QuestEvent extends BaseEvent implements Listener {
                     ).normalize();
                     Vector perpendicular = new Vector(-direction.getZ(), 0, direction.getX());
 
-                    double offset = MIN_GROUP_OFFSET + (Math.random() * (MAX_GROUP_OFFSET - MIN_GROUP_OFFSET));
-                    if (Math.random() < 0.5) perpendicular.multiply(-1);
+                    double offset = MIN_GROUP_OFFSET + (random.nextDouble() * (MAX_GROUP_OFFSET - MIN_GROUP_OFFSET));
+                    if (random.nextDouble() < 0.5) perpendicular.multiply(-1);
 
                     targetLocation = midpoint.add(perpendicular.multiply(offset));
                 }
             }
 
             if (targetLocation != null) {
-                Location chestLocation = findSuitableLocation(targetLocation);
+                Location chestLocation = findSuitableLocation(targetLocation, random);
                 if (chestLocation != null) {
                     // Generate rewards for this session
                     Map<Tier, Integer> tierQuantities = new HashMap<>();
@@ -186,7 +189,7 @@ public class QuestEvent extends BaseEvent implements Listener {
         HandlerList.unregisterAll(this);
     }
 
-    private Location findSuitableLocation(Location targetLocation) {
+    private Location findSuitableLocation(Location targetLocation, Random random) {
         World world = targetLocation.getWorld();
         if (world == null) return null;
 
@@ -356,60 +359,75 @@ public class QuestEvent extends BaseEvent implements Listener {
             if (player != null && player.isOnline()) {
                 // Clean up from player inventory
                 for (ItemStack item : player.getInventory().getContents()) {
-                    if (item != null && item.getType() == Material.WRITTEN_BOOK) {
-                        BookMeta meta = (BookMeta) item.getItemMeta();
-                        if (meta != null && meta.getTitle() != null && 
-                            Component.text("Ancient Scroll", NamedTextColor.GOLD).equals(meta.title())) {
-                            player.getInventory().remove(item);
-                        }
+                    if (isQuestScroll(item)) {
+                        player.getInventory().remove(item);
                     }
                 }
 
                 // Clean up from ground and containers near each player
-                World world = player.getWorld();
-                Location playerLoc = player.getLocation();
-                int radius = 50; // Search within 50 blocks
-
-                // Clean up dropped items
-                world.getEntitiesByClass(org.bukkit.entity.Item.class).stream()
-                    .filter(item -> item.getLocation().distance(playerLoc) <= radius)
-                    .forEach(item -> {
-                        ItemStack droppedItem = item.getItemStack();
-                        if (droppedItem.getType() == Material.WRITTEN_BOOK) {
-                            BookMeta meta = (BookMeta) droppedItem.getItemMeta();
-                            if (meta != null && meta.getTitle() != null &&
-                                Component.text("Ancient Scroll", NamedTextColor.GOLD).equals(meta.title())) {
-                                item.remove();
-                            }
-                        }
-                    });
-
-                // Clean up from nearby containers
-                for (int x = -radius; x <= radius; x++) {
-                    for (int y = -radius; y <= radius; y++) {
-                        for (int z = -radius; z <= radius; z++) {
-                            Location loc = playerLoc.clone().add(x, y, z);
-                            if (loc.distance(playerLoc) <= radius) {
-                                Block block = loc.getBlock();
-                                if (block.getState() instanceof Container) {
-                                    Container container = (Container) block.getState();
-                                    for (ItemStack item : container.getInventory().getContents()) {
-                                        if (item != null && item.getType() == Material.WRITTEN_BOOK) {
-                                            BookMeta meta = (BookMeta) item.getItemMeta();
-                                            if (meta != null && meta.getTitle() != null &&
-                                                Component.text("Ancient Scroll", NamedTextColor.GOLD).equals(meta.title())) {
-                                                container.getInventory().remove(item);
-                                            }
-                                        }
-                                    }
-                                }
-                            }
+                removeQuestScrollsNear(player.getLocation(), CLEANUP_RADIUS);
+            }
+        }
+
+        // Players may have stashed scrolls next to the quest chest itself
+        Location chestLocation = session.getChestLocation();
+        if (chestLocation != null && chestLocation.getWorld() != null) {
+            removeQuestScrollsNear(chestLocation, CLEANUP_RADIUS);
+        }
+    }
+
+    /**
+     * Removes quest scrolls from dropped items and containers within a radius.
+     * Only tile entities of loaded chunks intersecting the radius are visited.
+     * @param center The center of the area
+     * @param radius The radius in blocks
+     */
+    private void removeQuestScrollsNear(Location center, int radius) {
+        World world = center.getWorld();
+        if (world == null) return;
+        double radiusSquared = (double) radius * radius;
+
+        // Clean up dropped items
+        for (Item item : world.getNearbyEntitiesByType(Item.class, center, radius)) {
+            if (item.getLocation().distanceSquared(center) <= radiusSquared && isQuestScroll(item.getItemStack())) {
+                item.remove();
+            }
+        }
+
+        // Clean up from nearby containers
+        int minChunkX = (center.getBlockX() - radius) >> 4;
+        int maxChunkX = (center.getBlockX() + radius) >> 4;
+        int minChunkZ = (center.getBlockZ() - radius) >> 4;
+        int maxChunkZ = (center.getBlockZ() + radius) >> 4;
+        for (int chunkX = minChunkX; chunkX <= maxChunkX; chunkX++) {
+            for (int chunkZ = minChunkZ; chunkZ <= maxChunkZ; chunkZ++) {
+                if (!world.isChunkLoaded(chunkX, chunkZ)) continue;
+                for (BlockState blockState : world.getChunkAt(chunkX, chunkZ).getTileEntities(false)) {
+                    if (!(blockState instanceof Container container)) continue;
+                    double dx = blockState.getX() - center.getX();
+                    double dy = blockState.getY() - center.getY();
+                    double dz = blockState.getZ() - center.getZ();
+                    if (dx * dx + dy * dy + dz * dz > radiusSquared) continue;
+
+                    Inventory inventory = container.getInventory();
+                    ItemStack[] contents = inventory.getContents();
+                    for (int slot = 0; slot < contents.length; slot++) {
+                        if (isQuestScroll(contents[slot])) {
+                            inventory.setItem(slot, null);
                         }
                     }
                 }
             }
         }
     }
+
+    private boolean isQuestScroll(ItemStack item) {
+        if (item == null || item.getType() != Material.WRITTEN_BOOK) return false;
+        BookMeta meta = (BookMeta) item.getItemMeta();
+        return meta != null && meta.getTitle() != null &&
+            Component.text("Ancient Scroll", NamedTextColor.GOLD).equals(meta.title());
+    }
+
     @Override
     public String getName() {
         return "QuestEvent";
@@ -1,41 +1,64 @@
 package nc.randomEvents.events.Sheepocalypse;
 
-import nc.randomEvents.RandomEvents;
-import nc.randomEvents.utils.SoundHelper;
+import nc.randomEvents.core.SessionScope;
+import nc.randomEvents.services.scheduling.SessionScheduler;
+import nc.randomEvents.services.scheduling.SessionTask;
+import nc.randomEvents.utils.SoundCue;
 
 import org.bukkit.DyeColor;
 import org.bukkit.Location;
 import org.bukkit.Particle;
 import org.bukkit.World;
 import org.bukkit.entity.Sheep;
-import org.bukkit.scheduler.BukkitRunnable;
-import org.bukkit.scheduler.BukkitTask;
 import net.kyori.adventure.text.Component;
 import net.kyori.adventure.text.format.NamedTextColor;
 
 import java.util.Random;
+import java.util.UUID;
 
 public class SheepBomb {
-    private final RandomEvents plugin;
+    private final SessionScope scope;
+    private final SessionScheduler scheduler;
     private final Sheep sheep;
-    private BukkitTask colorChangeTask;
-    private BukkitTask moveTask;
+    private SessionTask colorChangeTask;
+    private SessionTask moveTask;
     private int timeLeft;
     private Location fleeDestination = null;
-    private final Random random = new Random();
+    private final Random random;
+
+    // Resolved once, since the countdown and movement tasks play these every few ticks per sheep
+    private static final SoundCue AMBIENT = SoundCue.of("entity.sheep.ambient", 0.8f, 1.0f);
+    private static final SoundCue YELLOW_WARNING = SoundCue.of("block.note_block.pling", 1.0f, 1.0f);
+    private static final SoundCue RED_WARNING = SoundCue.of("block.note_block.pling", 1.0f, 0.5f);
+    private static final SoundCue TICK = SoundCue.of("block.note_block.hat", 1.0f, 0.5f);
+    private static final SoundCue HISS = SoundCue.of("entity.creeper.primed", 1.0f, 1.0f);
+    private static final SoundCue EXPLODE = SoundCue.of("entity.generic.explode", 1.0f, 1.0f);
+    private static final SoundCue SHEAR = SoundCue.of("entity.sheep.shear", 1.0f, 1.0f);
+    private static final SoundCue POOF_AMBIENT = SoundCue.of("entity.sheep.ambient", 0.5f, 1.5f);
+    private static final SoundCue POOF = SoundCue.of("entity.enderman.teleport", 1.0f, 1.0f);
     private final Runnable onExplode;
 
-    public SheepBomb(RandomEvents plugin, Sheep sheep, Runnable onExplode) {
-        this(plugin, sheep, onExplode, 200); // Default to 10 seconds (200 ticks)
+    public SheepBomb(SessionScope scope, Sheep sheep, Runnable onExplode, Random random) {
+        this(scope, sheep, onExplode, 200, random); // Default to 10 seconds (200 ticks)
     }
 
-    public SheepBomb(RandomEvents plugin, Sheep sheep, Runnable onExplode, int timerTicks) {
-        this.plugin = plugin;
+    /**
+     * @param scope The scope of the owning session, which removes the sheep and stops the bomb's tasks when the session ends
+     * @param sheep The sheep to turn into a bomb
+     * @param onExplode Called when the bomb goes off
+     * @param timerTicks Ticks until the bomb explodes
+     * @param random The random stream for noises and movement
+     */
+    public SheepBomb(SessionScope scope, Sheep sheep, Runnable onExplode, int timerTicks, Random random) {
+        this.scope = scope;
+        this.scheduler = scope.getScheduler();
+        this.random = random;
         this.sheep = sheep;
         this.onExplode = onExplode;
         this.timeLeft = timerTicks;
         
         // Initialize sheep
+        scope.trackEntity(sheep);
         sheep.setColor(DyeColor.LIME);
         sheep.setCustomNameVisible(true);
         updateSheepName();
@@ -59,7 +82,7 @@ public class SheepBomb {
     }
 
     private void startMovement() {
-        moveTask = new BukkitRunnable() {
+        moveTask = new SessionTask() {
             @Override
             public void run() {
                 if (sheep == null || sheep.isDead()) {
@@ -68,8 +91,8 @@ public class SheepBomb {
                 }
 
                 // Random sheep noises
-                if (Math.random() < 0.3) { // 30% chance each tick to make noise
-                    SoundHelper.playWorldSoundSafely(sheep.getWorld(), "entity.sheep.ambient", sheep.getLocation(), 0.8f, 1.0f);
+                if (random.nextDouble() < 0.3) { // 30% chance each tick to make noise
+                    AMBIENT.play(sheep.getWorld(), sheep.getLocation());
                 }
 
                 // If we don't have a flee destination or we've reached it, pick a new one
@@ -95,11 +118,11 @@ public class SheepBomb {
                     sheep.getPathfinder().moveTo(fleeDestination);
                 }
             }
-        }.runTaskTimer(plugin, 0L, 10L); // Update movement every half second
+        }.runTimer(scheduler, 1L, 10L); // Update movement every half second
     }
 
     private void startCountdown() {
-        colorChangeTask = new BukkitRunnable() {
+        colorChangeTask = new SessionTask() {
             private DyeColor currentColor = DyeColor.LIME;
             private boolean hasPlayedHiss = false;
             
@@ -124,28 +147,28 @@ public class SheepBomb {
                     if (currentColor != DyeColor.RED) {
                         currentColor = DyeColor.RED;
                         sheep.setColor(DyeColor.RED);
-                        SoundHelper.playWorldSoundSafely(sheep.getWorld(), "block.note_block.pling", sheep.getLocation(), 1.0f, 0.5f);
+                        RED_WARNING.play(sheep.getWorld(), sheep.getLocation());
                     }
                     
                     // Play tick sound every second during red phase
                     if (timeLeft % 20 == 0) {
-                        SoundHelper.playWorldSoundSafely(sheep.getWorld(), "block.note_block.hat", sheep.getLocation(), 1.0f, 0.5f);
+                        TICK.play(sheep.getWorld(), sheep.getLocation());
                     }
                     
                     // Add creeper hiss in final second
                     if (timeLeft == 20 && !hasPlayedHiss) {
                         hasPlayedHiss = true;
-                        SoundHelper.playWorldSoundSafely(sheep.getWorld(), "entity.creeper.primed", sheep.getLocation(), 1.0f, 1.0f);
+                        HISS.play(sheep.getWorld(), sheep.getLocation());
                     }
                 } else if (timeLeft <= 120) { // 3-6 seconds
                     if (currentColor != DyeColor.YELLOW) {
                         currentColor = DyeColor.YELLOW;
                         sheep.setColor(DyeColor.YELLOW);
-                        SoundHelper.playWorldSoundSafely(sheep.getWorld(), "block.note_block.pling", sheep.getLocation(), 1.0f, 1.0f);
+                        YELLOW_WARNING.play(sheep.getWorld(), sheep.getLocation());
                     }
                 }
             }
-        }.runTaskTimer(plugin, 0L, 1L);
+        }.runTimer(scheduler, 1L, 1L);
     }
 
     public void cancelExplosion() {
@@ -162,7 +185,7 @@ public class SheepBomb {
             World world = sheep.getWorld();
             
             // Play explosion sound and particles
-            SoundHelper.playWorldSoundSafely(world, "entity.generic.explode", loc, 1.0f, 1.0f);
+            EXPLODE.play(world, loc);
             world.createExplosion(loc, 0.0f, false, false); // No block damage
             
             // Spawn wind charge and particles
@@ -184,11 +207,11 @@ public class SheepBomb {
             
             // Immediate shear effect and visual
             sheep.setSheared(true);
-            SoundHelper.playWorldSoundSafely(world, "entity.sheep.shear", loc, 1.0f, 1.0f);
+            SHEAR.play(world, loc);
             world.spawnParticle(Particle.CLOUD, loc, 20, 0.2, 0.2, 0.2, 0);
             
             // Schedule poof effect after a short delay
-            new BukkitRunnable() {
+            new SessionTask() {
                 @Override
                 public void run() {
                     if (!sheep.isValid() || sheep.isDead()) {
@@ -196,7 +219,7 @@ public class SheepBomb {
                     }
                     
                     // Start poof sequence
-                    new BukkitRunnable() {
+                    new SessionTask() {
                         int ticks = 0;
                         @Override
                         public void run() {
@@ -210,20 +233,20 @@ public class SheepBomb {
                             
                             if (ticks % 10 == 0) { // Every half second
                                 world.spawnParticle(Particle.CLOUD, currentLoc, 5, 0.2, 0.2, 0.2, 0);
-                                SoundHelper.playWorldSoundSafely(world, "entity.sheep.ambient", currentLoc, 0.5f, 1.5f);
+                                POOF_AMBIENT.play(world, currentLoc);
                             }
 
                             if (ticks >= 20) { // After 1 second
                                 // Final poof
-                                SoundHelper.playWorldSoundSafely(world, "entity.enderman.teleport", currentLoc, 1.0f, 1.0f);
+                                POOF.play(world, currentLoc);
                                 world.spawnParticle(Particle.CLOUD, currentLoc, 30, 0.3, 0.5, 0.3, 0.05);
                                 remove();
                                 this.cancel();
                             }
                         }
-                    }.runTaskTimer(plugin, 0L, 1L);
+                    }.runTimer(scheduler, 1L, 1L);
                 }
-            }.runTaskLater(plugin, 5L); // Start poof effect after 5 ticks (0.25 seconds)
+            }.runLater(scheduler, 5L); // Start poof effect after 5 ticks (0.25 seconds)
         }
     }
 
@@ -234,11 +257,21 @@ public class SheepBomb {
         if (moveTask != null) {
             moveTask.cancel();
         }
-        if (sheep != null && !sheep.isDead()) {
-            sheep.remove();
+        if (sheep != null) {
+            scope.untrackEntity(sheep);
+            if (!sheep.isDead()) {
+                sheep.remove();
+            }
         }
     }
 
+    /**
+     * @return The session the bomb belongs to
+     */
+    public UUID getSessionId() {
+        return scope.getSessionId();
+    }
+
     public boolean isSameSheep(Sheep other) {
         return sheep != null && !sheep.isDead() && sheep.getUniqueId().equals(other.getUniqueId());
     }
@@ -2,6 +2,9 @@ package nc.randomEvents.events.Sheepocalypse;
 
 import nc.randomEvents.RandomEvents;
 import nc.randomEvents.core.BaseEvent;
+import nc.randomEvents.core.EventSession;
+import nc.randomEvents.services.ConfigView;
+import nc.randomEvents.services.EventConfigReader;
 import nc.randomEvents.services.RewardGenerator;
 import nc.randomEvents.services.participants.EntityManager;
 import nc.randomEvents.utils.LocationHelper;
@@ -30,15 +33,16 @@ public class SheepocalypseEvent extends BaseEvent implements Listener {
     private final RandomEvents plugin;
     private final RewardGenerator rewardGenerator;
     private final EntityManager entityManager;
+    private final ConfigView<Settings> settings;
     private final Set<SheepBomb> activeSheep;
     private final Map<UUID, ItemStack> givenShears = new HashMap<>();
     private boolean isSpawningComplete;
     private boolean isEventActive;
     private static final int GROUP_RADIUS = 50; // Radius for grouping players
-    private final Random random = new Random();
 
     public SheepocalypseEvent(RandomEvents plugin) {
         this.plugin = plugin;
+        this.settings = plugin.getConfigManager().registerView(getName(), Settings::read);
         this.rewardGenerator = plugin.getRewardGenerator();
         this.entityManager = plugin.getEntityManager();
         this.activeSheep = new HashSet<>();
@@ -50,7 +54,7 @@ public class SheepocalypseEvent extends BaseEvent implements Listener {
 
         // Configure event settings
         setTickInterval(80L); // Spawn sheep every 4 seconds
-        int durationSeconds = plugin.getConfigManager().getIntValue(getName(), "duration");
+        int durationSeconds = settings.get().duration();
         setDuration(durationSeconds * 20L); // Convert seconds to ticks
         setStripsInventory(false);
         setCanBreakBlocks(true);
@@ -130,9 +134,9 @@ public class SheepocalypseEvent extends BaseEvent implements Listener {
 
             // Try to spawn sheep - one for each player in the group
             for (int i = 0; i < group.size(); i++) {
-                Location spawnLoc = findSafeSpawnLocation(groupMidpoint, spawnRadius);
+                Location spawnLoc = findSafeSpawnLocation(sessionId, groupMidpoint, spawnRadius);
                 if (spawnLoc != null) {
-                    spawnSheep(spawnLoc, group.iterator().next().getUniqueId()); // Use first player in group as owner
+                    spawnSheep(sessionId, spawnLoc, group.iterator().next().getUniqueId()); // Use first player in group as owner
                 }
             }
         }
@@ -152,7 +156,7 @@ public class SheepocalypseEvent extends BaseEvent implements Listener {
         for (Player player : players) {
             if (player.isOnline()) {
                 removeShears(player);
-                giveEndRewards(player);
+                giveEndRewards(player, sessionId);
             }
         }
         givenShears.clear();
@@ -162,10 +166,11 @@ public class SheepocalypseEvent extends BaseEvent implements Listener {
         plugin.getServer().getPluginManager().registerEvents(this, plugin);
     }
 
-    private Location findSafeSpawnLocation(Location center, double radius) {
+    private Location findSafeSpawnLocation(UUID sessionId, Location center, double radius) {
         World world = center.getWorld();
         if (world == null) return null;
 
+        Random random = random(sessionId, "spawns");
         for (int attempts = 0; attempts < 15; attempts++) { // Increased attempts
             // Get random angle and distance within radius
             double angle = random.nextDouble() * 2 * Math.PI;
@@ -216,9 +221,11 @@ public class SheepocalypseEvent extends BaseEvent implements Listener {
         return true;
     }
 
-    private void spawnSheep(Location spawnLoc, UUID ownerUUID) {
+    private void spawnSheep(UUID sessionId, Location spawnLoc, UUID ownerUUID) {
         World world = spawnLoc.getWorld();
         if (world == null) return;
+        EventSession session = plugin.getSessionRegistry().getSession(sessionId);
+        if (session == null) return;
 
         // Use EntityManager to spawn and track the sheep
         Sheep sheep = (Sheep)entityManager.spawnTracked(org.bukkit.entity.EntityType.SHEEP, spawnLoc, "explosive_sheep", ownerUUID);
@@ -230,9 +237,9 @@ public class SheepocalypseEvent extends BaseEvent implements Listener {
         SoundHelper.playWorldSoundSafely(world, "block.note.pling", spawnLoc, 1.0f, 2.0f);
 
         // Create sheep bomb with configurable timer
-        int bombTimerSeconds = plugin.getConfigManager().getIntValue(getName(), "bombTimer");
+        int bombTimerSeconds = settings.get().bombTimer();
         final SheepBomb[] sheepBombRef = new SheepBomb[1];
-        sheepBombRef[0] = new SheepBomb(plugin, sheep, () -> activeSheep.remove(sheepBombRef[0]), bombTimerSeconds * 20);
+        sheepBombRef[0] = new SheepBomb(session.getScope(), sheep, () -> activeSheep.remove(sheepBombRef[0]), bombTimerSeconds * 20, random(sessionId, "sheep"));
         activeSheep.add(sheepBombRef[0]);
     }
 
@@ -275,15 +282,16 @@ public class SheepocalypseEvent extends BaseEvent implements Listener {
             
             // Drop rewards on ground
             // 30% chance for COMMON reward, 5% chance for RARE
+            Random random = random(sheepBomb.getSessionId(), "rewards");
             RewardGenerator.Tier tier = RewardGenerator.Tier.BASIC;
-            double rand = Math.random();
+            double rand = random.nextDouble();
             if (rand < 0.05) {
                 tier = RewardGenerator.Tier.RARE;
             } else if (rand < 0.35) {
                 tier = RewardGenerator.Tier.COMMON;
             }
             
-            List<ItemStack> rewards = rewardGenerator.generateRewards(tier, 1);
+            List<ItemStack> rewards = rewardGenerator.generateRewards(tier, 1, random);
             for (ItemStack reward : rewards) {
                 player.getWorld().dropItemNaturally(sheep.getLocation(), reward);
             }
@@ -319,19 +327,38 @@ public class SheepocalypseEvent extends BaseEvent implements Listener {
         event.setDroppedExp(0);
     }
 
-    private void giveEndRewards(Player player) {
+    private void giveEndRewards(Player player, UUID sessionId) {
         // 50% chance for COMMON, 20% chance for RARE
+        Random random = random(sessionId, "rewards");
         RewardGenerator.Tier tier = RewardGenerator.Tier.BASIC;
-        double rand = Math.random();
+        double rand = random.nextDouble();
         if (rand < 0.20) {
             tier = RewardGenerator.Tier.RARE;
         } else if (rand < 0.70) {
             tier = RewardGenerator.Tier.COMMON;
         }
         
-        List<ItemStack> rewards = rewardGenerator.generateRewards(tier, 2); // Give 2 items for completing
+        List<ItemStack> rewards = rewardGenerator.generateRewards(tier, 2, random); // Give 2 items for completing
         for (ItemStack reward : rewards) {
             player.getWorld().dropItemNaturally(player.getLocation(), reward);
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * @param sessionId The session the randomness is for
+     * @param stream The subsystem the stream is for
+     * @return The session's seeded stream
+     */
+    private Random random(UUID sessionId, String stream) {
+        return plugin.getSessionRegistry().getRandom(sessionId, stream);
+    }
+
+    /**
+     * Typed view of the Sheepocalypse config section
+     */
+    private record Settings(int duration, int bombTimer) {
+        static Settings read(EventConfigReader config) {
+            return new Settings(config.getInt("duration", 45), config.getInt("bombTimer", 10));
+        }
+    }
+}
@@ -2,8 +2,12 @@ package nc.randomEvents.events.ZombieHorde;
 
 import nc.randomEvents.RandomEvents;
 import nc.randomEvents.core.BaseEvent;
+import nc.randomEvents.core.EventSession;
+import nc.randomEvents.services.ConfigView;
+import nc.randomEvents.services.EventConfigReader;
 import nc.randomEvents.services.RewardGenerator;
 import nc.randomEvents.services.participants.EntityManager;
+import nc.randomEvents.services.scheduling.SessionTask;
 import nc.randomEvents.utils.EntityHelper;
 import nc.randomEvents.utils.ItemHelper;
 
@@ -15,7 +19,6 @@ import org.bukkit.entity.Player;
 import org.bukkit.entity.Zombie;
 import org.bukkit.inventory.ItemStack;
 import org.bukkit.inventory.EntityEquipment;
-import org.bukkit.scheduler.BukkitRunnable;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -30,19 +33,22 @@ public class ZombieHordeEvent extends BaseEvent {
     private final RandomEvents plugin;
     private final RewardGenerator rewardGenerator;
     private final EntityManager entityManager;
-    private final Random random = new Random();
+    private final ConfigView<Settings> settings;
     private final ConcurrentHashMap<UUID, List<Zombie>> activeZombies = new ConcurrentHashMap<>(); // Player UUID to their wave zombies
     private final ConcurrentHashMap<UUID, Integer> playerWaves = new ConcurrentHashMap<>(); // Track current wave per player
+    private final ConcurrentHashMap<UUID, SessionTask> waveMonitors = new ConcurrentHashMap<>(); // One disconnect/death check per player
     private final int SPAWN_MIN_DISTANCE = 15;
     private final int SPAWN_MAX_DISTANCE = 25;
 
     public ZombieHordeEvent(RandomEvents plugin) {
         this.plugin = plugin;
+        this.settings = plugin.getConfigManager().registerView(getName(), Settings::read);
         this.rewardGenerator = plugin.getRewardGenerator();
         this.entityManager = plugin.getEntityManager();
         
         // Configure event settings
         setTickInterval(20L); // Check wave status every second
+        setMaxTickInterval(60L); // Only polls wave status, so it can check less often under load
         setDuration(12000L); // No fixed duration, ends when waves are complete
         setStripsInventory(false);
         setCanBreakBlocks(true);
@@ -67,7 +73,7 @@ public class ZombieHordeEvent extends BaseEvent {
         for (Player player : players) {
             if (player.isOnline() && !player.isDead()) {
                 playerWaves.put(player.getUniqueId(), 1); // Start at wave 1
-                startWave(player, 1);
+                startWave(player, 1, sessionId);
             }
         }
     }
@@ -89,16 +95,17 @@ public class ZombieHordeEvent extends BaseEvent {
                 waveZombies.removeIf(zombie -> zombie == null || zombie.isDead());
 
                 if (waveZombies.isEmpty()) {
+                    cancelWaveMonitor(player.getUniqueId());
                     int currentWave = playerWaves.getOrDefault(player.getUniqueId(), 1);
                     
                     // Current wave cleared
-                    giveWaveRewards(player, currentWave);
-                    int totalWaves = plugin.getConfigManager().getIntValue(getName(), "waves");
+                    giveWaveRewards(player, currentWave, sessionId);
+                    int totalWaves = settings.get().waves();
                     
                     if (currentWave < totalWaves) {
                         int nextWave = currentWave + 1;
                         playerWaves.put(player.getUniqueId(), nextWave);
-                        startWave(player, nextWave);
+                        startWave(player, nextWave, sessionId);
                         allPlayersFinished = false;  // This player still has waves to complete
                     } else {
                         // All waves cleared for this player
@@ -128,17 +135,21 @@ public class ZombieHordeEvent extends BaseEvent {
         playerWaves.clear();
     }
 
-    private void startWave(Player player, int waveNumber) {
+    private void startWave(Player player, int waveNumber, UUID sessionId) {
         List<Zombie> waveZombies = new ArrayList<>();
         activeZombies.put(player.getUniqueId(), waveZombies);
 
-        int zombiesPerWave = plugin.getConfigManager().getIntValue(getName(), "zombiesPerWave");
+        Random random = plugin.getSessionRegistry().getRandom(sessionId, "spawns");
+        int zombiesPerWave = settings.get().zombiesPerWave();
         for (int i = 0; i < zombiesPerWave; i++) {
-            spawnZombieNearPlayer(player, waveZombies, waveNumber);
+            spawnZombieNearPlayer(player, waveZombies, waveNumber, random);
         }
 
-        // Monitor this wave only for player disconnect/death
-        new BukkitRunnable() {
+        // Monitor this wave only for player disconnect/death, replacing the previous wave's monitor
+        cancelWaveMonitor(player.getUniqueId());
+        EventSession session = plugin.getSessionRegistry().getSession(sessionId);
+        if (session == null) return;
+        SessionTask monitor = new SessionTask() {
             @Override
             public void run() {
                 if (!player.isOnline() || player.isDead()) {
@@ -146,10 +157,18 @@ public class ZombieHordeEvent extends BaseEvent {
                     this.cancel();
                 }
             }
-        }.runTaskTimer(plugin, 20L * 5, 20L); // Check every second, after an initial 5-second delay
+        }.runTimer(session.getScheduler(), 20L * 5, 20L); // Check every second, after an initial 5-second delay
+        waveMonitors.put(player.getUniqueId(), monitor);
     }
 
-    private void spawnZombieNearPlayer(Player player, List<Zombie> waveZombies, int waveNumber) {
+    private void cancelWaveMonitor(UUID playerUUID) {
+        SessionTask monitor = waveMonitors.remove(playerUUID);
+        if (monitor != null) {
+            monitor.cancel();
+        }
+    }
+
+    private void spawnZombieNearPlayer(Player player, List<Zombie> waveZombies, int waveNumber, Random random) {
         Location playerLocation = player.getLocation();
         World world = player.getWorld();
         Location spawnLocation = null;
@@ -187,7 +206,7 @@ public class ZombieHordeEvent extends BaseEvent {
         
         // Use EquipmentManager to equip the zombie based on wave number
         if (random.nextDouble() < 0.5) { // 50% chance for equipment
-            Map<Integer, ItemStack> equipment = generateZombieEquipment(waveNumber == 1 ? RewardGenerator.Tier.BASIC : RewardGenerator.Tier.COMMON);
+            Map<Integer, ItemStack> equipment = generateZombieEquipment(waveNumber == 1 ? RewardGenerator.Tier.BASIC : RewardGenerator.Tier.COMMON, random);
             EntityEquipment zombieEquipment = zombie.getEquipment();
             if (zombieEquipment != null) {
                 // Set equipment drop chances
@@ -210,7 +229,7 @@ public class ZombieHordeEvent extends BaseEvent {
         zombie.setTarget(player);
     }
 
-    private Map<Integer, ItemStack> generateZombieEquipment(RewardGenerator.Tier tier) {
+    private Map<Integer, ItemStack> generateZombieEquipment(RewardGenerator.Tier tier, Random random) {
         Map<Integer, ItemStack> equipment = new HashMap<>();
         
         // Helmet slot (39)
@@ -269,10 +288,11 @@ public class ZombieHordeEvent extends BaseEvent {
                 !loc.getBlock().isLiquid();
     }
 
-    private void giveWaveRewards(Player player, int waveNumber) {
+    private void giveWaveRewards(Player player, int waveNumber, UUID sessionId) {
         int itemsToGenerate = 1 + waveNumber; // Wave 1: 2 items, Wave 2: 3 items
         RewardGenerator.Tier tier = waveNumber == 1 ? RewardGenerator.Tier.BASIC : RewardGenerator.Tier.COMMON;
-        List<ItemStack> rewards = rewardGenerator.generateRewards(tier, itemsToGenerate);
+        List<ItemStack> rewards = rewardGenerator.generateRewards(tier, itemsToGenerate,
+            plugin.getSessionRegistry().getRandom(sessionId, "rewards"));
         if (!rewards.isEmpty()) {
             player.sendMessage("Wave " + waveNumber + " cleared! You received some loot!");
             for (ItemStack item : rewards) {
@@ -282,6 +302,7 @@ public class ZombieHordeEvent extends BaseEvent {
     }
 
     private void cleanupPlayerZombies(UUID playerUUID) {
+        cancelWaveMonitor(playerUUID);
         List<Zombie> zombies = activeZombies.remove(playerUUID);
         if (zombies != null) {
             for (Zombie zombie : zombies) {
@@ -291,4 +312,13 @@ public class ZombieHordeEvent extends BaseEvent {
             }
         }
     }
+
+    /**
+     * Typed view of the ZombieHordeEvent config section
+     */
+    private record Settings(int waves, int zombiesPerWave) {
+        static Settings read(EventConfigReader config) {
+            return new Settings(config.getInt("waves", 2), config.getInt("zombiesPerWave", 10));
+        }
+    }
 }
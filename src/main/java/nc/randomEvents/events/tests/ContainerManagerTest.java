@@ -7,10 +7,14 @@ import nc.randomEvents.core.LootContainer.ContainerMaterial;
 import nc.randomEvents.core.LootContainer.ContainerType;
 import nc.randomEvents.services.RewardGenerator.Tier;
 import nc.randomEvents.services.participants.ContainerManager;
+import nc.randomEvents.utils.PdcKeys;
 import net.kyori.adventure.text.Component;
 import net.kyori.adventure.text.format.NamedTextColor;
 import org.bukkit.*;
 import org.bukkit.block.Block;
+import org.bukkit.block.Container;
+import org.bukkit.entity.ArmorStand;
+import org.bukkit.entity.Item;
 import org.bukkit.entity.Player;
 import org.bukkit.inventory.ItemStack;
 import org.bukkit.inventory.meta.ItemMeta;
@@ -18,10 +22,27 @@ import org.bukkit.inventory.meta.ItemMeta;
 import java.util.*;
 
 public class ContainerManagerTest extends BaseEvent {
+	private static final int HOLDER_SETUP_TICK = 15; // Late, since the checks force the session's cleanup early
+	private static final int HOLDER_CHECK_TICK = 17; // Two event ticks later, so the far chunk has time to unload
+	private static final int OVERFLOW_HOLDERS = 4097; // One past QuestItemTracker's per-session limit
+	private final RandomEvents plugin;
 	private final ContainerManager containerManager;
 	private final Map<UUID, List<Location>> playerContainers = new HashMap<>();
+	private int tickCount = 0;
+	private HolderCheck holderCheck;
+
+	/**
+	 * Quest item holders that moved or unloaded between being tracked and the session's cleanup
+	 */
+	private static final class HolderCheck {
+		private ArmorStand movedStand; // Teleported chunks away, holding a quest item
+		private Item movedItem;        // Dropped quest item teleported chunks away
+		private Location farChest;     // Chest with a quest item in a chunk asked to unload
+		private boolean farChunkUnloaded;
+	}
 
 	public ContainerManagerTest(RandomEvents plugin) {
+		this.plugin = plugin;
 		this.containerManager = plugin.getContainerManager();
 		setTickInterval(20L); // 1 second
 		setDuration(400L); // 40 seconds
@@ -124,7 +145,131 @@ public class ContainerManagerTest extends BaseEvent {
 	}
 
 	@Override
-	public void onTick(UUID sessionId, Set<Player> players) {}
+	public void onTick(UUID sessionId, Set<Player> players) {
+		tickCount++;
+		if (players.isEmpty()) return;
+		Player player = players.iterator().next();
+
+		if (tickCount == HOLDER_SETUP_TICK) {
+			setupHolderCheck(player, sessionId);
+		} else if (tickCount == HOLDER_CHECK_TICK && holderCheck != null) {
+			runHolderCheck(players, sessionId);
+			runOverflowCheck(player, players, sessionId);
+		}
+	}
+
+	private void setupHolderCheck(Player player, UUID sessionId) {
+		holderCheck = new HolderCheck();
+		Location center = player.getLocation();
+		World world = center.getWorld();
+
+		ItemStack standItem = questItem(Material.GOLDEN_APPLE, sessionId);
+		holderCheck.movedStand = world.spawn(center, ArmorStand.class);
+		holderCheck.movedStand.setGravity(false);
+		holderCheck.movedStand.setInvulnerable(true);
+		holderCheck.movedStand.getEquipment().setItemInMainHand(standItem);
+		containerManager.trackQuestItem(standItem, holderCheck.movedStand);
+		holderCheck.movedStand.teleport(center.clone().add(48, 0, 0));
+
+		ItemStack droppedItem = questItem(Material.NETHERITE_INGOT, sessionId);
+		holderCheck.movedItem = world.dropItem(center, droppedItem);
+		holderCheck.movedItem.setPickupDelay(Integer.MAX_VALUE);
+		containerManager.trackQuestItem(droppedItem, holderCheck.movedItem);
+		holderCheck.movedItem.teleport(center.clone().add(0, 0, 48));
+
+		Location far = center.clone().add(4096, 0, 0);
+		Chunk farChunk = world.getChunkAt(far);
+		far = new Location(world, far.getBlockX(), world.getHighestBlockYAt(far) + 1, far.getBlockZ());
+		Block chest = far.getBlock();
+		chest.setType(Material.CHEST);
+		ItemStack chestItem = questItem(Material.DIAMOND, sessionId);
+		if (chest.getState() instanceof Container container) {
+			container.getInventory().addItem(chestItem);
+		}
+		containerManager.trackQuestItem(chestItem, far);
+		holderCheck.farChest = far;
+		world.unloadChunk(farChunk.getX(), farChunk.getZ());
+
+		player.sendMessage(Component.text("Checking cleanup of moved and unloaded quest item holders...", NamedTextColor.YELLOW));
+	}
+
+	private void runHolderCheck(Set<Player> players, UUID sessionId) {
+		List<String> failures = new ArrayList<>();
+		World world = holderCheck.farChest.getWorld();
+		int chunkX = holderCheck.farChest.getBlockX() >> 4;
+		int chunkZ = holderCheck.farChest.getBlockZ() >> 4;
+		holderCheck.farChunkUnloaded = !world.isChunkLoaded(chunkX, chunkZ);
+
+		containerManager.cleanupSession(sessionId, true);
+
+		if (containerManager.isQuestItem(holderCheck.movedStand.getEquipment().getItemInMainHand(), sessionId)) {
+			failures.add("armor stand moved out of its chunk kept its quest item");
+		}
+		holderCheck.movedStand.remove();
+		if (holderCheck.movedItem.isValid()) {
+			failures.add("dropped quest item moved out of its chunk survived cleanup");
+			holderCheck.movedItem.remove();
+		}
+		if (holderCheck.farChunkUnloaded && world.isChunkLoaded(chunkX, chunkZ)) {
+			failures.add("cleanup loaded the unloaded chunk of a tracked chest");
+		}
+
+		// Take the test chest out again; it is not an event container, so nothing else would
+		holderCheck.farChest.getBlock().setType(Material.AIR);
+
+		String name = getName() + (holderCheck.farChunkUnloaded ? "" : " (far chunk stayed loaded, unload case not covered)");
+		report(name, failures, players);
+		holderCheck = null;
+	}
+
+	private void runOverflowCheck(Player player, Set<Player> players, UUID sessionId) {
+		Location center = player.getLocation();
+		World world = center.getWorld();
+
+		// Never tracked, so only the sweep can find it
+		Item stray = world.dropItem(center, questItem(Material.EMERALD, sessionId));
+		stray.setPickupDelay(Integer.MAX_VALUE);
+
+		// More holders than the tracker keeps, so cleanup has to sweep instead
+		ItemStack marker = questItem(Material.PAPER, sessionId);
+		for (int i = 0; i < OVERFLOW_HOLDERS; i++) {
+			containerManager.trackQuestItem(marker, new Location(world, 100_000 + i, world.getMinHeight(), 100_000));
+		}
+
+		containerManager.cleanupSession(sessionId, true);
+		containerManager.sweepQuestItems(sessionId).whenComplete((removed, error) -> {
+			List<String> failures = new ArrayList<>();
+			if (error != null) {
+				failures.add("sweep failed: " + error);
+			}
+			if (stray.isValid()) {
+				failures.add("untracked quest item survived the overflow sweep");
+				stray.remove();
+			}
+			report(getName() + " overflow sweep", failures, players);
+		});
+	}
+
+	private ItemStack questItem(Material material, UUID sessionId) {
+		ItemStack item = new ItemStack(material);
+		ItemMeta meta = item.getItemMeta();
+		PdcKeys.QUEST_ITEM.set(meta.getPersistentDataContainer(), (byte) 1);
+		PdcKeys.QUEST_ITEM_SESSION.set(meta.getPersistentDataContainer(), sessionId);
+		item.setItemMeta(meta);
+		return item;
+	}
+
+	private void report(String name, List<String> failures, Set<Player> players) {
+		boolean passed = plugin.getTestManager().report(name, failures);
+		for (Player player : players) {
+			if (!player.isOnline()) continue;
+			if (passed) {
+				player.sendMessage(Component.text(name + ": all checks passed", NamedTextColor.GREEN));
+			} else {
+				player.sendMessage(Component.text(name + ": " + failures.size() + " checks failed, see the console", NamedTextColor.RED));
+			}
+		}
+	}
 
 	@Override
 	public void onEnd(UUID sessionId, Set<Player> players) {
@@ -6,27 +6,49 @@ import nc.randomEvents.services.participants.EntityManager;
 import nc.randomEvents.utils.EntityHelper;
 import net.kyori.adventure.text.Component;
 
+import org.bukkit.Chunk;
 import org.bukkit.Location;
 import org.bukkit.Particle;
+import org.bukkit.World;
 import org.bukkit.entity.*;
 import org.bukkit.util.Vector;
 import java.util.*;
 
 public class EntityManagerTest extends BaseEvent {
+    private static final int CLEANUP_WAIT_TICKS = 40;
+    private final RandomEvents plugin;
     private final EntityManager entityManager;
     private final Map<UUID, TestPhase> playerPhases = new HashMap<>();
     private final Map<UUID, List<Entity>> activeEntities = new HashMap<>();
+    private final Map<UUID, CleanupCheck> cleanupChecks = new HashMap<>();
     private int tickCount = 0;
 
+    /**
+     * Entities that left the index's view before a forced cleanup of their own throwaway session
+     */
+    private static final class CleanupCheck {
+        private final UUID sessionId = UUID.randomUUID();
+        private final int startTick;
+        private Entity moved;     // Teleported chunks away from where it was recorded
+        private Entity untracked; // Still tagged, but dropped from the index
+        private Entity unloaded;  // Non-persistent, so it is gone once its chunk unloads
+
+        private CleanupCheck(int startTick) {
+            this.startTick = startTick;
+        }
+    }
+
     private enum TestPhase {
         ORBIT,          // Orbiting zombies demonstration
         RING,           // Entity ring demonstration
         HOVER,          // Hovering entities demonstration
         LAUNCH,         // Entity launching demonstration
+        CLEANUP,        // Cleanup of entities the index lost sight of
         COMPLETE        // Test complete
     }
 
     public EntityManagerTest(RandomEvents plugin) {
+        this.plugin = plugin;
         this.entityManager = plugin.getEntityManager();
         
         // Configure event timing
@@ -116,6 +138,16 @@ public class EntityManagerTest extends BaseEvent {
                     
                     // After all launches complete
                     if (entities != null && entities.isEmpty()) {
+                        setupCleanupCheck(player);
+                        playerPhases.put(playerId, TestPhase.CLEANUP);
+                    }
+                    break;
+
+                case CLEANUP:
+                    // Give the far chunk time to unload before cleaning up
+                    CleanupCheck check = cleanupChecks.get(playerId);
+                    if (check == null || tickCount - check.startTick >= CLEANUP_WAIT_TICKS) {
+                        runCleanupCheck(player);
                         playerPhases.put(playerId, TestPhase.COMPLETE);
                         player.sendMessage(Component.text("EntityManager demonstrations complete!"));
                     }
@@ -135,6 +167,11 @@ public class EntityManagerTest extends BaseEvent {
         });
         playerPhases.clear();
         activeEntities.clear();
+        // Checks cut short by the event ending still must not leave their entities behind
+        for (CleanupCheck check : cleanupChecks.values()) {
+            entityManager.cleanupSession(check.sessionId, true);
+        }
+        cleanupChecks.clear();
     }
     
     private void cleanupEntities(Player player) {
@@ -233,6 +270,64 @@ public class EntityManagerTest extends BaseEvent {
         player.sendMessage(Component.text("Demonstrating entity launching..."));
     }
     
+    private void setupCleanupCheck(Player player) {
+        CleanupCheck check = new CleanupCheck(tickCount);
+        cleanupChecks.put(player.getUniqueId(), check);
+        Location center = player.getLocation();
+
+        check.moved = spawnMarker(center, "moved_stand", check.sessionId);
+        check.moved.teleport(center.clone().add(48, 0, 0)); // Three chunks over, while the index still has the spawn chunk
+
+        check.untracked = spawnMarker(center, "untracked_stand", check.sessionId);
+        entityManager.untrack(check.untracked); // Only the chunk sweep can find it now
+
+        World world = center.getWorld();
+        Location far = center.clone().add(4096, 0, 0);
+        Chunk farChunk = world.getChunkAt(far);
+        far.setY(world.getHighestBlockYAt(far) + 1);
+        check.unloaded = spawnMarker(far, "unloaded_stand", check.sessionId);
+        check.unloaded.setPersistent(false);
+        world.unloadChunk(farChunk.getX(), farChunk.getZ());
+
+        player.sendMessage(Component.text("Checking cleanup of moved, untracked and unloaded entities..."));
+    }
+
+    private Entity spawnMarker(Location location, String entityId, UUID sessionId) {
+        ArmorStand stand = (ArmorStand)entityManager.spawnTracked(EntityType.ARMOR_STAND, location, entityId, sessionId);
+        stand.setGravity(false);
+        stand.setInvulnerable(true);
+        return stand;
+    }
+
+    private void runCleanupCheck(Player player) {
+        CleanupCheck check = cleanupChecks.remove(player.getUniqueId());
+        if (check == null) return;
+        List<String> failures = new ArrayList<>();
+        boolean unloadedFirst = !check.unloaded.isValid();
+
+        entityManager.cleanupSession(check.sessionId, true);
+
+        if (check.moved.isValid()) {
+            failures.add("entity moved out of its recorded chunk survived cleanup");
+            check.moved.remove();
+        }
+        if (check.untracked.isValid()) {
+            failures.add("tagged entity missing from the index survived the chunk sweep");
+            check.untracked.remove();
+        }
+        if (check.unloaded.isValid()) {
+            failures.add("entity in a chunk that stayed loaded survived cleanup");
+            check.unloaded.remove();
+        }
+        if (!entityManager.getSessionEntities(check.sessionId).isEmpty()) {
+            failures.add("session still tracks " + entityManager.getSessionEntities(check.sessionId).size() + " entities after cleanup");
+        }
+
+        String name = getName() + (unloadedFirst ? "" : " (far chunk stayed loaded, unload case not covered)");
+        boolean passed = plugin.getTestManager().report(name, failures);
+        player.sendMessage(Component.text(passed ? "Cleanup checks passed." : failures.size() + " cleanup checks failed, see the console."));
+    }
+
     @Override
     public String getName() {
         return "EntityManagerTest";
@@ -0,0 +1,163 @@
+package nc.randomEvents.events.tests;
+
+import nc.randomEvents.RandomEvents;
+import nc.randomEvents.core.BaseEvent;
+import nc.randomEvents.services.storage.DataChange;
+import nc.randomEvents.services.storage.JournalDataStore;
+import nc.randomEvents.services.storage.RecordReader;
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.format.NamedTextColor;
+import org.bukkit.entity.Player;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+
+public class JournalDataStoreTest extends BaseEvent {
+    private static final String SECTION = "journal-test";
+    private static final String[] FIELDS = { "value" };
+    private final RandomEvents plugin;
+
+    public JournalDataStoreTest(RandomEvents plugin) {
+        this.plugin = plugin;
+        setTickInterval(20L);
+        setDuration(100L); // Checks run at start, the session only stays up to show the result
+        setStripsInventory(false);
+        setCanBreakBlocks(true);
+        setCanPlaceBlocks(true);
+    }
+
+    @Override
+    public String getName() {
+        return "JournalDataStoreTest";
+    }
+
+    @Override
+    public String getDescription() {
+        return "Checks that a failed journal append does not cost the records written after it";
+    }
+
+    @Override
+    public void onStart(UUID sessionId, Set<Player> players) {
+        List<String> failures = new ArrayList<>();
+        Path folder = null;
+        try {
+            folder = Files.createTempDirectory("randomevents-journal-test");
+            checkPartialAppend(folder.toFile(), failures);
+        } catch (IOException e) {
+            failures.add("unexpected " + e);
+        } finally {
+            deleteFolder(folder);
+        }
+
+        boolean passed = plugin.getTestManager().report(getName(), failures);
+        for (Player player : players) {
+            if (passed) {
+                player.sendMessage(Component.text("JournalDataStoreTest: all checks passed", NamedTextColor.GREEN));
+            } else {
+                player.sendMessage(Component.text("JournalDataStoreTest: " + failures.size() + " checks failed, see the console", NamedTextColor.RED));
+            }
+        }
+    }
+
+    /**
+     * Writes a batch, tears the next one halfway like a full disk would, writes another and reopens the journal
+     */
+    private void checkPartialAppend(File folder, List<String> failures) throws IOException {
+        FailingJournal store = new FailingJournal(folder);
+        store.open();
+        try {
+            store.write(List.of(upsert("before", "A")));
+
+            store.failNextAppend = true;
+            try {
+                store.write(List.of(upsert("torn", "B")));
+                failures.add("write with a failing append did not throw");
+            } catch (IOException expected) {
+                // The simulated full disk
+            }
+
+            store.write(List.of(upsert("after", "C")));
+            expect(failures, "live store", store, "before", "A");
+            expect(failures, "live store", store, "after", "C");
+            expect(failures, "live store", store, "torn", null);
+        } finally {
+            store.close();
+        }
+
+        JournalDataStore reopened = new JournalDataStore(folder, plugin.getLogger());
+        reopened.open();
+        try {
+            expect(failures, "after replay", reopened, "before", "A");
+            expect(failures, "after replay", reopened, "after", "C");
+            expect(failures, "after replay", reopened, "torn", null);
+        } finally {
+            reopened.close();
+        }
+    }
+
+    private static DataChange upsert(String id, String value) {
+        return DataChange.upsert(SECTION, id, FIELDS, new Object[] { value });
+    }
+
+    private static void expect(List<String> failures, String stage, JournalDataStore store, String id, String expected) throws IOException {
+        RecordReader record = store.loadRecord(SECTION, id);
+        if (record == null) {
+            if (expected != null) {
+                failures.add(stage + ": record '" + id + "' is missing");
+            }
+            return;
+        }
+        Object[] value = new Object[1];
+        record.forEachField((name, stored) -> value[0] = stored);
+        if (expected == null) {
+            failures.add(stage + ": record '" + id + "' should not exist but holds " + value[0]);
+        } else if (!expected.equals(value[0])) {
+            failures.add(stage + ": record '" + id + "' holds " + value[0] + " instead of " + expected);
+        }
+    }
+
+    private static void deleteFolder(Path folder) {
+        if (folder == null) return;
+        File[] files = folder.toFile().listFiles();
+        if (files != null) {
+            for (File file : files) {
+                file.delete();
+            }
+        }
+        folder.toFile().delete();
+    }
+
+    @Override
+    public void onTick(UUID sessionId, Set<Player> players) {}
+
+    @Override
+    public void onEnd(UUID sessionId, Set<Player> players) {}
+
+    /**
+     * Journal whose next append writes only half the batch and then fails
+     */
+    private final class FailingJournal extends JournalDataStore {
+        private boolean failNextAppend = false;
+
+        private FailingJournal(File folder) {
+            super(folder, plugin.getLogger());
+        }
+
+        @Override
+        protected void append(FileChannel channel, ByteBuffer batch) throws IOException {
+            if (!failNextAppend) {
+                super.append(channel, batch);
+                return;
+            }
+            failNextAppend = false;
+            batch.limit(batch.position() + batch.remaining() / 2);
+            super.append(channel, batch);
+            throw new IOException("Simulated full disk");
+        }
+    }
+}
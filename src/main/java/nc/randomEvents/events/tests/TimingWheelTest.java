@@ -0,0 +1,165 @@
+package nc.randomEvents.events.tests;
+
+import nc.randomEvents.RandomEvents;
+import nc.randomEvents.core.BaseEvent;
+import nc.randomEvents.services.scheduling.SessionScheduler;
+import nc.randomEvents.services.scheduling.SessionTask;
+import nc.randomEvents.services.scheduling.TimingWheel;
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.format.NamedTextColor;
+import org.bukkit.entity.Player;
+
+import java.util.*;
+
+public class TimingWheelTest extends BaseEvent {
+    private final RandomEvents plugin;
+
+    public TimingWheelTest(RandomEvents plugin) {
+        this.plugin = plugin;
+        setTickInterval(20L);
+        setDuration(100L); // Checks run at start on wheels of their own, the session only stays up to show the result
+        setStripsInventory(false);
+        setCanBreakBlocks(true);
+        setCanPlaceBlocks(true);
+    }
+
+    @Override
+    public String getName() {
+        return "TimingWheelTest";
+    }
+
+    @Override
+    public String getDescription() {
+        return "Checks deadlines at level boundaries, cancelling while running and the pending count of the timing wheel";
+    }
+
+    @Override
+    public void onStart(UUID sessionId, Set<Player> players) {
+        List<String> failures = new ArrayList<>();
+
+        // Either side of the level 0/1 and level 1/2 boundaries
+        for (long delay : new long[] { 63, 64, 65, 4095, 4096, 4097 }) {
+            checkRunsAt(failures, 0, delay);
+        }
+        // Tick 330 is in level 1 slot 5; these deadlines land in slot 5 again one wrap ahead, so must wait for it
+        checkRunsAt(failures, 330, 4086);
+        checkRunsAt(failures, 330, 4090);
+        checkRunsAt(failures, 330, 4096);
+
+        checkCancelWhileRunning(failures);
+        checkPendingCount(failures);
+
+        boolean passed = plugin.getTestManager().report(getName(), failures);
+        for (Player player : players) {
+            if (passed) {
+                player.sendMessage(Component.text("TimingWheelTest: all checks passed", NamedTextColor.GREEN));
+            } else {
+                player.sendMessage(Component.text("TimingWheelTest: " + failures.size() + " checks failed, see the console", NamedTextColor.RED));
+            }
+        }
+    }
+
+    /**
+     * Schedules a single task after stepping a fresh wheel to a start tick and checks it runs exactly once, on time
+     */
+    private void checkRunsAt(List<String> failures, long startTick, long delay) {
+        TimingWheel wheel = new TimingWheel(plugin.getLogger());
+        SessionScheduler scheduler = new SessionScheduler(wheel);
+        advanceTo(wheel, startTick);
+
+        List<Long> runs = new ArrayList<>();
+        scheduler.runLater(() -> runs.add(wheel.getCurrentTick()), delay);
+        long expected = startTick + delay;
+        advanceTo(wheel, expected + 64);
+
+        if (!runs.equals(List.of(expected))) {
+            failures.add("delay " + delay + " from tick " + startTick + " ran at " + runs + " instead of [" + expected + "]");
+        }
+        if (wheel.getPendingCount() != 0) {
+            failures.add("delay " + delay + " from tick " + startTick + " left " + wheel.getPendingCount() + " tasks pending");
+        }
+        wheel.shutdown();
+    }
+
+    /**
+     * A task cancels a later task in the same bucket, and a repeating task cancels itself on its second run
+     */
+    private void checkCancelWhileRunning(List<String> failures) {
+        TimingWheel wheel = new TimingWheel(plugin.getLogger());
+        SessionScheduler scheduler = new SessionScheduler(wheel);
+        List<String> ran = new ArrayList<>();
+
+        SessionTask[] victim = new SessionTask[1];
+        scheduler.runLater(() -> {
+            ran.add("canceller@" + wheel.getCurrentTick());
+            victim[0].cancel();
+        }, 5);
+        victim[0] = scheduler.runLater(() -> ran.add("victim@" + wheel.getCurrentTick()), 5);
+
+        new SessionTask() {
+            private int runs = 0;
+
+            @Override
+            public void run() {
+                ran.add("repeating@" + wheel.getCurrentTick());
+                if (++runs == 2) {
+                    cancel();
+                }
+            }
+        }.runTimer(scheduler, 1, 3);
+
+        advanceTo(wheel, 20);
+
+        List<String> expected = List.of("repeating@1", "repeating@4", "canceller@5");
+        if (!ran.equals(expected)) {
+            failures.add("cancel while running: ran " + ran + " instead of " + expected);
+        }
+        if (wheel.getPendingCount() != 0 || scheduler.getTaskCount() != 0) {
+            failures.add("cancel while running: " + wheel.getPendingCount() + " pending, " + scheduler.getTaskCount() + " tracked after all tasks ended");
+        }
+        wheel.shutdown();
+    }
+
+    /**
+     * The pending count drops on cancel and stays level while a repeating task is rescheduled
+     */
+    private void checkPendingCount(List<String> failures) {
+        TimingWheel wheel = new TimingWheel(plugin.getLogger());
+        SessionScheduler scheduler = new SessionScheduler(wheel);
+
+        scheduler.runLater(() -> {}, 10);
+        SessionTask cancelled = scheduler.runLater(() -> {}, 10);
+        scheduler.runLater(() -> {}, 10);
+        cancelled.cancel();
+        expectPending(failures, "after cancelling one of three", wheel, scheduler, 2);
+
+        SessionTask timer = scheduler.runTimer(() -> {}, 1, 5);
+        expectPending(failures, "after adding a timer", wheel, scheduler, 3);
+        wheel.advance();
+        expectPending(failures, "after the timer was rescheduled", wheel, scheduler, 3);
+        timer.cancel();
+        expectPending(failures, "after cancelling the timer", wheel, scheduler, 2);
+
+        advanceTo(wheel, 10);
+        expectPending(failures, "after the rest ran", wheel, scheduler, 0);
+        wheel.shutdown();
+    }
+
+    private static void expectPending(List<String> failures, String stage, TimingWheel wheel, SessionScheduler scheduler, int expected) {
+        if (wheel.getPendingCount() != expected || scheduler.getQueuedCount() != expected) {
+            failures.add("pending " + stage + ": wheel " + wheel.getPendingCount() + ", session " + scheduler.getQueuedCount() + " instead of " + expected);
+        }
+    }
+
+    private static void advanceTo(TimingWheel wheel, long tick) {
+        while (wheel.getCurrentTick() < tick) {
+            wheel.advance();
+        }
+    }
+
+    @Override
+    public void onTick(UUID sessionId, Set<Player> players) {}
+
+    @Override
+    public void onEnd(UUID sessionId, Set<Player> players) {}
+}
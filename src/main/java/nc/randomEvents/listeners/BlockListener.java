@@ -1,7 +1,5 @@
 package nc.randomEvents.listeners;
 
-import java.util.UUID;
-
 import org.bukkit.entity.Player;
 import org.bukkit.event.EventHandler;
 import org.bukkit.event.block.BlockBreakEvent;
@@ -9,6 +7,7 @@ import org.bukkit.event.block.BlockPlaceEvent;
 
 import nc.randomEvents.RandomEvents;
 import nc.randomEvents.core.BaseEvent;
+import nc.randomEvents.core.EventSession;
 import nc.randomEvents.core.ServiceListener;
 import nc.randomEvents.services.SessionRegistry;
 
@@ -21,15 +20,15 @@ public class BlockListener implements ServiceListener {
 
     @Override
     public void registerListener(RandomEvents plugin) {
-        plugin.getServer().getPluginManager().registerEvents(this, plugin);
+        plugin.getTickProfiler().registerEvents(this);
     }
 
     @EventHandler
     public void onBlockBreak(BlockBreakEvent event) {
         Player player = event.getPlayer();
-        UUID sessionId = sessionRegistry.getSessionIdForPlayer(player);
-        if (sessionId != null) {
-            BaseEvent baseEvent = sessionRegistry.getSession(sessionId).getEvent();
+        EventSession session = sessionRegistry.getSessionForPlayer(player);
+        if (session != null) {
+            BaseEvent baseEvent = session.getEvent();
             if (!baseEvent.canBreakBlocks()) {
                 event.setCancelled(true);
             }
@@ -39,9 +38,9 @@ public class BlockListener implements ServiceListener {
     @EventHandler
     public void onBlockPlace(BlockPlaceEvent event) {
         Player player = event.getPlayer();
-        UUID sessionId = sessionRegistry.getSessionIdForPlayer(player);
-        if (sessionId != null) {
-            BaseEvent baseEvent = sessionRegistry.getSession(sessionId).getEvent();
+        EventSession session = sessionRegistry.getSessionForPlayer(player);
+        if (session != null) {
+            BaseEvent baseEvent = session.getEvent();
             if (!baseEvent.canPlaceBlocks()) {
                 event.setCancelled(true);
             }
@@ -0,0 +1,81 @@
+package nc.randomEvents.listeners;
+
+import java.util.List;
+
+import org.bukkit.block.Block;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.block.BlockBreakEvent;
+import org.bukkit.event.block.BlockExplodeEvent;
+import org.bukkit.event.block.BlockPlaceEvent;
+import org.bukkit.event.entity.EntityExplodeEvent;
+import org.bukkit.event.world.ChunkLoadEvent;
+import org.bukkit.event.world.ChunkUnloadEvent;
+import org.bukkit.event.world.WorldUnloadEvent;
+
+import nc.randomEvents.RandomEvents;
+import nc.randomEvents.core.ServiceListener;
+import nc.randomEvents.services.ChestIndex;
+
+public class ChestIndexListener implements ServiceListener {
+    private final ChestIndex chestIndex;
+
+    public ChestIndexListener(ChestIndex chestIndex) {
+        this.chestIndex = chestIndex;
+    }
+
+    @Override
+    public void registerListener(RandomEvents plugin) {
+        plugin.getTickProfiler().registerEvents(this);
+    }
+
+    @EventHandler
+    public void onChunkLoad(ChunkLoadEvent event) {
+        chestIndex.indexChunk(event.getChunk());
+    }
+
+    @EventHandler
+    public void onChunkUnload(ChunkUnloadEvent event) {
+        chestIndex.forgetChunk(event.getChunk());
+    }
+
+    @EventHandler
+    public void onWorldUnload(WorldUnloadEvent event) {
+        chestIndex.forgetWorld(event.getWorld());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onBlockPlace(BlockPlaceEvent event) {
+        Block block = event.getBlockPlaced();
+        if (ChestIndex.isChest(block.getType())) {
+            chestIndex.addChest(block);
+        } else if (ChestIndex.isChest(event.getBlockReplacedState().getType())) {
+            chestIndex.removeChest(block);
+        }
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onBlockBreak(BlockBreakEvent event) {
+        if (ChestIndex.isChest(event.getBlock().getType())) {
+            chestIndex.removeChest(event.getBlock());
+        }
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onEntityExplode(EntityExplodeEvent event) {
+        removeChests(event.blockList());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onBlockExplode(BlockExplodeEvent event) {
+        removeChests(event.blockList());
+    }
+
+    private void removeChests(List<Block> blocks) {
+        for (Block block : blocks) {
+            if (ChestIndex.isChest(block.getType())) {
+                chestIndex.removeChest(block);
+            }
+        }
+    }
+}
@@ -3,33 +3,33 @@ package nc.randomEvents.listeners;
 import nc.randomEvents.RandomEvents;
 import nc.randomEvents.core.LootContainer.ContainerType;
 import nc.randomEvents.core.ServiceListener;
-import nc.randomEvents.utils.PersistentDataHelper;
+import nc.randomEvents.utils.PdcKeys;
 import nc.randomEvents.utils.SoundHelper;
 import net.kyori.adventure.text.Component;
 import net.kyori.adventure.text.format.NamedTextColor;
 import org.bukkit.*;
 import org.bukkit.block.*;
 import org.bukkit.entity.Enderman;
+import org.bukkit.entity.Entity;
 import org.bukkit.entity.Player;
 import org.bukkit.event.*;
 import org.bukkit.event.block.*;
 import org.bukkit.event.entity.*;
 import org.bukkit.event.inventory.*;
+import org.bukkit.event.player.PlayerArmorStandManipulateEvent;
+import org.bukkit.event.player.PlayerDropItemEvent;
+import org.bukkit.event.player.PlayerInteractEntityEvent;
 import org.bukkit.event.player.PlayerInteractEvent;
 import org.bukkit.event.world.ChunkLoadEvent;
 import org.bukkit.inventory.Inventory;
+import org.bukkit.inventory.InventoryHolder;
 import org.bukkit.inventory.ItemStack;
-import org.bukkit.persistence.PersistentDataType;
+import org.bukkit.inventory.meta.BlockStateMeta;
 
 import java.util.UUID;
 
 public class ContainerListener implements ServiceListener {
 	private final RandomEvents plugin;
-	private static final String CONTAINER_KEY = "container";
-	private static final String CONTAINER_ID_KEY = "container_id";
-	private static final String CONTAINER_SESSION_KEY = "container_session";
-	private static final String CONTAINER_TYPE_KEY = "container_type";
-	private static final String CLEAR_AT_END_KEY = "clear_at_end";
 
 	public ContainerListener(RandomEvents plugin) {
 		this.plugin = plugin;
@@ -37,7 +37,7 @@ public class ContainerListener implements ServiceListener {
 
 	@Override
 	public void registerListener(RandomEvents plugin) {
-		plugin.getServer().getPluginManager().registerEvents(this, plugin);
+		plugin.getTickProfiler().registerEvents(this);
 	}
 
 	@EventHandler
@@ -72,8 +72,8 @@ public class ContainerListener implements ServiceListener {
 
 			UUID sessionId = getEventSessionId(block);
 			ContainerType type = getContainerType(block);
-			String containerId = PersistentDataHelper.get(container.getPersistentDataContainer(), plugin, CONTAINER_ID_KEY, PersistentDataType.STRING);
-			Byte clearAtEndByte = PersistentDataHelper.get(container.getPersistentDataContainer(), plugin, CLEAR_AT_END_KEY, PersistentDataType.BYTE);
+			String containerId = PdcKeys.CONTAINER_ID.get(container.getPersistentDataContainer());
+			Byte clearAtEndByte = PdcKeys.CLEAR_AT_END.get(container.getPersistentDataContainer());
 			boolean clearAtEnd = clearAtEndByte != null && clearAtEndByte == 1;
 
 			// Remove if missing critical tags
@@ -225,6 +225,106 @@ public class ContainerListener implements ServiceListener {
 		});
 	}
 
+	// Quest item tracking: record every holder a quest item moves into, so session cleanup
+	// only visits those instead of sweeping the world. Runs at MONITOR to see the final outcome.
+
+	@EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+	public void onQuestItemClick(InventoryClickEvent event) {
+		if (!(event.getWhoClicked() instanceof Player player)) return;
+		Inventory top = event.getView().getTopInventory();
+		trackQuestItemMove(event.getCurrentItem(), player, top);
+		trackQuestItemMove(event.getCursor(), player, top);
+		if (event.getClick() == ClickType.NUMBER_KEY) {
+			trackQuestItemMove(player.getInventory().getItem(event.getHotbarButton()), player, top);
+		} else if (event.getClick() == ClickType.SWAP_OFFHAND) {
+			trackQuestItemMove(player.getInventory().getItemInOffHand(), player, top);
+		}
+	}
+
+	@EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+	public void onQuestItemDrag(InventoryDragEvent event) {
+		if (!(event.getWhoClicked() instanceof Player player)) return;
+		trackQuestItemMove(event.getOldCursor(), player, event.getView().getTopInventory());
+	}
+
+	@EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+	public void onQuestItemHopperTransfer(InventoryMoveItemEvent event) {
+		trackQuestItemIn(event.getDestination(), event.getItem());
+	}
+
+	@EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+	public void onQuestItemHopperPickup(InventoryPickupItemEvent event) {
+		ItemStack item = event.getItem().getItemStack();
+		trackQuestItemIn(event.getInventory(), item);
+		plugin.getContainerManager().untrackQuestItem(item, event.getItem());
+	}
+
+	@EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+	public void onQuestItemSpawn(ItemSpawnEvent event) {
+		plugin.getContainerManager().trackQuestItem(event.getEntity().getItemStack(), event.getEntity());
+	}
+
+	@EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+	public void onQuestItemDrop(PlayerDropItemEvent event) {
+		plugin.getContainerManager().trackQuestItem(event.getItemDrop().getItemStack(), event.getItemDrop());
+	}
+
+	@EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+	public void onQuestItemPickup(EntityPickupItemEvent event) {
+		ItemStack item = event.getItem().getItemStack();
+		plugin.getContainerManager().trackQuestItem(item, event.getEntity());
+		if (event.getRemaining() == 0) {
+			plugin.getContainerManager().untrackQuestItem(item, event.getItem());
+		}
+	}
+
+	@EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+	public void onQuestItemMerge(ItemMergeEvent event) {
+		ItemStack item = event.getEntity().getItemStack();
+		plugin.getContainerManager().trackQuestItem(item, event.getTarget());
+		plugin.getContainerManager().untrackQuestItem(item, event.getEntity());
+	}
+
+	@EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+	public void onQuestItemGivenToEntity(PlayerInteractEntityEvent event) {
+		// Item frames, allays, etc.
+		ItemStack item = event.getPlayer().getInventory().getItem(event.getHand());
+		plugin.getContainerManager().trackQuestItem(item, event.getRightClicked());
+	}
+
+	@EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+	public void onQuestItemArmorStand(PlayerArmorStandManipulateEvent event) {
+		plugin.getContainerManager().trackQuestItem(event.getPlayerItem(), event.getRightClicked());
+		plugin.getContainerManager().trackQuestItem(event.getArmorStandItem(), event.getPlayer());
+	}
+
+	@EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+	public void onQuestItemContainerPlace(BlockPlaceEvent event) {
+		// Containers placed with contents (shulker boxes) carry their quest items with them
+		ItemStack placed = event.getItemInHand();
+		if (!placed.hasItemMeta() || !(placed.getItemMeta() instanceof BlockStateMeta meta) || !meta.hasBlockState()) return;
+		if (!(meta.getBlockState() instanceof Container container)) return;
+		for (ItemStack item : container.getSnapshotInventory().getContents()) {
+			plugin.getContainerManager().trackQuestItem(item, event.getBlockPlaced().getLocation());
+		}
+	}
+
+	private void trackQuestItemMove(ItemStack item, Player player, Inventory top) {
+		if (plugin.getContainerManager().getQuestItemSessionId(item) == null) return;
+		plugin.getContainerManager().trackQuestItem(item, player);
+		trackQuestItemIn(top, item);
+	}
+
+	private void trackQuestItemIn(Inventory inventory, ItemStack item) {
+		if (inventory == null || plugin.getContainerManager().getQuestItemSessionId(item) == null) return;
+		InventoryHolder holder = inventory.getHolder(false);
+		if (holder instanceof Entity entity) {
+			plugin.getContainerManager().trackQuestItem(item, entity);
+		} else if (inventory.getLocation() != null) {
+			plugin.getContainerManager().trackQuestItem(item, inventory.getLocation());
+		}
+	}
+
 	private void handleInstantRewardContainer(Player player, Block block) {
 		if (!(block.getState() instanceof Container container)) return;
 
@@ -236,6 +336,7 @@ public class ContainerListener implements ServiceListener {
 
 		for (ItemStack item : container.getInventory().getContents()) {
 			if (item != null) {
+				plugin.getContainerManager().trackQuestItem(item, player);
 				player.getInventory().addItem(item).forEach((slot, leftover) -> {
 					player.getWorld().dropItemNaturally(player.getLocation(), leftover);
 					player.sendMessage(Component.text("Your inventory was full! Some items were dropped.", NamedTextColor.RED));
@@ -260,22 +361,17 @@ public class ContainerListener implements ServiceListener {
 
 	private boolean isEventContainer(Block block) {
 		if (!(block.getState() instanceof Container)) return false;
-		return PersistentDataHelper.has(((Container) block.getState()).getPersistentDataContainer(), plugin, CONTAINER_KEY, PersistentDataType.BYTE);
+		return PdcKeys.CONTAINER.has(((Container) block.getState()).getPersistentDataContainer());
 	}
 
 	private UUID getEventSessionId(Block block) {
 		if (!(block.getState() instanceof Container container)) return null;
-		String raw = PersistentDataHelper.get(container.getPersistentDataContainer(), plugin, CONTAINER_SESSION_KEY, PersistentDataType.STRING);
-		try { return raw != null ? UUID.fromString(raw) : null; }
-		catch (IllegalArgumentException e) {
-			plugin.getLogger().warning("Invalid session ID: " + raw);
-			return null;
-		}
+		return PdcKeys.CONTAINER_SESSION.get(container.getPersistentDataContainer());
 	}
 
 	private ContainerType getContainerType(Block block) {
 		if (!(block.getState() instanceof Container container)) return null;
-		String str = PersistentDataHelper.get(container.getPersistentDataContainer(), plugin, CONTAINER_TYPE_KEY, PersistentDataType.STRING);
+		String str = PdcKeys.CONTAINER_TYPE.get(container.getPersistentDataContainer());
 		try { return str != null ? ContainerType.valueOf(str) : null; }
 		catch (IllegalArgumentException e) {
 			plugin.getLogger().warning("Invalid container type: " + str);
@@ -1,24 +1,21 @@
 package nc.randomEvents.listeners;
 
-import java.util.Set;
 import java.util.UUID;
 
+import com.destroystokyo.paper.event.entity.EntityRemoveFromWorldEvent;
 import org.bukkit.entity.Entity;
 import org.bukkit.event.EventHandler;
 import org.bukkit.event.entity.EntityDeathEvent;
 import org.bukkit.event.entity.EntitySpawnEvent;
-import org.bukkit.persistence.PersistentDataType;
 
 import nc.randomEvents.RandomEvents;
 import nc.randomEvents.core.ServiceListener;
 import nc.randomEvents.services.SessionRegistry;
-import nc.randomEvents.utils.PersistentDataHelper;
+import nc.randomEvents.utils.PdcKeys;
 
 public class EntityListener implements ServiceListener {
     private final SessionRegistry sessionRegistry;
     private final RandomEvents plugin;
-    private static final String ENTITY_KEY = "entity";
-    private static final String ENTITY_SESSION_KEY = "entity_session";
 
     public EntityListener(RandomEvents plugin) {
         this.sessionRegistry = plugin.getSessionRegistry();
@@ -27,7 +24,7 @@ public class EntityListener implements ServiceListener {
 
     @Override
     public void registerListener(RandomEvents plugin) {
-        plugin.getServer().getPluginManager().registerEvents(this, plugin);
+        plugin.getTickProfiler().registerEvents(this);
     }
 
     @EventHandler
@@ -36,10 +33,7 @@ public class EntityListener implements ServiceListener {
         if (isSessionEntity(entity)) {
             UUID sessionId = getEntitySessionId(entity);
             if (sessionId != null) {
-                Set<UUID> entities = plugin.getEntityManager().getSessionEntities().get(sessionId);
-                if (entities != null) {
-                    entities.remove(entity.getUniqueId());
-                }
+                plugin.getEntityManager().untrack(entity);
                 // Clear drops if session is no longer active
                 if (!sessionRegistry.isActive(sessionId)) {
                     event.getDrops().clear();
@@ -49,6 +43,12 @@ public class EntityListener implements ServiceListener {
         }
     }
 
+    @EventHandler
+    public void onEntityRemoveFromWorld(EntityRemoveFromWorldEvent event) {
+        // Remember where tracked entities unload so session cleanup only has to look there
+        plugin.getEntityManager().updateLastSeen(event.getEntity());
+    }
+
     @EventHandler
     public void onEntitySpawn(EntitySpawnEvent event) {
         // Monitor entity spawns for logging/debugging if needed
@@ -68,7 +68,7 @@ public class EntityListener implements ServiceListener {
      */
     private boolean isSessionEntity(Entity entity) {
         if (entity == null) return false;
-        return PersistentDataHelper.has(entity.getPersistentDataContainer(), plugin, ENTITY_KEY, PersistentDataType.BYTE);
+        return PdcKeys.ENTITY.has(entity.getPersistentDataContainer());
     }
 
     /**
@@ -79,21 +79,6 @@ public class EntityListener implements ServiceListener {
     private UUID getEntitySessionId(Entity entity) {
         if (entity == null) return null;
 
-        String sessionIdStr = PersistentDataHelper.get(
-            entity.getPersistentDataContainer(),
-            plugin,
-            ENTITY_SESSION_KEY,
-            PersistentDataType.STRING
-        );
-        
-        if (sessionIdStr != null) {
-            try {
-                return UUID.fromString(sessionIdStr);
-            } catch (IllegalArgumentException e) {
-                plugin.getLogger().warning("Invalid session ID format in entity: " + sessionIdStr);
-                return null;
-            }
-        }
-        return null;
+        return PdcKeys.ENTITY_SESSION.get(entity.getPersistentDataContainer());
     }
 }
@@ -41,7 +41,7 @@ public class EquipmentListener implements ServiceListener {
 
     @Override
     public void registerListener(RandomEvents plugin) {
-        plugin.getServer().getPluginManager().registerEvents(this, plugin);
+        plugin.getTickProfiler().registerEvents(this);
     }
     
     @EventHandler
@@ -2,8 +2,11 @@ package nc.randomEvents.listeners;
 
 import org.bukkit.entity.Player;
 import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
 import org.bukkit.event.Listener;
+import org.bukkit.event.player.AsyncPlayerPreLoginEvent;
 import org.bukkit.event.player.PlayerJoinEvent;
+import org.bukkit.event.player.PlayerQuitEvent;
 
 import nc.randomEvents.RandomEvents;
 import nc.randomEvents.data.PlayerData;
@@ -14,17 +17,39 @@ public class PlayerListener implements Listener {
 
     public PlayerListener(RandomEvents plugin) {
         this.dataManager = plugin.getDataManager();
-        plugin.getServer().getPluginManager().registerEvents(this, plugin);
+        plugin.getTickProfiler().registerEvents(this);
+
+        // Players already online (e.g. after a reload) never fire a join event
+        for (Player player : plugin.getServer().getOnlinePlayers()) {
+            dataManager.pin(PlayerData.class, player.getUniqueId().toString());
+        }
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onAsyncPlayerPreLogin(AsyncPlayerPreLoginEvent event) {
+        if (event.getLoginResult() != AsyncPlayerPreLoginEvent.Result.ALLOWED) {
+            return;
+        }
+        // Load off the main thread so the join handler finds the record in memory
+        dataManager.preload(PlayerData.class, event.getUniqueId().toString());
     }
 
     @EventHandler
     public void onPlayerJoin(PlayerJoinEvent event) {
         Player player = event.getPlayer();
-        PlayerData playerData = dataManager.get(PlayerData.class, player.getUniqueId().toString());
-        if (playerData == null) {
+        String playerId = player.getUniqueId().toString();
+        dataManager.pin(PlayerData.class, playerId);
+        PlayerData playerData = dataManager.get(PlayerData.class, playerId);
+        // A stored record that is not in memory yet is still loading; it stays pinned once it arrives
+        if (playerData == null && !dataManager.exists(PlayerData.class, playerId)) {
             playerData = new PlayerData(player.getUniqueId(), 0);
             dataManager.set(playerData.getId(), playerData);
         }
     }
+
+    @EventHandler
+    public void onPlayerQuit(PlayerQuitEvent event) {
+        dataManager.unpin(PlayerData.class, event.getPlayer().getUniqueId().toString());
+    }
     
 }
@@ -1,20 +1,22 @@
 package nc.randomEvents.listeners;
 
+import java.util.UUID;
+
+import com.destroystokyo.paper.event.entity.EntityRemoveFromWorldEvent;
 import org.bukkit.entity.Entity;
 import org.bukkit.event.EventHandler;
 import org.bukkit.event.entity.EntityDamageByEntityEvent;
-import org.bukkit.persistence.PersistentDataType;
+import org.bukkit.event.entity.ProjectileHitEvent;
+import org.bukkit.event.world.EntitiesLoadEvent;
 import org.bukkit.entity.Projectile;
 
 import nc.randomEvents.RandomEvents;
 import nc.randomEvents.core.ServiceListener;
-import nc.randomEvents.utils.PersistentDataHelper;
+import nc.randomEvents.utils.PdcKeys;
 
 public class ProjectileListener implements ServiceListener {
 
     private final RandomEvents plugin;
-    private static final String PROJECTILE_KEY = "event_projectile";
-    private static final String PROJECTILE_DAMAGE_KEY = "projectile_damage";
     
     public ProjectileListener(RandomEvents plugin) {
         this.plugin = plugin;
@@ -22,7 +24,7 @@ public class ProjectileListener implements ServiceListener {
 
     @Override
     public void registerListener(RandomEvents plugin) {
-        plugin.getServer().getPluginManager().registerEvents(this, plugin);
+        plugin.getTickProfiler().registerEvents(this);
     }
 
     @EventHandler
@@ -31,15 +33,44 @@ public class ProjectileListener implements ServiceListener {
         
         // Check if it's one of our tracked projectiles
         if (damager instanceof Projectile && 
-            PersistentDataHelper.has(damager.getPersistentDataContainer(), plugin, PROJECTILE_KEY, PersistentDataType.BYTE)) {
+            PdcKeys.PROJECTILE.has(damager.getPersistentDataContainer())) {
             
             // Check for custom damage
-            Double customDamage = PersistentDataHelper.get(damager.getPersistentDataContainer(), plugin, 
-                                                         PROJECTILE_DAMAGE_KEY, PersistentDataType.DOUBLE);
+            Double customDamage = PdcKeys.PROJECTILE_DAMAGE.get(damager.getPersistentDataContainer());
             if (customDamage != null) {
                 event.setDamage(customDamage);
             }
         }
     }
-    
+
+    @EventHandler
+    public void onProjectileHit(ProjectileHitEvent event) {
+        plugin.getProjectileManager().updateLastSeen(event.getEntity());
+    }
+
+    @EventHandler
+    public void onEntityRemoveFromWorld(EntityRemoveFromWorldEvent event) {
+        // Keep the live index to projectiles that are actually in a loaded world
+        if (event.getEntity() instanceof Projectile projectile) {
+            plugin.getProjectileManager().untrack(projectile);
+        }
+    }
+
+    @EventHandler
+    public void onEntitiesLoad(EntitiesLoadEvent event) {
+        for (Entity entity : event.getEntities()) {
+            if (!(entity instanceof Projectile projectile) ||
+                !PdcKeys.PROJECTILE.has(projectile.getPersistentDataContainer())) {
+                continue;
+            }
+
+            // Re-track projectiles of running sessions, drop strays from sessions that already ended
+            UUID sessionId = PdcKeys.PROJECTILE_SESSION.get(projectile.getPersistentDataContainer());
+            if (sessionId != null && plugin.getSessionRegistry().isActive(sessionId)) {
+                plugin.getProjectileManager().track(sessionId, projectile);
+            } else {
+                projectile.remove();
+            }
+        }
+    }
 }
@@ -0,0 +1,87 @@
+package nc.randomEvents.services;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Random;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * Weighted sampler using Vose's alias method.
+ * Building the table is O(n); every draw afterwards is O(1) (one random column and one biased coin flip),
+ * and weights only need to be positive, not sum to any particular total.
+ * @param <T> The type of the entries
+ */
+final class AliasTable<T> {
+    private final List<T> entries;
+    private final double[] probability;
+    private final int[] alias;
+
+    /**
+     * @param entries The entries to sample from, must not be empty
+     * @param weight The relative weight of an entry, must be positive
+     */
+    AliasTable(List<T> entries, ToDoubleFunction<T> weight) {
+        int n = entries.size();
+        if (n == 0) {
+            throw new IllegalArgumentException("Alias table needs at least one entry");
+        }
+        this.entries = new ArrayList<>(entries);
+        this.probability = new double[n];
+        this.alias = new int[n];
+
+        double total = 0.0;
+        for (T entry : entries) {
+            total += weight.applyAsDouble(entry);
+        }
+
+        // Scale weights so the average column holds exactly 1.0
+        double[] scaled = new double[n];
+        Deque<Integer> small = new ArrayDeque<>();
+        Deque<Integer> large = new ArrayDeque<>();
+        for (int i = 0; i < n; i++) {
+            scaled[i] = weight.applyAsDouble(entries.get(i)) * n / total;
+            if (scaled[i] < 1.0) {
+                small.push(i);
+            } else {
+                large.push(i);
+            }
+        }
+
+        // Fill each under-full column with the remainder from an over-full one
+        while (!small.isEmpty() && !large.isEmpty()) {
+            int less = small.pop();
+            int more = large.pop();
+            probability[less] = scaled[less];
+            alias[less] = more;
+            scaled[more] = (scaled[more] + scaled[less]) - 1.0;
+            if (scaled[more] < 1.0) {
+                small.push(more);
+            } else {
+                large.push(more);
+            }
+        }
+
+        // Whatever is left is full up to floating point error
+        while (!large.isEmpty()) {
+            probability[large.pop()] = 1.0;
+        }
+        while (!small.isEmpty()) {
+            probability[small.pop()] = 1.0;
+        }
+    }
+
+    /**
+     * @param random The random source to draw with
+     * @return An entry, picked with probability proportional to its weight
+     */
+    T sample(Random random) {
+        int column = random.nextInt(probability.length);
+        return entries.get(random.nextDouble() < probability[column] ? column : alias[column]);
+    }
+
+    int size() {
+        return entries.size();
+    }
+}
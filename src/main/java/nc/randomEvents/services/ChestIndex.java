@@ -0,0 +1,197 @@
+package nc.randomEvents.services;
+
+import nc.randomEvents.RandomEvents;
+import nc.randomEvents.listeners.ChestIndexListener;
+
+import org.bukkit.Chunk;
+import org.bukkit.Location;
+import org.bukkit.Material;
+import org.bukkit.World;
+import org.bukkit.block.Block;
+import org.bukkit.block.BlockState;
+
+import java.util.*;
+
+interface IChestIndex {
+    void indexChunk(Chunk chunk);
+    void forgetChunk(Chunk chunk);
+    void forgetWorld(World world);
+    void addChest(Block block);
+    void removeChest(Block block);
+    List<Block> findChests(Location center, double radius);
+}
+
+/**
+ * Per-world index of chest positions, bucketed by chunk.
+ * Chunks are indexed from their tile entities when they load and dropped when they unload,
+ * so radius queries only touch the chunk buckets that intersect the search area.
+ * Chests created or removed with Block#setType fire no event: the plugin's own loot chests are added where they
+ * are spawned, removed chests are dropped lazily by {@link #findChests}, and chests other plugins create that way
+ * are only picked up when their chunk is next loaded.
+ */
+public class ChestIndex implements IChestIndex {
+    private final RandomEvents plugin;
+    // World UUID -> chunk key -> packed block positions of the chests in that chunk
+    private final Map<UUID, Map<Long, Set<Long>>> chests = new HashMap<>();
+    private final ChestIndexListener chestIndexListener;
+
+    public ChestIndex(RandomEvents plugin) {
+        this.plugin = plugin;
+        this.chestIndexListener = new ChestIndexListener(this);
+        this.chestIndexListener.registerListener(plugin);
+
+        // Chunks loaded before the plugin enabled never fire a load event
+        for (World world : plugin.getServer().getWorlds()) {
+            for (Chunk chunk : world.getLoadedChunks()) {
+                indexChunk(chunk);
+            }
+        }
+    }
+
+    /**
+     * Checks if a material is one of the chest types tracked by the index
+     * @param material The material to check
+     * @return true if the material is a chest or trapped chest
+     */
+    public static boolean isChest(Material material) {
+        return material == Material.CHEST || material == Material.TRAPPED_CHEST;
+    }
+
+    /**
+     * Replaces the indexed chests of a chunk with its current tile entities
+     * @param chunk The loaded chunk to index
+     */
+    public void indexChunk(Chunk chunk) {
+        Set<Long> positions = new HashSet<>();
+        for (BlockState state : chunk.getTileEntities(false)) {
+            if (isChest(state.getType())) {
+                positions.add(packPosition(state.getX(), state.getY(), state.getZ()));
+            }
+        }
+
+        Map<Long, Set<Long>> worldChests = chests.computeIfAbsent(chunk.getWorld().getUID(), k -> new HashMap<>());
+        long chunkKey = chunkKey(chunk.getX(), chunk.getZ());
+        if (positions.isEmpty()) {
+            worldChests.remove(chunkKey);
+        } else {
+            worldChests.put(chunkKey, positions);
+        }
+    }
+
+    /**
+     * Drops the indexed chests of an unloading chunk
+     * @param chunk The chunk being unloaded
+     */
+    public void forgetChunk(Chunk chunk) {
+        Map<Long, Set<Long>> worldChests = chests.get(chunk.getWorld().getUID());
+        if (worldChests != null) {
+            worldChests.remove(chunkKey(chunk.getX(), chunk.getZ()));
+        }
+    }
+
+    /**
+     * Drops every indexed chest of an unloading world
+     * @param world The world being unloaded
+     */
+    public void forgetWorld(World world) {
+        chests.remove(world.getUID());
+    }
+
+    /**
+     * Records a chest block
+     * @param block The chest block
+     */
+    public void addChest(Block block) {
+        chests.computeIfAbsent(block.getWorld().getUID(), k -> new HashMap<>())
+            .computeIfAbsent(chunkKey(block.getX() >> 4, block.getZ() >> 4), k -> new HashSet<>())
+            .add(packPosition(block.getX(), block.getY(), block.getZ()));
+    }
+
+    /**
+     * Forgets a chest block
+     * @param block The block that is no longer a chest
+     */
+    public void removeChest(Block block) {
+        Map<Long, Set<Long>> worldChests = chests.get(block.getWorld().getUID());
+        if (worldChests == null) return;
+        long chunkKey = chunkKey(block.getX() >> 4, block.getZ() >> 4);
+        Set<Long> positions = worldChests.get(chunkKey);
+        if (positions == null) return;
+        positions.remove(packPosition(block.getX(), block.getY(), block.getZ()));
+        if (positions.isEmpty()) {
+            worldChests.remove(chunkKey);
+        }
+    }
+
+    /**
+     * Finds the chests within a radius of a point.
+     * Only chunk buckets intersecting the radius are visited; stale entries are dropped as they are found.
+     * @param center The center of the search
+     * @param radius The search radius in blocks
+     * @return The chest blocks within the radius, possibly empty
+     */
+    public List<Block> findChests(Location center, double radius) {
+        World world = center.getWorld();
+        if (world == null) return Collections.emptyList();
+        Map<Long, Set<Long>> worldChests = chests.get(world.getUID());
+        if (worldChests == null || worldChests.isEmpty()) return Collections.emptyList();
+
+        List<Block> found = new ArrayList<>();
+        double radiusSquared = radius * radius;
+        int minChunkX = (int) Math.floor(center.getX() - radius) >> 4;
+        int maxChunkX = (int) Math.floor(center.getX() + radius) >> 4;
+        int minChunkZ = (int) Math.floor(center.getZ() - radius) >> 4;
+        int maxChunkZ = (int) Math.floor(center.getZ() + radius) >> 4;
+        for (int chunkX = minChunkX; chunkX <= maxChunkX; chunkX++) {
+            for (int chunkZ = minChunkZ; chunkZ <= maxChunkZ; chunkZ++) {
+                Set<Long> positions = worldChests.get(chunkKey(chunkX, chunkZ));
+                if (positions == null) continue;
+
+                Iterator<Long> iterator = positions.iterator();
+                while (iterator.hasNext()) {
+                    long packed = iterator.next();
+                    int x = unpackX(packed);
+                    int y = unpackY(packed);
+                    int z = unpackZ(packed);
+                    double dx = x - center.getX();
+                    double dy = y - center.getY();
+                    double dz = z - center.getZ();
+                    if (dx * dx + dy * dy + dz * dz > radiusSquared) continue;
+
+                    // Changes the listener could not see (e.g. other plugins) are repaired lazily
+                    Block block = world.getBlockAt(x, y, z);
+                    if (isChest(block.getType())) {
+                        found.add(block);
+                    } else {
+                        iterator.remove();
+                    }
+                }
+                if (positions.isEmpty()) {
+                    worldChests.remove(chunkKey(chunkX, chunkZ));
+                }
+            }
+        }
+        return found;
+    }
+
+    private static long chunkKey(int chunkX, int chunkZ) {
+        return ((long) chunkX << 32) | (chunkZ & 0xFFFFFFFFL);
+    }
+
+    // 26 bits for x and z, 12 bits for y, matching the vanilla block position layout
+    private static long packPosition(int x, int y, int z) {
+        return ((long) (x & 0x3FFFFFF) << 38) | ((long) (z & 0x3FFFFFF) << 12) | (y & 0xFFFL);
+    }
+
+    private static int unpackX(long packed) {
+        return (int) (packed >> 38);
+    }
+
+    private static int unpackY(long packed) {
+        return (int) (packed << 52 >> 52);
+    }
+
+    private static int unpackZ(long packed) {
+        return (int) (packed << 26 >> 38);
+    }
+}
@@ -9,6 +9,10 @@ import nc.randomEvents.core.BaseEvent;
 import java.io.File;
 import java.io.InputStream;
 import java.io.InputStreamReader;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+import java.util.logging.Level;
 import java.util.logging.Logger;
 
 interface IConfigManager {
@@ -16,7 +20,10 @@ interface IConfigManager {
     void setDefaults();
     Integer getIntValue(String eventName, String key);
     Double getDoubleValue(String eventName, String key);
+    Integer getSettingIntValue(String key);
+    String getSettingStringValue(String key);
     ConfigurationSection getEventConfig(BaseEvent event);
+    <T> ConfigView<T> registerView(String eventName, Function<EventConfigReader, T> compiler);
 }
 
 public class ConfigManager implements IConfigManager {
@@ -24,6 +31,8 @@ public class ConfigManager implements IConfigManager {
     private final Logger logger;
     private File configFile;
     private FileConfiguration defaultConfig;
+    private final List<ViewDefinition<?>> views = new ArrayList<>();
+    private volatile ConfigSnapshot snapshot = ConfigSnapshot.EMPTY;
 
     public ConfigManager(RandomEvents plugin) {
         this.plugin = plugin;
@@ -79,6 +88,44 @@ public class ConfigManager implements IConfigManager {
         }
         
         setDefaults();
+        compile();
+    }
+
+    /**
+     * Registers a typed view of an event's config section.
+     * The view is compiled now and again on every reload, so reading it never touches the config itself.
+     * @param eventName The name of the event section
+     * @param compiler Builds the typed value (e.g. a record) from the section
+     * @return The handle to read the compiled value through
+     */
+    public synchronized <T> ConfigView<T> registerView(String eventName, Function<EventConfigReader, T> compiler) {
+        ViewDefinition<T> definition = new ViewDefinition<>(eventName, compiler);
+        int slot = views.size();
+        T value = definition.compile(this);
+        if (value == null) {
+            throw new IllegalArgumentException("Config view for " + eventName + " could not be compiled");
+        }
+        views.add(definition);
+        snapshot = snapshot.with(slot, value);
+        return new ConfigView<>(this, slot);
+    }
+
+    ConfigSnapshot getSnapshot() {
+        return snapshot;
+    }
+
+    /**
+     * Recompiles every registered view from the current config and publishes them as one new snapshot.
+     * A view that fails to compile keeps its previous value.
+     */
+    private synchronized void compile() {
+        ConfigSnapshot previous = snapshot;
+        Object[] compiled = new Object[views.size()];
+        for (int slot = 0; slot < compiled.length; slot++) {
+            Object value = views.get(slot).compile(this);
+            compiled[slot] = value != null ? value : previous.get(slot);
+        }
+        snapshot = new ConfigSnapshot(compiled);
     }
 
     public void setDefaults() {
@@ -120,6 +167,18 @@ public class ConfigManager implements IConfigManager {
             }
         }
 
+        // Fill in missing global settings
+        ConfigurationSection defaultSettings = defaultConfig.getConfigurationSection("settings");
+        if (defaultSettings != null) {
+            for (String key : defaultSettings.getKeys(false)) {
+                String fullPath = "settings." + key;
+                if (!config.contains(fullPath)) {
+                    config.set(fullPath, defaultSettings.get(key));
+                    needsSaving = true;
+                }
+            }
+        }
+
         if (needsSaving) {
             try {
                 config.save(configFile);
@@ -131,7 +190,37 @@ public class ConfigManager implements IConfigManager {
     }
 
     public Integer getIntValue(String eventName, String key) {
-        String path = "events." + eventName + "." + key;
+        return getIntValue("events." + eventName + "." + key);
+    }
+
+    /**
+     * Gets a global setting from the settings section
+     * @param key The setting key
+     * @return The value, or null if missing or invalid
+     */
+    public Integer getSettingIntValue(String key) {
+        return getIntValue("settings." + key);
+    }
+
+    /**
+     * Gets a global string setting from the settings section
+     * @param key The setting key
+     * @return The value, falling back to the default config, or null if missing from both
+     */
+    public String getSettingStringValue(String key) {
+        String path = "settings." + key;
+        Object value = plugin.getConfig().get(path);
+        if (value instanceof String) {
+            return (String) value;
+        }
+        if (value != null) {
+            logger.warning("Invalid type for config value at " + path + ": expected string but got " + value);
+        }
+        Object defaultVal = defaultConfig.get(path);
+        return defaultVal instanceof String ? (String) defaultVal : null;
+    }
+
+    private Integer getIntValue(String path) {
         Object value = plugin.getConfig().get(path);
 
         if (value instanceof Number) {
@@ -270,6 +359,17 @@ public class ConfigManager implements IConfigManager {
         return null;
     }
 
+    private record ViewDefinition<T>(String eventName, Function<EventConfigReader, T> compiler) {
+        T compile(ConfigManager configManager) {
+            try {
+                return compiler.apply(new EventConfigReader(configManager, eventName));
+            } catch (RuntimeException e) {
+                configManager.logger.log(Level.SEVERE, "Failed to compile config for event " + eventName, e);
+                return null;
+            }
+        }
+    }
+
     // Helper method to save the config file
     private void saveConfigFile(FileConfiguration config) {
         try {
@@ -0,0 +1,36 @@
+package nc.randomEvents.services;
+
+import java.util.Arrays;
+
+/**
+ * Immutable result of compiling config.yml: one typed view value per registered slot.
+ * A new snapshot is built on every reload and published whole, so readers never see a half-applied config.
+ */
+final class ConfigSnapshot {
+    static final ConfigSnapshot EMPTY = new ConfigSnapshot(new Object[0]);
+
+    private final Object[] views;
+
+    ConfigSnapshot(Object[] views) {
+        this.views = views;
+    }
+
+    Object get(int slot) {
+        return views[slot];
+    }
+
+    int size() {
+        return views.length;
+    }
+
+    /**
+     * @param slot The slot to set, at most one past the current last slot
+     * @param value The compiled view value
+     * @return A copy of this snapshot with the slot set
+     */
+    ConfigSnapshot with(int slot, Object value) {
+        Object[] copy = Arrays.copyOf(views, Math.max(views.length, slot + 1));
+        copy[slot] = value;
+        return new ConfigSnapshot(copy);
+    }
+}
@@ -0,0 +1,24 @@
+package nc.randomEvents.services;
+
+/**
+ * Handle to a typed, precompiled piece of the config, obtained from ConfigManager.registerView.
+ * Reading it is a single array access on the current snapshot, so it is safe to call from hot paths.
+ * @param <T> The type the config section is compiled into
+ */
+public final class ConfigView<T> {
+    private final ConfigManager configManager;
+    private final int slot;
+
+    ConfigView(ConfigManager configManager, int slot) {
+        this.configManager = configManager;
+        this.slot = slot;
+    }
+
+    /**
+     * @return The value compiled from the most recently loaded config
+     */
+    @SuppressWarnings("unchecked")
+    public T get() {
+        return (T) configManager.getSnapshot().get(slot);
+    }
+}
@@ -0,0 +1,56 @@
+package nc.randomEvents.services;
+
+import nc.randomEvents.core.PluginData;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * A group of record updates committed together through DataManager.commit.
+ * All updates are applied in one go on the main thread and saved as a single write.
+ */
+public class DataBatch {
+    private final List<Update<?>> updates = new ArrayList<>();
+
+    /**
+     * Queues a read-modify-write of a record
+     * @param dataClass The data type
+     * @param id The record ID
+     * @param ifAbsent Creates the record if it does not exist, or returns null to skip it
+     * @param mutation The change to apply to the record
+     * @return This batch, for chaining
+     */
+    public <T extends PluginData> DataBatch update(Class<T> dataClass, String id, Supplier<T> ifAbsent, Consumer<T> mutation) {
+        updates.add(new Update<>(dataClass, id, ifAbsent, mutation));
+        return this;
+    }
+
+    public boolean isEmpty() {
+        return updates.isEmpty();
+    }
+
+    public int size() {
+        return updates.size();
+    }
+
+    List<Update<?>> getUpdates() {
+        return Collections.unmodifiableList(updates);
+    }
+
+    static final class Update<T extends PluginData> {
+        final Class<T> dataClass;
+        final String id;
+        final Supplier<T> ifAbsent;
+        final Consumer<T> mutation;
+
+        private Update(Class<T> dataClass, String id, Supplier<T> ifAbsent, Consumer<T> mutation) {
+            this.dataClass = dataClass;
+            this.id = id;
+            this.ifAbsent = ifAbsent;
+            this.mutation = mutation;
+        }
+    }
+}
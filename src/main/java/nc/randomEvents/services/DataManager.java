@@ -4,56 +4,128 @@ import nc.randomEvents.RandomEvents;
 import nc.randomEvents.core.PluginData;
 import nc.randomEvents.data.PlayerData;
 import nc.randomEvents.data.WorldData;
+import nc.randomEvents.services.storage.DataChange;
+import nc.randomEvents.services.storage.DataStore;
+import nc.randomEvents.services.storage.JournalDataStore;
+import nc.randomEvents.services.storage.RecordReader;
+import nc.randomEvents.services.storage.YamlDataStore;
 
 import org.bukkit.Location;
-import org.bukkit.configuration.ConfigurationSection;
-import org.bukkit.configuration.file.FileConfiguration;
-import org.bukkit.configuration.file.YamlConfiguration;
+import org.bukkit.scheduler.BukkitRunnable;
+import org.bukkit.scheduler.BukkitTask;
 
 import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
 import java.io.File;
 import java.io.IOException;
-import java.lang.reflect.Constructor;
 import java.lang.reflect.Field;
-import java.lang.reflect.Modifier;
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
 import java.util.logging.Level;
 import org.bukkit.configuration.serialization.ConfigurationSerializable;
 
 interface IDataManager {
     void register(Class<? extends PluginData> dataClass, String sectionPath);
+    void registerLazy(Class<? extends PluginData> dataClass, String sectionPath, int maxCached);
     <T extends PluginData> T get(Class<T> dataClass, String id);
+    <T extends PluginData> boolean exists(Class<T> dataClass, String id);
     <T extends PluginData> void set(String id, T data);
+    void commit(DataBatch batch);
     <T extends PluginData> boolean remove(Class<T> dataClass, String id);
     <T extends PluginData> Collection<T> getAll(Class<T> dataClass);
     <T extends PluginData> Set<String> getAllKeys(Class<T> dataClass);
+    void flush();
+    void shutdown();
+    int migrateTo(String storeName) throws IOException;
+    <T extends PluginData> void preload(Class<T> dataClass, String id);
+    <T extends PluginData> void pin(Class<T> dataClass, String id);
+    <T extends PluginData> void unpin(Class<T> dataClass, String id);
 }
 
 public class DataManager implements IDataManager {
     private final RandomEvents plugin;
-    private FileConfiguration dataConfig = null;
-    private File configFile = null;
+    private DataStore store;
     private final Gson gson;
     
     // Registry for data types and their config paths
     private final Map<Class<? extends PluginData>, String> registeredTypes = new ConcurrentHashMap<>();
     private final Map<Class<? extends PluginData>, Map<String, PluginData>> cache = new ConcurrentHashMap<>();
-    // Registry for field metadata to optimize serialization/deserialization
-    private final Map<Class<? extends PluginData>, List<FieldMetadata>> fieldMetadata = new ConcurrentHashMap<>();
+    // Lazily loaded types keep only pinned and recently used records in memory, everything else stays in the store
+    private final Map<Class<? extends PluginData>, LazyDataCache> lazyCaches = new ConcurrentHashMap<>();
+    // Every type registered as lazy, including ones loaded eagerly because the store cannot read records on demand
+    private final Map<Class<? extends PluginData>, LazyDataCache> lazyTypes = new ConcurrentHashMap<>();
+    // Records of lazy types being loaded off the main thread, with the callbacks waiting for them
+    private final Map<Class<? extends PluginData>, Map<String, List<Runnable>>> loading = new ConcurrentHashMap<>();
+    // Lazy records handed to the writer but not yet stored, counted per batch; they must not be evicted or reloaded
+    private final Map<Class<? extends PluginData>, Map<String, Integer>> inFlight = new ConcurrentHashMap<>();
+    // Codecs built at registration, so loading and saving records needs no reflective lookups
+    private final Map<Class<? extends PluginData>, PluginDataCodec<?>> codecs = new ConcurrentHashMap<>();
+
+    private static final int DEFAULT_FLUSH_INTERVAL = 5; // Seconds between write-behind flushes
+    private static final String DEFAULT_STORE = YamlDataStore.NAME;
+    private static final int DEFAULT_PLAYER_CACHE_SIZE = 1000; // Offline players kept in memory
+    // IDs changed since the last flush, per data type; flushed entries missing from the cache are removed
+    private final Map<Class<? extends PluginData>, Set<String>> dirty = new ConcurrentHashMap<>();
+    // Single writer so batches reach the store in the order they were collected
+    private final ExecutorService writer = Executors.newSingleThreadExecutor(r -> {
+        Thread thread = new Thread(r, "RandomEvents-DataWriter");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private BukkitTask flushTask;
 
     public DataManager(RandomEvents plugin) {
         this.plugin = plugin;
         this.gson = new GsonBuilder()
             .serializeNulls()
             .create();
-        saveDefaultConfig();
         reloadData();
         
         // Register data types
         register(WorldData.class, "accepted-worlds");
-        register(PlayerData.class, "players");
+        int playerCacheSize = getPlayerCacheSize();
+        if (playerCacheSize > 0) {
+            registerLazy(PlayerData.class, "players", playerCacheSize);
+        } else {
+            register(PlayerData.class, "players");
+        }
+
+        startFlushTask();
+    }
+
+    /**
+     * Starts the write-behind flush task, unless writes are configured to go straight to disk
+     */
+    private void startFlushTask() {
+        int interval = getFlushInterval();
+        if (interval <= 0) {
+            plugin.getLogger().info("DataManager write-behind disabled, saving on every change");
+            return;
+        }
+        long ticks = interval * 20L;
+        flushTask = new BukkitRunnable() {
+            @Override
+            public void run() {
+                flushAsync();
+            }
+        }.runTaskTimer(plugin, ticks, ticks);
+    }
+
+    private int getFlushInterval() {
+        ConfigManager configManager = plugin.getConfigManager();
+        Integer interval = configManager != null ? configManager.getSettingIntValue("dataFlushInterval") : null;
+        return interval != null ? interval : DEFAULT_FLUSH_INTERVAL;
+    }
+
+    private int getPlayerCacheSize() {
+        ConfigManager configManager = plugin.getConfigManager();
+        Integer size = configManager != null ? configManager.getSettingIntValue("playerDataCacheSize") : null;
+        return size != null ? size : DEFAULT_PLAYER_CACHE_SIZE;
     }
 
     /**
@@ -65,44 +137,57 @@ public class DataManager implements IDataManager {
         registeredTypes.put(dataClass, sectionPath);
         cache.put(dataClass, new ConcurrentHashMap<>());
         
-        // Analyze class structure and cache field metadata
+        // Analyze class structure and build its codec
         analyzeClassStructure(dataClass);
         
         loadDataType(dataClass);
     }
-    
+
     /**
-     * Dynamically analyze the class structure to optimize serialization/deserialization
+     * Register a data type that is loaded on demand instead of all at once.
+     * Records stay in memory while pinned and are otherwise kept in a bounded LRU.
+     * Stores that keep all data in memory anyway cannot do this, so the type is loaded eagerly until the store changes.
+     * @param dataClass The data type
+     * @param sectionPath The section the records are stored under
+     * @param maxCached The maximum number of unpinned records kept in memory
      */
-    private void analyzeClassStructure(Class<? extends PluginData> dataClass) {
-        List<FieldMetadata> fields = new ArrayList<>();
-        
-        // Get all declared fields including inherited ones
-        Class<?> currentClass = dataClass;
-        while (currentClass != null && currentClass != Object.class) {
-            for (Field field : currentClass.getDeclaredFields()) {
-                // Skip static and synthetic fields
-                if (Modifier.isStatic(field.getModifiers()) || field.isSynthetic()) {
-                    continue;
-                }
-                
-                fields.add(new FieldMetadata(field));
-            }
-            currentClass = currentClass.getSuperclass();
+    @Override
+    public void registerLazy(Class<? extends PluginData> dataClass, String sectionPath, int maxCached) {
+        registeredTypes.put(dataClass, sectionPath);
+        LazyDataCache lazyCache = new LazyDataCache(maxCached);
+        lazyTypes.put(dataClass, lazyCache);
+        inFlight.put(dataClass, new ConcurrentHashMap<>());
+        loading.put(dataClass, new HashMap<>());
+
+        // Analyze class structure and build its codec
+        analyzeClassStructure(dataClass);
+        if (!store.readsOnDemand()) {
+            warnNotLazy(dataClass);
+            cache.put(dataClass, new ConcurrentHashMap<>());
+            loadDataType(dataClass);
+            return;
         }
-        
-        fieldMetadata.put(dataClass, fields);
+        lazyCaches.put(dataClass, lazyCache);
+        plugin.getLogger().info(dataClass.getSimpleName() + " records load on demand, keeping up to " + maxCached + " offline");
+    }
+
+    private void warnNotLazy(Class<? extends PluginData> dataClass) {
+        plugin.getLogger().warning("The " + store.getName() + " store keeps all data in memory, so " + dataClass.getSimpleName()
+            + " records are loaded all at once. Use the " + JournalDataStore.NAME + " store to load them on demand.");
+    }
+    
+    /**
+     * Dynamically analyze the class structure and build the codec used for serialization/deserialization
+     */
+    private <T extends PluginData> void analyzeClassStructure(Class<T> dataClass) {
+        PluginDataCodec<T> codec = new PluginDataCodec<>(dataClass, plugin.getServer(), gson);
+        codecs.put(dataClass, codec);
         
         // Log discovered non-transient fields for debugging
+        String[] fieldNames = codec.getFieldNames();
         plugin.getLogger().info("Registered " + dataClass.getSimpleName() + 
-                               " with " + fields.stream()
-                                              .filter(f -> !Modifier.isTransient(f.field.getModifiers()))
-                                              .count() + " serializable fields: " +
-                               fields.stream()
-                                    .filter(f -> !Modifier.isTransient(f.field.getModifiers()))
-                                    .map(f -> f.name)
-                                    .reduce((a, b) -> a + ", " + b)
-                                    .orElse("none"));
+                               " with " + fieldNames.length + " serializable fields: " +
+                               (fieldNames.length == 0 ? "none" : String.join(", ", fieldNames)));
     }
 
     /**
@@ -115,25 +200,242 @@ public class DataManager implements IDataManager {
             throw new IllegalArgumentException("Data type " + dataClass.getSimpleName() + " is not registered");
         }
         
+        LazyDataCache lazyCache = lazyCaches.get(dataClass);
+        if (lazyCache != null) {
+            return (T) getLazy(dataClass, lazyCache, id);
+        }
+
         Map<String, PluginData> typeCache = cache.get(dataClass);
         return (T) typeCache.get(id);
     }
 
+    /**
+     * Checks whether a record exists without loading it
+     * @param dataClass The data type
+     * @param id The record ID
+     * @return True if the record is in memory or in the store and not removed since
+     */
+    @Override
+    public <T extends PluginData> boolean exists(Class<T> dataClass, String id) {
+        if (!registeredTypes.containsKey(dataClass)) {
+            throw new IllegalArgumentException("Data type " + dataClass.getSimpleName() + " is not registered");
+        }
+
+        LazyDataCache lazyCache = lazyCaches.get(dataClass);
+        if (lazyCache != null) {
+            if (lazyCache.get(id) != null) {
+                return true;
+            }
+            // Not cached but unsaved means it was removed and the store has not caught up yet
+            return !hasUnsavedChange(dataClass, id) && store.contains(registeredTypes.get(dataClass), id);
+        }
+        return cache.get(dataClass).containsKey(id);
+    }
+
+    /**
+     * Gets a record of a lazy type, loading it from the store on a cache miss.
+     * On the main thread a miss only starts an asynchronous load and returns null, so a tick never waits on the disk;
+     * use {@link #exists} to tell such a miss apart from a record that does not exist.
+     */
+    private PluginData getLazy(Class<? extends PluginData> dataClass, LazyDataCache lazyCache, String id) {
+        PluginData data = lazyCache.get(id);
+        if (data != null || hasUnsavedChange(dataClass, id)) {
+            // Not cached but unsaved means it was removed and the store has not caught up yet
+            return data;
+        }
+        if (plugin.getServer().isPrimaryThread() && plugin.isEnabled()) {
+            loadAsync(dataClass, id, null);
+            return null;
+        }
+
+        data = readRecord(dataClass, id);
+        if (data == null) {
+            return null;
+        }
+        data = lazyCache.putIfAbsent(id, data);
+        trimLazy(dataClass);
+        return data;
+    }
+
+    /**
+     * Reads a single record straight from the store
+     * @return The record, or null if it does not exist or cannot be decoded
+     */
+    private PluginData readRecord(Class<? extends PluginData> dataClass, String id) {
+        RecordReader record = store.loadRecord(registeredTypes.get(dataClass), id);
+        if (record == null) {
+            return null;
+        }
+        try {
+            return codecs.get(dataClass).read(id, record);
+        } catch (Throwable e) {
+            plugin.getLogger().log(Level.WARNING,
+                "Failed to load " + dataClass.getSimpleName() + " with id '" + id + "', skipping.", e);
+            return null;
+        }
+    }
+
+    /**
+     * Loads a record of a lazy type off the main thread, then runs a callback on the main thread.
+     * Concurrent requests for the same record share one load.
+     * @param then Runs once the record is cached, or known not to exist; may be null
+     */
+    private void loadAsync(Class<? extends PluginData> dataClass, String id, Runnable then) {
+        Map<String, List<Runnable>> typeLoads = loading.get(dataClass);
+        synchronized (typeLoads) {
+            List<Runnable> callbacks = typeLoads.get(id);
+            boolean started = callbacks != null;
+            if (!started) {
+                callbacks = new ArrayList<>();
+                typeLoads.put(id, callbacks);
+            }
+            if (then != null) {
+                callbacks.add(then);
+            }
+            if (started) return;
+        }
+
+        plugin.getServer().getScheduler().runTaskAsynchronously(plugin, () -> {
+            preload(dataClass, id);
+            List<Runnable> callbacks;
+            synchronized (typeLoads) {
+                callbacks = typeLoads.remove(id);
+            }
+            if (!callbacks.isEmpty() && plugin.isEnabled()) {
+                plugin.getServer().getScheduler().runTask(plugin, () -> callbacks.forEach(Runnable::run));
+            }
+        });
+    }
+
+    /**
+     * Loads a record of a lazy type into memory ahead of use. Call it off the main thread, where it reads the store directly.
+     * @param dataClass The data type
+     * @param id The record ID
+     */
+    @Override
+    public <T extends PluginData> void preload(Class<T> dataClass, String id) {
+        LazyDataCache lazyCache = lazyCaches.get(dataClass);
+        if (lazyCache != null) {
+            getLazy(dataClass, lazyCache, id);
+        }
+    }
+
+    /**
+     * Keeps a record of a lazy type in memory until it is unpinned; pins are counted
+     * @param dataClass The data type
+     * @param id The record ID, which does not need to be loaded yet
+     */
+    @Override
+    public <T extends PluginData> void pin(Class<T> dataClass, String id) {
+        // Pins are kept while the type is loaded eagerly, so they hold again if the store changes
+        LazyDataCache lazyCache = lazyTypes.get(dataClass);
+        if (lazyCache != null) {
+            lazyCache.pin(id);
+        }
+    }
+
+    /**
+     * Releases a pin, making the record evictable once no pins remain
+     * @param dataClass The data type
+     * @param id The record ID
+     */
+    @Override
+    public <T extends PluginData> void unpin(Class<T> dataClass, String id) {
+        LazyDataCache lazyCache = lazyTypes.get(dataClass);
+        if (lazyCache != null) {
+            lazyCache.unpin(id);
+            trimLazy(dataClass);
+        }
+    }
+
+    private boolean hasUnsavedChange(Class<? extends PluginData> dataClass, String id) {
+        Set<String> dirtyIds = dirty.get(dataClass);
+        if (dirtyIds != null && dirtyIds.contains(id)) {
+            return true;
+        }
+        Map<String, Integer> pending = inFlight.get(dataClass);
+        return pending != null && pending.containsKey(id);
+    }
+
+    private void trimLazy(Class<? extends PluginData> dataClass) {
+        LazyDataCache lazyCache = lazyCaches.get(dataClass);
+        if (lazyCache != null) {
+            lazyCache.trim(id -> !hasUnsavedChange(dataClass, id));
+        }
+    }
+
+    /**
+     * Gets the in-memory instance of a record, if any
+     */
+    private PluginData getCached(Class<? extends PluginData> dataClass, String id) {
+        LazyDataCache lazyCache = lazyCaches.get(dataClass);
+        if (lazyCache != null) {
+            return lazyCache.get(id);
+        }
+        Map<String, PluginData> typeCache = cache.get(dataClass);
+        return typeCache != null ? typeCache.get(id) : null;
+    }
+
     /**
      * Set/save a data instance
      */
     public <T extends PluginData> void set(String id, T data) {
+        stage(id, data);
+        requestSave();
+    }
+
+    /**
+     * Applies a batch of updates and saves them as one write
+     * @param batch The updates to apply
+     */
+    @Override
+    public void commit(DataBatch batch) {
+        if (batch.isEmpty()) return;
+        for (DataBatch.Update<?> update : batch.getUpdates()) {
+            applyUpdate(update, true);
+        }
+        requestSave();
+    }
+
+    private <T extends PluginData> void applyUpdate(DataBatch.Update<T> update, boolean deferMisses) {
+        T data = get(update.dataClass, update.id);
+        if (data == null) {
+            if (deferMisses && exists(update.dataClass, update.id)) {
+                // Stored but still loading; apply once it is in memory rather than replacing it with a fresh record
+                loadAsync(update.dataClass, update.id, () -> {
+                    applyUpdate(update, false);
+                    requestSave();
+                });
+                return;
+            }
+            data = update.ifAbsent.get();
+            if (data == null) return;
+        }
+        update.mutation.accept(data);
+        stage(update.id, data);
+    }
+
+    /**
+     * Puts an instance in the cache and marks it dirty, without triggering a save
+     */
+    private void stage(String id, PluginData data) {
         Class<? extends PluginData> dataClass = data.getClass();
         if (!registeredTypes.containsKey(dataClass)) {
             throw new IllegalArgumentException("Data type " + dataClass.getSimpleName() + " is not registered");
         }
 
+        // Dirty before cached, so a concurrent trim never evicts the unsaved record
+        dirty.computeIfAbsent(dataClass, k -> ConcurrentHashMap.newKeySet()).add(id);
+
         // Update cache
+        LazyDataCache lazyCache = lazyCaches.get(dataClass);
+        if (lazyCache != null) {
+            lazyCache.put(id, data);
+            trimLazy(dataClass);
+            return;
+        }
         Map<String, PluginData> typeCache = cache.get(dataClass);
         typeCache.put(id, data);
-
-        // Save to config
-        saveDataInstance(data);
     }
 
     /**
@@ -144,13 +446,22 @@ public class DataManager implements IDataManager {
             throw new IllegalArgumentException("Data type " + dataClass.getSimpleName() + " is not registered");
         }
 
+        LazyDataCache lazyCache = lazyCaches.get(dataClass);
+        if (lazyCache != null) {
+            boolean removalInFlight = inFlight.get(dataClass).containsKey(id) && lazyCache.get(id) == null;
+            // Dirty before removal, so a concurrent load cannot bring the stored record back
+            dirty.computeIfAbsent(dataClass, k -> ConcurrentHashMap.newKeySet()).add(id);
+            boolean existed = lazyCache.remove(id) != null ||
+                (!removalInFlight && store.contains(registeredTypes.get(dataClass), id));
+            requestSave();
+            return existed;
+        }
+
         Map<String, PluginData> typeCache = cache.get(dataClass);
         PluginData removed = typeCache.remove(id);
         
         if (removed != null) {
-            String sectionPath = registeredTypes.get(dataClass);
-            getData().set(sectionPath + "." + id, null);
-            saveData();
+            markDirty(dataClass, id);
             return true;
         }
         return false;
@@ -158,6 +469,7 @@ public class DataManager implements IDataManager {
 
     /**
      * Get all instances of a data type
+     * For lazy types this is a view that streams records from the store as it is iterated, without caching them
      */
     @SuppressWarnings("unchecked")
     public <T extends PluginData> Collection<T> getAll(Class<T> dataClass) {
@@ -165,350 +477,391 @@ public class DataManager implements IDataManager {
             throw new IllegalArgumentException("Data type " + dataClass.getSimpleName() + " is not registered");
         }
 
+        if (lazyCaches.containsKey(dataClass)) {
+            return new AbstractCollection<T>() {
+                @Override
+                public Iterator<T> iterator() {
+                    return (Iterator<T>) streamRecords(dataClass);
+                }
+
+                @Override
+                public int size() {
+                    return getAllKeys(dataClass).size();
+                }
+            };
+        }
+
         Map<String, PluginData> typeCache = cache.get(dataClass);
         return (Collection<T>) typeCache.values();
     }
 
     /**
-     * Load all data for a specific type from config
+     * Iterates every record of a lazy type: cached instances first, then the rest decoded from the store one at a time
+     */
+    private Iterator<PluginData> streamRecords(Class<? extends PluginData> dataClass) {
+        Map<String, PluginData> cached = lazyCaches.get(dataClass).snapshot();
+        Iterator<PluginData> cachedRecords = cached.values().iterator();
+        Iterator<String> storedIds = store.getIds(registeredTypes.get(dataClass)).iterator();
+
+        return new Iterator<>() {
+            private PluginData next;
+
+            @Override
+            public boolean hasNext() {
+                while (next == null) {
+                    if (cachedRecords.hasNext()) {
+                        next = cachedRecords.next();
+                    } else if (storedIds.hasNext()) {
+                        String id = storedIds.next();
+                        if (cached.containsKey(id)) continue;
+                        // Prefer an instance loaded since the iteration started; skip records removed but not yet saved
+                        PluginData current = getCached(dataClass, id);
+                        next = current != null ? current : hasUnsavedChange(dataClass, id) ? null : readRecord(dataClass, id);
+                    } else {
+                        return false;
+                    }
+                }
+                return true;
+            }
+
+            @Override
+            public PluginData next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                PluginData result = next;
+                next = null;
+                return result;
+            }
+        };
+    }
+
+    /**
+     * Load all data for a specific type from the store
      */
     private <T extends PluginData> void loadDataType(Class<T> dataClass) {
         String sectionPath = registeredTypes.get(dataClass);
-        ConfigurationSection section = getData().getConfigurationSection(sectionPath);
         Map<String, PluginData> typeCache = cache.get(dataClass);
-        
-        if (section == null) {
-            // Create the section if it doesn't exist
-            getData().createSection(sectionPath);
-            saveData();
-            return;
-        }
+        PluginDataCodec<?> codec = codecs.get(dataClass);
 
-        for (String id : section.getKeys(false)) {
+        store.load(sectionPath, (id, record) -> {
             try {
-                ConfigurationSection instanceSection = section.getConfigurationSection(id);
-                if (instanceSection == null) continue;
-
-                T instance = deserializeFromConfig(dataClass, instanceSection);
-                if (instance != null) {
-                    typeCache.put(id, instance);
-                }
-            } catch (Exception e) {
+                typeCache.put(id, codec.read(id, record));
+            } catch (Throwable e) {
                 plugin.getLogger().log(Level.WARNING, 
                     "Failed to load " + dataClass.getSimpleName() + " with id '" + id + "', skipping.", e);
             }
-        }
+        });
     }
 
     /**
-     * Save a single data instance to config
+     * Records a changed or removed instance so the next flush writes it
+     * @param dataClass The data type of the instance
+     * @param id The ID of the instance
      */
-    private void saveDataInstance(PluginData data) {
-        String sectionPath = registeredTypes.get(data.getClass());
-        String id = data.getId();
-        
-        try {
-            serializeToConfig(data, sectionPath + "." + id);
-            saveData();
-        } catch (Exception e) {
-            plugin.getLogger().log(Level.SEVERE, 
-                "Failed to save " + data.getClass().getSimpleName() + " with id '" + id + "'", e);
-        }
+    private void markDirty(Class<? extends PluginData> dataClass, String id) {
+        dirty.computeIfAbsent(dataClass, k -> ConcurrentHashMap.newKeySet()).add(id);
+        requestSave();
     }
 
     /**
-     * Deserialize a data object from config using cached field metadata
+     * Saves right away when write-behind is disabled; otherwise the flush task picks the change up
      */
-    private <T extends PluginData> T deserializeFromConfig(Class<T> dataClass, ConfigurationSection section) throws Exception {
-        // Try to find a suitable constructor
-        Constructor<T> constructor = findBestConstructor(dataClass);
-        
-        if (constructor == null) {
-            throw new IllegalArgumentException("No suitable constructor found for " + dataClass.getSimpleName());
+    private void requestSave() {
+        if (flushTask == null && plugin.isEnabled() && getFlushInterval() <= 0) {
+            flush();
         }
+    }
 
-        // Get constructor parameters
-        Class<?>[] paramTypes = constructor.getParameterTypes();
-        Object[] params = new Object[paramTypes.length];
-        
-        // Use cached field metadata for efficient deserialization
-        List<FieldMetadata> fields = fieldMetadata.get(dataClass);
-        if (fields == null) {
-            plugin.getLogger().warning("No field metadata found for " + dataClass.getSimpleName() + 
-                                     ". Make sure it's properly registered.");
-            throw new IllegalStateException("Class not properly registered: " + dataClass.getSimpleName());
-        }
-        
-        Map<String, Object> fieldValues = new HashMap<>();
-        
-        // Extract values from config using cached metadata
-        for (FieldMetadata fieldMeta : fields) {
-            if (!Modifier.isTransient(fieldMeta.field.getModifiers())) {
-                Object value = deserializeFieldValue(fieldMeta, section);
-                if (value != null) {
-                    fieldValues.put(fieldMeta.name, value);
+    /**
+     * Serializes the dirty instances into a batch of changes for the store.
+     * Must run on the main thread, since data objects are mutated there.
+     * @return The changes to write, empty if nothing changed since the last flush
+     */
+    private List<DataChange> collectChanges() {
+        List<DataChange> changes = new ArrayList<>();
+        for (Map.Entry<Class<? extends PluginData>, Set<String>> entry : dirty.entrySet()) {
+            Class<? extends PluginData> dataClass = entry.getKey();
+            String sectionPath = registeredTypes.get(dataClass);
+            Map<String, Integer> pending = inFlight.get(dataClass);
+            Iterator<String> ids = entry.getValue().iterator();
+            while (ids.hasNext()) {
+                String id = ids.next();
+                if (pending != null) {
+                    // Mark in flight before clearing dirty, so the record is never evictable in between
+                    pending.merge(id, 1, Integer::sum);
                 }
-            }
-        }
+                ids.remove();
 
-        // Match constructor parameters with field values
-        for (int i = 0; i < paramTypes.length; i++) {
-            Class<?> paramType = paramTypes[i];
-            
-            // Find a field value that matches this parameter type
-            for (Map.Entry<String, Object> entry : fieldValues.entrySet()) {
-                if (paramType.isAssignableFrom(entry.getValue().getClass()) || 
-                    (paramType.isPrimitive() && isCompatiblePrimitive(paramType, entry.getValue().getClass()))) {
-                    params[i] = entry.getValue();
-                    break;
+                PluginData data = getCached(dataClass, id);
+                if (data == null) {
+                    changes.add(DataChange.delete(sectionPath, id));
+                    continue;
                 }
-            }
-        }
-
-        T instance = constructor.newInstance(params);
-
-        // Find the single transient field that will be our handle to the YAML parent key
-        String primaryKey = section.getName();
-        Field transientField = null;
-        
-        for (FieldMetadata fieldMeta : fields) {
-            Field field = fieldMeta.field;
-            if (Modifier.isTransient(field.getModifiers())) {
-                if (transientField != null) {
-                    throw new IllegalStateException("Multiple transient fields found in " + dataClass.getSimpleName() + 
-                                                  ". Only one transient field (primary key) is allowed.");
+                try {
+                    changes.add(toChange(sectionPath, id, data));
+                } catch (Throwable e) {
+                    plugin.getLogger().log(Level.SEVERE,
+                        "Failed to save " + dataClass.getSimpleName() + " with id '" + id + "'", e);
                 }
-                transientField = field;
             }
         }
-        
-        if (transientField == null) {
-            throw new IllegalStateException("No transient field (primary key) found in " + dataClass.getSimpleName());
-        }
-
-        // Convert the YAML parent key to the right type and set it in our handle field
-        Object convertedKey = convertIdToFieldType(primaryKey, transientField.getType());
-        if (convertedKey == null) {
-            throw new IllegalStateException("Could not convert primary key '" + primaryKey + 
-                                          "' to type " + transientField.getType().getSimpleName());
-        }
-        transientField.set(instance, convertedKey);
-
-        return instance;
+        return changes;
     }
 
     /**
-     * Serialize a data object to config using cached field metadata
+     * Flushes pending changes, writing them on the background writer
      */
-    private void serializeToConfig(PluginData data, String basePath) throws IllegalAccessException {
-        Class<?> clazz = data.getClass();
-        
-        // Clear existing data at this path
-        getData().set(basePath, null);
-        
-        // Use cached field metadata for efficient serialization
-        List<FieldMetadata> fields = fieldMetadata.get(clazz);
-        if (fields == null) {
-            plugin.getLogger().warning("No field metadata found for " + clazz.getSimpleName() + 
-                                     ". Make sure it's properly registered.");
-            return;
+    private void flushAsync() {
+        List<DataChange> changes = collectChanges();
+        if (!changes.isEmpty()) {
+            DataStore target = store;
+            writer.execute(() -> writeChanges(target, changes));
         }
-        
-        for (FieldMetadata fieldMeta : fields) {
-            // Skip transient fields - they're just handles to YAML parent keys
-            if (Modifier.isTransient(fieldMeta.field.getModifiers())) {
-                continue;
-            }
+    }
 
-            Object value = fieldMeta.field.get(data);
-            if (value == null) continue;
-            
-            String fieldPath = basePath + "." + fieldMeta.name;
-            
-            // Handle different field types based on cached metadata
-            if (fieldMeta.isDirectlySerializable) {
-                getData().set(fieldPath, value);
-            } else if (fieldMeta.isUUID) {
-                getData().set(fieldPath, value.toString());
-            } else if (fieldMeta.isLocation) {
-                Location loc = (Location) value;
-                getData().set(fieldPath + ".world", loc.getWorld().getName());
-                getData().set(fieldPath + ".x", loc.getBlockX());
-                getData().set(fieldPath + ".y", loc.getBlockY());
-                getData().set(fieldPath + ".z", loc.getBlockZ());
-            } else if (fieldMeta.isEnum) {
-                getData().set(fieldPath, ((Enum<?>) value).name());
-            } else if (fieldMeta.isConfigSerializable) {
-                getData().set(fieldPath, ((ConfigurationSerializable) value).serialize());
-            } else if (fieldMeta.needsJsonSerialization) {
-                // For complex objects, store as JSON
-                getData().set(fieldPath, gson.toJson(value));
-            } else {
-                // Fallback to string representation
-                getData().set(fieldPath, value.toString());
-            }
+    /**
+     * Flushes pending changes and waits until they, and any earlier background writes, are stored
+     */
+    @Override
+    public void flush() {
+        List<DataChange> changes = collectChanges();
+        DataStore target = store;
+        try {
+            writer.submit(() -> writeChanges(target, changes)).get();
+        } catch (RejectedExecutionException e) {
+            // The writer is already shut down, so nothing else can be writing
+            writeChanges(target, changes);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            plugin.getLogger().log(Level.SEVERE, "Failed to flush data", e.getCause());
         }
     }
 
     /**
-     * Convert an ID string to the appropriate type for a field
+     * Stops the write-behind task, synchronously writes everything still pending and closes the store
      */
-    private Object convertIdToFieldType(String id, Class<?> targetType) {
+    @Override
+    public void shutdown() {
+        if (flushTask != null) {
+            flushTask.cancel();
+            flushTask = null;
+        }
+        flush();
+        writer.shutdown();
         try {
-            if (targetType == String.class) {
-                return id;
-            } else if (targetType == UUID.class) {
-                return UUID.fromString(id);
-            } else if (targetType == Integer.class || targetType == int.class) {
-                return Integer.parseInt(id);
-            } else if (targetType == Long.class || targetType == long.class) {
-                return Long.parseLong(id);
+            if (!writer.awaitTermination(10, TimeUnit.SECONDS)) {
+                plugin.getLogger().warning("Timed out waiting for pending data writes to finish");
             }
-            // Add more type conversions as needed
-        } catch (Exception e) {
-            // Return null if conversion fails
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
         }
-        return null;
+        closeStore();
     }
 
     /**
-     * Deserialize a field value from config using field metadata
+     * Writes a batch to a store; on failure the instances are marked dirty again so the next flush retries them
+     * @param target The store to write to
+     * @param changes The changes to write
      */
-    @SuppressWarnings({ "unchecked", "rawtypes" })
-    private Object deserializeFieldValue(FieldMetadata fieldMeta, ConfigurationSection section) {
-        if (!section.contains(fieldMeta.name)) {
-            return null;
+    private void writeChanges(DataStore target, List<DataChange> changes) {
+        if (changes.isEmpty()) return;
+        boolean failed = false;
+        try {
+            target.write(changes);
+        } catch (IOException e) {
+            failed = true;
+            plugin.getLogger().log(Level.SEVERE, "Could not save " + changes.size() + " data changes to the "
+                + target.getName() + " store, retrying on the next flush", e);
         }
 
-        if (fieldMeta.isUUID) {
-            String uuidStr = section.getString(fieldMeta.name);
-            return uuidStr != null ? UUID.fromString(uuidStr) : null;
-        } else if (fieldMeta.isLocation) {
-            ConfigurationSection locSection = section.getConfigurationSection(fieldMeta.name);
-            if (locSection != null) {
-                String worldName = locSection.getString("world");
-                int x = locSection.getInt("x");
-                int y = locSection.getInt("y");
-                int z = locSection.getInt("z");
-                return new Location(plugin.getServer().getWorld(worldName), x, y, z);
+        Set<Class<? extends PluginData>> touchedLazyTypes = new HashSet<>();
+        for (DataChange change : changes) {
+            Class<? extends PluginData> dataClass = getTypeForSection(change.getSectionPath());
+            if (dataClass == null) continue;
+            if (failed) {
+                dirty.computeIfAbsent(dataClass, k -> ConcurrentHashMap.newKeySet()).add(change.getId());
             }
-        } else if (fieldMeta.isEnum) {
-            String enumName = section.getString(fieldMeta.name);
-            if (enumName != null) {
-                Class<? extends Enum> enumClass = (Class<? extends Enum>) fieldMeta.type;
-                return Enum.valueOf(enumClass, enumName);
+            Map<String, Integer> pending = inFlight.get(dataClass);
+            if (pending != null) {
+                pending.computeIfPresent(change.getId(), (id, count) -> count > 1 ? count - 1 : null);
+                touchedLazyTypes.add(dataClass);
             }
-        } else if (fieldMeta.isConfigSerializable) {
-            try {
-                ConfigurationSection subSection = section.getConfigurationSection(fieldMeta.name);
-                if (subSection != null) {
-                    Map<String, Object> serialized = subSection.getValues(true);
-                    return fieldMeta.type.getConstructor(Map.class).newInstance(serialized);
-                }
-            } catch (Exception e) {
-                plugin.getLogger().warning("Failed to deserialize ConfigurationSerializable field " + 
-                                        fieldMeta.name + " of type " + fieldMeta.type.getName() + ": " + e.getMessage());
+        }
+        // Records that were only held back because they were unsaved can be evicted now
+        for (Class<? extends PluginData> dataClass : touchedLazyTypes) {
+            trimLazy(dataClass);
+        }
+    }
+
+    private Class<? extends PluginData> getTypeForSection(String sectionPath) {
+        for (Map.Entry<Class<? extends PluginData>, String> type : registeredTypes.entrySet()) {
+            if (type.getValue().equals(sectionPath)) {
+                return type.getKey();
             }
-        } else if (fieldMeta.needsJsonSerialization) {
-            String json = section.getString(fieldMeta.name);
-            return json != null ? gson.fromJson(json, fieldMeta.type) : null;
-        } else if (fieldMeta.isDirectlySerializable) {
-            return section.get(fieldMeta.name);
         }
-        
         return null;
     }
 
     /**
-     * Find the best constructor for deserialization
+     * Copies every loaded record into another store, replacing its contents.
+     * The active store is not changed; switch the dataStore setting and reload to start using the copy.
+     * @param storeName The name of the store to migrate to
+     * @return The number of records copied
+     * @throws IOException If the target store could not be written
      */
-    private <T> Constructor<T> findBestConstructor(Class<T> clazz) {
-        Constructor<?>[] constructors = clazz.getConstructors();
-        
-        // Prefer constructors with more parameters (likely the main constructor)
-        Arrays.sort(constructors, (a, b) -> Integer.compare(b.getParameterCount(), a.getParameterCount()));
-        
-        @SuppressWarnings("unchecked")
-        Constructor<T> bestConstructor = (Constructor<T>) constructors[0];
-        return bestConstructor;
+    @Override
+    public int migrateTo(String storeName) throws IOException {
+        if (store.getName().equalsIgnoreCase(storeName)) {
+            throw new IllegalArgumentException("Data is already stored in the " + store.getName() + " store");
+        }
+        DataStore target = createStore(storeName);
+        if (target == null) {
+            throw new IllegalArgumentException("Unknown data store '" + storeName + "'");
+        }
+        flush();
+
+        List<DataChange> changes = new ArrayList<>();
+        for (Map.Entry<Class<? extends PluginData>, String> type : registeredTypes.entrySet()) {
+            for (PluginData data : getAll(type.getKey())) {
+                try {
+                    changes.add(toChange(type.getValue(), data.getId(), data));
+                } catch (Throwable e) {
+                    throw new IOException("Failed to serialize " + type.getKey().getSimpleName() + " with id '" + data.getId() + "'", e);
+                }
+            }
+        }
+
+        try {
+            target.open();
+            target.clear();
+            target.write(changes);
+        } finally {
+            target.close();
+        }
+        plugin.getLogger().info("Migrated " + changes.size() + " records from the " + store.getName()
+            + " store to the " + target.getName() + " store");
+        return changes.size();
     }
 
     /**
-     * Check if primitive types are compatible
+     * Serialize a data object into an upsert using its codec
      */
-    private boolean isCompatiblePrimitive(Class<?> primitiveType, Class<?> wrapperType) {
-        Map<Class<?>, Class<?>> primitiveToWrapper = Map.of(
-            int.class, Integer.class,
-            long.class, Long.class,
-            double.class, Double.class,
-            float.class, Float.class,
-            boolean.class, Boolean.class,
-            byte.class, Byte.class,
-            short.class, Short.class,
-            char.class, Character.class
-        );
-        
-        return primitiveToWrapper.get(primitiveType) == wrapperType;
+    private DataChange toChange(String sectionPath, String id, PluginData data) throws Throwable {
+        PluginDataCodec<?> codec = codecs.get(data.getClass());
+        return DataChange.upsert(sectionPath, id, codec.getFieldNames(), codec.write(data));
     }
 
     /**
      * Get all primary keys for a given data class
-     * These are the direct child keys under the class's section in the YAML
      */
     public <T extends PluginData> Set<String> getAllKeys(Class<T> dataClass) {
         if (!registeredTypes.containsKey(dataClass)) {
             throw new IllegalArgumentException("Data type " + dataClass.getSimpleName() + " is not registered");
         }
 
-        String sectionPath = registeredTypes.get(dataClass);
-        ConfigurationSection section = getData().getConfigurationSection(sectionPath);
-        
-        if (section == null) {
-            return new HashSet<>();
+        LazyDataCache lazyCache = lazyCaches.get(dataClass);
+        if (lazyCache != null) {
+            Set<String> keys = store.getIds(registeredTypes.get(dataClass));
+            // Drop records removed but not yet saved, then add ones created since the last flush
+            keys.removeIf(id -> hasUnsavedChange(dataClass, id) && lazyCache.get(id) == null);
+            keys.addAll(lazyCache.snapshot().keySet());
+            return keys;
         }
 
-        return new HashSet<>(section.getKeys(false));
+        // The cache is authoritative; the store can lag behind it until the next flush
+        return new HashSet<>(cache.get(dataClass).keySet());
     }
 
-    // File management methods
+    // Store management methods
     public void reloadData() {
-        if (configFile == null) {
-            configFile = new File(plugin.getDataFolder(), "data.yml");
+        // Write pending changes first so a reload never discards them, and the new store reads them back
+        if (store != null) {
+            flush();
         }
-        dataConfig = YamlConfiguration.loadConfiguration(configFile);
 
-        // Reload all registered types
+        String storeName = getConfiguredStoreName();
+        DataStore next = createStore(storeName);
+        if (next == null) {
+            plugin.getLogger().warning("Unknown data store '" + storeName + "', falling back to " + DEFAULT_STORE);
+            next = createStore(DEFAULT_STORE);
+        }
+        try {
+            next.open();
+        } catch (IOException ex) {
+            if (store == null) {
+                // Running without a store would silently drop every change, so refuse to start instead
+                throw new IllegalStateException("Could not read data from the " + next.getName()
+                    + " store. Fix or move the data files away and restart; nothing has been written to them.", ex);
+            }
+            plugin.getLogger().log(Level.SEVERE, "Could not read data from the " + next.getName()
+                + " store, still using the " + store.getName() + " store", ex);
+            return;
+        }
+
+        if (store != null) {
+            closeStore();
+        }
+        store = next;
+        dirty.clear();
+
+        // Reload all registered types; lazy types keep their pins and reload records on demand
         for (Class<? extends PluginData> dataClass : registeredTypes.keySet()) {
+            LazyDataCache lazyCache = lazyTypes.get(dataClass);
+            if (lazyCache != null) {
+                lazyCache.clear();
+                if (store.readsOnDemand()) {
+                    lazyCaches.put(dataClass, lazyCache);
+                    cache.remove(dataClass);
+                    continue;
+                }
+                lazyCaches.remove(dataClass);
+                warnNotLazy(dataClass);
+            }
             cache.put(dataClass, new ConcurrentHashMap<>());
             loadDataType(dataClass);
         }
     }
 
-    public FileConfiguration getData() {
-        if (dataConfig == null) {
-            reloadData();
-        }
-        return dataConfig;
+    private String getConfiguredStoreName() {
+        ConfigManager configManager = plugin.getConfigManager();
+        String name = configManager != null ? configManager.getSettingStringValue("dataStore") : null;
+        return name != null ? name : DEFAULT_STORE;
     }
 
-    public void saveData() {
-        if (dataConfig == null || configFile == null) {
-            return;
+    /**
+     * Creates a store by name
+     * @param name The store name from the dataStore setting
+     * @return The store, or null if the name is unknown
+     */
+    private DataStore createStore(String name) {
+        if (YamlDataStore.NAME.equalsIgnoreCase(name)) {
+            File dataFile = new File(plugin.getDataFolder(), "data.yml");
+            if (!dataFile.exists()) {
+                plugin.saveResource("data.yml", false);
+            }
+            return new YamlDataStore(dataFile);
+        }
+        if (JournalDataStore.NAME.equalsIgnoreCase(name)) {
+            return new JournalDataStore(plugin.getDataFolder(), plugin.getLogger());
         }
+        return null;
+    }
+
+    private void closeStore() {
         try {
-            getData().save(configFile);
+            store.close();
         } catch (IOException ex) {
-            plugin.getLogger().log(Level.SEVERE, "Could not save config to " + configFile, ex);
+            plugin.getLogger().log(Level.SEVERE, "Could not close the " + store.getName() + " store", ex);
         }
     }
 
-    public void saveDefaultConfig() {
-        if (configFile == null) {
-            configFile = new File(plugin.getDataFolder(), "data.yml");
-        }
-        if (!configFile.exists()) {
-            plugin.saveResource("data.yml", false);
-        }
+    /**
+     * @return The name of the active data store
+     */
+    public String getStoreName() {
+        return store.getName();
     }
 
 }
@@ -1,17 +1,29 @@
 package nc.randomEvents.services;
 
 import nc.randomEvents.RandomEvents;
+import nc.randomEvents.services.scheduling.TimingWheel;
 
 public class DisableManager {
     private final SessionRegistry sessionRegistry;
+    private final DataManager dataManager;
+    private final RewardGenerator rewardGenerator;
+    private final TimingWheel timingWheel;
 
     public DisableManager(RandomEvents plugin) {
         this.sessionRegistry = plugin.getSessionRegistry();
+        this.dataManager = plugin.getDataManager();
+        this.rewardGenerator = plugin.getRewardGenerator();
+        this.timingWheel = plugin.getTimingWheel();
     }
     
     public void disablePlugin() {
         sessionRegistry.forceCleanupAll();
         sessionRegistry.endAll();
+        // Sessions write player stats as they end, so flush only once they are all gone
+        dataManager.shutdown();
+        rewardGenerator.shutdown();
+        // Every session has ended, so nothing left on the wheel belongs to a live session
+        timingWheel.shutdown();
     }
     
 }
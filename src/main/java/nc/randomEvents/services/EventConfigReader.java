@@ -0,0 +1,62 @@
+package nc.randomEvents.services;
+
+/**
+ * Reads the values of one event's config section while a ConfigView is being compiled.
+ * Invalid values go through the same validation and default fallback as the ConfigManager getters.
+ */
+public final class EventConfigReader {
+    private final ConfigManager configManager;
+    private final String eventName;
+
+    EventConfigReader(ConfigManager configManager, String eventName) {
+        this.configManager = configManager;
+        this.eventName = eventName;
+    }
+
+    /**
+     * @param key The key within the event section
+     * @param fallback The value to use if neither the config nor the defaults have a valid one
+     * @return The configured int value
+     */
+    public int getInt(String key, int fallback) {
+        Integer value = configManager.getIntValue(eventName, key);
+        return value != null ? value : fallback;
+    }
+
+    /**
+     * @param key The key within the event section
+     * @param fallback The value to use if neither the config nor the defaults have a valid one
+     * @return The configured double value
+     */
+    public double getDouble(String key, double fallback) {
+        Double value = configManager.getDoubleValue(eventName, key);
+        return value != null ? value : fallback;
+    }
+
+    /**
+     * @param key The key within the event section
+     * @param fallback The value to use if neither the config nor the defaults have a valid one
+     * @return The configured boolean value
+     */
+    public boolean getBoolean(String key, boolean fallback) {
+        Boolean value = configManager.getBooleanValue(eventName, key);
+        return value != null ? value : fallback;
+    }
+
+    /**
+     * @param key The key within the global settings section
+     * @param fallback The value to use if neither the config nor the defaults have a valid one
+     * @return The configured int value
+     */
+    public int getSettingInt(String key, int fallback) {
+        Integer value = configManager.getSettingIntValue(key);
+        return value != null ? value : fallback;
+    }
+
+    /**
+     * @return The name of the event whose section is being read
+     */
+    public String getEventName() {
+        return eventName;
+    }
+}
@@ -9,6 +9,8 @@ import nc.randomEvents.events.tests.BaseEventTest;
 import nc.randomEvents.events.tests.EntityManagerTest;
 import nc.randomEvents.events.tests.EquipmentManagerTest;
 import nc.randomEvents.events.tests.ItemHelperTest;
+import nc.randomEvents.events.tests.JournalDataStoreTest;
+import nc.randomEvents.events.tests.TimingWheelTest;
 import nc.randomEvents.events.tests.ContainerManagerTest;
 import nc.randomEvents.events.LootGoblin.LootGoblinEvent;
 import nc.randomEvents.events.Sheepocalypse.SheepocalypseEvent;
@@ -47,6 +49,8 @@ public class EventManager {
         addEvent(new SheepocalypseEvent(plugin));
         addEvent(new MeteorEvent(plugin));
         addEvent(new ContainerManagerTest(plugin));
+        addEvent(new JournalDataStoreTest(plugin));
+        addEvent(new TimingWheelTest(plugin));
         addEvent(new QuestEvent(plugin));
     }
 
@@ -55,6 +59,16 @@ public class EventManager {
     }
 
     public boolean startEvent(String eventName) {
+        return startEvent(eventName, null);
+    }
+
+    /**
+     * Starts an event for all players in accepted worlds
+     * @param eventName The name of the event
+     * @param seed The seed for the session's random streams, or null for a random one
+     * @return true if the event was started
+     */
+    public boolean startEvent(String eventName, Long seed) {
         BaseEvent event = events.get(eventName.toLowerCase());
         if (event != null) {
             List<String> acceptedWorlds = plugin.getDataManager().getAll(WorldData.class).stream()
@@ -76,7 +90,11 @@ public class EventManager {
             }
 
             // Create and start a new session
-            new EventSession(plugin, event, playersInAcceptedWorlds);
+            if (seed != null) {
+                new EventSession(plugin, event, playersInAcceptedWorlds, seed);
+            } else {
+                new EventSession(plugin, event, playersInAcceptedWorlds);
+            }
 
             plugin.getLogger().info("Started event: " + eventName + " for players in accepted worlds: " + String.join(", ", acceptedWorlds));
             return true;
@@ -0,0 +1,110 @@
+package nc.randomEvents.services;
+
+import nc.randomEvents.core.PluginData;
+
+import java.util.*;
+import java.util.function.Predicate;
+
+/**
+ * In-memory cache for a lazily loaded data type.
+ * Pinned records (e.g. online players) are always kept; the rest live in a bounded, access-ordered LRU.
+ * Pins may be taken before a record is loaded, in which case it is pinned as soon as it arrives.
+ */
+final class LazyDataCache {
+    private final int maxUnpinned;
+    private final Map<String, PluginData> pinned = new HashMap<>();
+    private final Map<String, Integer> pinCounts = new HashMap<>();
+    private final LinkedHashMap<String, PluginData> recent = new LinkedHashMap<>(16, 0.75f, true);
+
+    LazyDataCache(int maxUnpinned) {
+        this.maxUnpinned = maxUnpinned;
+    }
+
+    synchronized PluginData get(String id) {
+        PluginData data = pinned.get(id);
+        return data != null ? data : recent.get(id);
+    }
+
+    synchronized void put(String id, PluginData data) {
+        if (pinCounts.containsKey(id)) {
+            pinned.put(id, data);
+        } else {
+            recent.put(id, data);
+        }
+    }
+
+    /**
+     * Caches a freshly loaded record unless a newer instance is already cached
+     * @param id The record ID
+     * @param data The loaded instance
+     * @return The cached instance
+     */
+    synchronized PluginData putIfAbsent(String id, PluginData data) {
+        PluginData existing = get(id);
+        if (existing != null) {
+            return existing;
+        }
+        put(id, data);
+        return data;
+    }
+
+    synchronized PluginData remove(String id) {
+        PluginData removed = pinned.remove(id);
+        PluginData removedRecent = recent.remove(id);
+        return removed != null ? removed : removedRecent;
+    }
+
+    synchronized void pin(String id) {
+        if (pinCounts.merge(id, 1, Integer::sum) == 1) {
+            PluginData data = recent.remove(id);
+            if (data != null) {
+                pinned.put(id, data);
+            }
+        }
+    }
+
+    synchronized void unpin(String id) {
+        Integer count = pinCounts.get(id);
+        if (count == null) return;
+        if (count > 1) {
+            pinCounts.put(id, count - 1);
+            return;
+        }
+        pinCounts.remove(id);
+        PluginData data = pinned.remove(id);
+        if (data != null) {
+            recent.put(id, data);
+        }
+    }
+
+    /**
+     * Evicts the least recently used unpinned records until the LRU is back within its bound
+     * @param evictable Whether a record may be dropped (e.g. it has no unsaved changes)
+     */
+    synchronized void trim(Predicate<String> evictable) {
+        if (recent.size() <= maxUnpinned) return;
+        Iterator<String> eldest = recent.keySet().iterator();
+        while (recent.size() > maxUnpinned && eldest.hasNext()) {
+            if (evictable.test(eldest.next())) {
+                eldest.remove();
+            }
+        }
+    }
+
+    /**
+     * @return A copy of every cached record, pinned or not
+     */
+    synchronized Map<String, PluginData> snapshot() {
+        Map<String, PluginData> all = new HashMap<>(recent);
+        all.putAll(pinned);
+        return all;
+    }
+
+    /**
+     * Drops every cached record, keeping the pins so records are pinned again when reloaded
+     */
+    synchronized void clear() {
+        pinned.clear();
+        recent.clear();
+    }
+}
@@ -0,0 +1,398 @@
+package nc.randomEvents.services;
+
+import nc.randomEvents.core.DataConstructor;
+import nc.randomEvents.core.PluginData;
+import nc.randomEvents.services.storage.RecordReader;
+
+import org.bukkit.Location;
+import org.bukkit.Server;
+import org.bukkit.configuration.ConfigurationSection;
+import org.bukkit.configuration.serialization.ConfigurationSerializable;
+
+import com.google.gson.Gson;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.*;
+
+/**
+ * Reader and writer for one PluginData class, built once when the class is registered.
+ * All reflective lookups (fields, constructor, ID conversion) happen here up front, so loading
+ * or saving a record only invokes prebuilt method handles.
+ */
+final class PluginDataCodec<T extends PluginData> {
+    private final Class<T> dataClass;
+    private final Server server;
+    private final Gson gson;
+    private final List<FieldCodec> fields;
+    // Shared by every DataChange of this class, indexed like fields
+    private final String[] fieldNames;
+    private final Map<String, Integer> fieldIndex;
+    // (Object[]) -> Object, spreading the constructor arguments
+    private final MethodHandle constructor;
+    // Constructor parameter index -> index into fields, or -1 when no field matches
+    private final int[] constructorFields;
+    private final Object[] parameterDefaults;
+    // Fields not covered by the constructor, assigned after construction
+    private final List<FieldCodec> assignedFields;
+    private final MethodHandle idSetter;
+    private final Class<?> idType;
+
+    PluginDataCodec(Class<T> dataClass, Server server, Gson gson) {
+        this.dataClass = dataClass;
+        this.server = server;
+        this.gson = gson;
+
+        List<FieldCodec> serializable = new ArrayList<>();
+        Field idField = null;
+        // Superclass fields first, so declaration order matches record-style constructors
+        for (Class<?> current : hierarchy(dataClass)) {
+            for (Field field : current.getDeclaredFields()) {
+                // Skip static and synthetic fields
+                if (Modifier.isStatic(field.getModifiers()) || field.isSynthetic()) {
+                    continue;
+                }
+                if (Modifier.isTransient(field.getModifiers())) {
+                    if (idField != null) {
+                        throw new IllegalStateException("Multiple transient fields found in " + dataClass.getSimpleName() +
+                                                      ". Only one transient field (primary key) is allowed.");
+                    }
+                    idField = field;
+                    continue;
+                }
+                serializable.add(new FieldCodec(new FieldMetadata(field), serializable.size()));
+            }
+        }
+        if (idField == null) {
+            throw new IllegalStateException("No transient field (primary key) found in " + dataClass.getSimpleName());
+        }
+        this.fields = serializable;
+        this.fieldNames = new String[fields.size()];
+        this.fieldIndex = new HashMap<>();
+        for (int i = 0; i < fieldNames.length; i++) {
+            fieldNames[i] = fields.get(i).meta.name;
+            fieldIndex.put(fieldNames[i], i);
+        }
+
+        try {
+            idField.setAccessible(true);
+            this.idSetter = MethodHandles.lookup().unreflectSetter(idField)
+                .asType(MethodType.methodType(void.class, Object.class, Object.class));
+        } catch (IllegalAccessException e) {
+            throw new IllegalStateException("Cannot access primary key field of " + dataClass.getSimpleName(), e);
+        }
+        this.idType = idField.getType();
+        if (idType != String.class && idType != UUID.class && idType != Integer.class && idType != int.class &&
+            idType != Long.class && idType != long.class) {
+            throw new IllegalStateException("Unsupported primary key type " + idType.getSimpleName() + " in " + dataClass.getSimpleName());
+        }
+
+        Constructor<?> chosen = findConstructor();
+        Class<?>[] paramTypes = chosen.getParameterTypes();
+        this.constructorFields = chosen.isAnnotationPresent(DataConstructor.class)
+            ? mapCanonicalParameters(paramTypes)
+            : mapParametersByType(paramTypes);
+        this.parameterDefaults = new Object[paramTypes.length];
+        for (int i = 0; i < paramTypes.length; i++) {
+            parameterDefaults[i] = defaultValue(paramTypes[i]);
+        }
+
+        Set<Integer> covered = new HashSet<>();
+        for (int index : constructorFields) {
+            if (index >= 0) covered.add(index);
+        }
+        List<FieldCodec> assigned = new ArrayList<>();
+        for (int i = 0; i < fields.size(); i++) {
+            if (!covered.contains(i) && fields.get(i).setter != null) {
+                assigned.add(fields.get(i));
+            }
+        }
+        this.assignedFields = assigned;
+
+        try {
+            chosen.setAccessible(true);
+            this.constructor = MethodHandles.lookup().unreflectConstructor(chosen)
+                .asSpreader(Object[].class, paramTypes.length)
+                .asType(MethodType.methodType(Object.class, Object[].class));
+        } catch (IllegalAccessException e) {
+            throw new IllegalStateException("Cannot access constructor of " + dataClass.getSimpleName(), e);
+        }
+    }
+
+    /**
+     * @return The names of the serialized fields, in order; shared, do not modify
+     */
+    String[] getFieldNames() {
+        return fieldNames;
+    }
+
+    /**
+     * Builds an instance straight from a store's record
+     * @param id The record ID, assigned to the primary key field
+     * @param record The stored fields; unknown field names are ignored
+     * @return The loaded instance
+     */
+    T read(String id, RecordReader record) throws Throwable {
+        Object[] decoded = new Object[fields.size()];
+        record.forEachField((name, stored) -> {
+            Integer index = fieldIndex.get(name);
+            if (index != null) {
+                decoded[index] = stored;
+            }
+        });
+        for (int i = 0; i < decoded.length; i++) {
+            decoded[i] = fields.get(i).decode(decoded[i]);
+        }
+
+        Object[] args = new Object[constructorFields.length];
+        for (int i = 0; i < args.length; i++) {
+            int index = constructorFields[i];
+            Object value = index >= 0 ? decoded[index] : null;
+            args[i] = value != null ? value : parameterDefaults[i];
+        }
+        T instance = dataClass.cast((Object) constructor.invokeExact(args));
+
+        for (FieldCodec field : assignedFields) {
+            Object value = decoded[field.index];
+            if (value != null) {
+                field.setter.invokeExact((Object) instance, value);
+            }
+        }
+
+        Object key = convertId(id);
+        if (key == null) {
+            throw new IllegalStateException("Could not convert primary key '" + id +
+                                          "' to type " + idType.getSimpleName());
+        }
+        idSetter.invokeExact((Object) instance, key);
+        return instance;
+    }
+
+    /**
+     * Extracts the stored field values of an instance
+     * @param data The instance to save
+     * @return The field values by position in {@link #getFieldNames()}, null where the field is unset
+     */
+    Object[] write(PluginData data) throws Throwable {
+        Object[] values = new Object[fields.size()];
+        for (FieldCodec field : fields) {
+            Object value = (Object) field.getter.invokeExact((Object) data);
+            if (value != null) {
+                values[field.index] = field.encode(value);
+            }
+        }
+        return values;
+    }
+
+    /**
+     * Picks the annotated record-style constructor, or the public constructor with the most parameters
+     */
+    private Constructor<?> findConstructor() {
+        Constructor<?> annotated = null;
+        for (Constructor<?> candidate : dataClass.getDeclaredConstructors()) {
+            if (candidate.isAnnotationPresent(DataConstructor.class)) {
+                if (annotated != null) {
+                    throw new IllegalStateException("Multiple @DataConstructor constructors in " + dataClass.getSimpleName());
+                }
+                annotated = candidate;
+            }
+        }
+        if (annotated != null) {
+            return annotated;
+        }
+
+        Constructor<?>[] constructors = dataClass.getConstructors();
+        if (constructors.length == 0) {
+            throw new IllegalArgumentException("No suitable constructor found for " + dataClass.getSimpleName());
+        }
+        // Prefer constructors with more parameters (likely the main constructor)
+        Arrays.sort(constructors, (a, b) -> Integer.compare(b.getParameterCount(), a.getParameterCount()));
+        return constructors[0];
+    }
+
+    private int[] mapCanonicalParameters(Class<?>[] paramTypes) {
+        if (paramTypes.length != fields.size()) {
+            throw new IllegalStateException("@DataConstructor of " + dataClass.getSimpleName() + " takes " + paramTypes.length +
+                                          " parameters but the class has " + fields.size() + " serialized fields");
+        }
+        int[] mapping = new int[paramTypes.length];
+        for (int i = 0; i < paramTypes.length; i++) {
+            if (!box(paramTypes[i]).isAssignableFrom(box(fields.get(i).meta.type))) {
+                throw new IllegalStateException("@DataConstructor parameter " + i + " of " + dataClass.getSimpleName() +
+                                              " does not match field " + fields.get(i).meta.name);
+            }
+            mapping[i] = i;
+        }
+        return mapping;
+    }
+
+    private int[] mapParametersByType(Class<?>[] paramTypes) {
+        int[] mapping = new int[paramTypes.length];
+        for (int i = 0; i < paramTypes.length; i++) {
+            mapping[i] = -1;
+            // Find a field that matches this parameter type
+            for (int j = 0; j < fields.size(); j++) {
+                if (box(paramTypes[i]).isAssignableFrom(box(fields.get(j).meta.type))) {
+                    mapping[i] = j;
+                    break;
+                }
+            }
+        }
+        return mapping;
+    }
+
+    private Object convertId(String id) {
+        try {
+            if (idType == String.class) {
+                return id;
+            } else if (idType == UUID.class) {
+                return UUID.fromString(id);
+            } else if (idType == Integer.class || idType == int.class) {
+                return Integer.parseInt(id);
+            } else if (idType == Long.class || idType == long.class) {
+                return Long.parseLong(id);
+            }
+        } catch (IllegalArgumentException e) {
+            // Return null if conversion fails
+        }
+        return null;
+    }
+
+    private static List<Class<?>> hierarchy(Class<?> dataClass) {
+        Deque<Class<?>> classes = new ArrayDeque<>();
+        for (Class<?> current = dataClass; current != null && current != Object.class; current = current.getSuperclass()) {
+            classes.addFirst(current);
+        }
+        return new ArrayList<>(classes);
+    }
+
+    private static Class<?> box(Class<?> type) {
+        if (!type.isPrimitive()) return type;
+        return MethodType.methodType(type).wrap().returnType();
+    }
+
+    private static Object defaultValue(Class<?> type) {
+        if (!type.isPrimitive()) return null;
+        if (type == boolean.class) return false;
+        if (type == char.class) return '\0';
+        return convertNumber(0, type);
+    }
+
+    private static Object convertNumber(Number number, Class<?> type) {
+        Class<?> boxed = box(type);
+        if (boxed == Integer.class) return number.intValue();
+        if (boxed == Long.class) return number.longValue();
+        if (boxed == Double.class) return number.doubleValue();
+        if (boxed == Float.class) return number.floatValue();
+        if (boxed == Short.class) return number.shortValue();
+        if (boxed == Byte.class) return number.byteValue();
+        return number;
+    }
+
+    /**
+     * Prebuilt accessors and conversion for a single serialized field
+     */
+    private final class FieldCodec {
+        private final FieldMetadata meta;
+        private final int index;
+        // (Object) -> Object
+        private final MethodHandle getter;
+        // (Object, Object) -> void, or null for final fields
+        private final MethodHandle setter;
+        // (Map) -> Object for ConfigurationSerializable fields
+        private final MethodHandle mapConstructor;
+
+        private FieldCodec(FieldMetadata meta, int index) {
+            this.meta = meta;
+            this.index = index;
+            MethodHandles.Lookup lookup = MethodHandles.lookup();
+            try {
+                this.getter = lookup.unreflectGetter(meta.field)
+                    .asType(MethodType.methodType(Object.class, Object.class));
+                this.setter = Modifier.isFinal(meta.field.getModifiers()) ? null : lookup.unreflectSetter(meta.field)
+                    .asType(MethodType.methodType(void.class, Object.class, Object.class));
+            } catch (IllegalAccessException e) {
+                throw new IllegalStateException("Cannot access field " + meta.name + " of " + dataClass.getSimpleName(), e);
+            }
+
+            MethodHandle mapConstructor = null;
+            if (meta.isConfigSerializable) {
+                try {
+                    mapConstructor = lookup.findConstructor(meta.type, MethodType.methodType(void.class, Map.class))
+                        .asType(MethodType.methodType(Object.class, Map.class));
+                } catch (ReflectiveOperationException e) {
+                    // Loading this field is skipped, as before
+                }
+            }
+            this.mapConstructor = mapConstructor;
+        }
+
+        private Object encode(Object value) {
+            if (meta.isDirectlySerializable) {
+                return value;
+            } else if (meta.isUUID) {
+                return value.toString();
+            } else if (meta.isLocation) {
+                Location loc = (Location) value;
+                Map<String, Object> location = new LinkedHashMap<>();
+                location.put("world", loc.getWorld().getName());
+                location.put("x", loc.getBlockX());
+                location.put("y", loc.getBlockY());
+                location.put("z", loc.getBlockZ());
+                return location;
+            } else if (meta.isEnum) {
+                return ((Enum<?>) value).name();
+            } else if (meta.isConfigSerializable) {
+                return ((ConfigurationSerializable) value).serialize();
+            } else if (meta.needsJsonSerialization) {
+                // For complex objects, store as JSON
+                return gson.toJson(value);
+            }
+            // Fallback to string representation
+            return value.toString();
+        }
+
+        @SuppressWarnings({ "unchecked", "rawtypes" })
+        private Object decode(Object stored) throws Throwable {
+            if (stored == null) {
+                return null;
+            }
+            if (meta.isUUID) {
+                return UUID.fromString(stored.toString());
+            } else if (meta.isLocation) {
+                Map<?, ?> location = asMap(stored);
+                if (location == null) return null;
+                String worldName = String.valueOf(location.get("world"));
+                return new Location(server.getWorld(worldName),
+                    toInt(location.get("x")), toInt(location.get("y")), toInt(location.get("z")));
+            } else if (meta.isEnum) {
+                return Enum.valueOf((Class<? extends Enum>) meta.type, stored.toString());
+            } else if (meta.isConfigSerializable) {
+                Map<?, ?> serialized = asMap(stored);
+                return serialized != null && mapConstructor != null ? (Object) mapConstructor.invokeExact((Map) serialized) : null;
+            } else if (meta.needsJsonSerialization) {
+                return gson.fromJson(stored.toString(), meta.type);
+            } else if (meta.isDirectlySerializable) {
+                // Stores may widen or narrow numbers (e.g. YAML loads small longs as Integer)
+                if (stored instanceof Number number && (meta.type.isPrimitive() || Number.class.isAssignableFrom(meta.type))) {
+                    return convertNumber(number, meta.type);
+                }
+                return stored;
+            }
+            return null;
+        }
+    }
+
+    private static Map<?, ?> asMap(Object value) {
+        if (value instanceof Map<?, ?> map) return map;
+        if (value instanceof ConfigurationSection section) return section.getValues(false);
+        return null;
+    }
+
+    private static int toInt(Object value) {
+        return value instanceof Number number ? number.intValue() : 0;
+    }
+}
@@ -13,29 +13,38 @@ import java.io.File;
 import java.io.InputStreamReader;
 import java.io.Reader;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.EnumMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Random;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
 import java.util.logging.Level;
 import java.util.HashMap;
 
 interface IRewardGenerator {
     List<ItemStack> generateRewards(RewardGenerator.Tier tier, int numberOfItemStacksToGenerate);
     List<ItemStack> generateRewards(Map<RewardGenerator.Tier, Integer> tierQuantities);
+    CompletableFuture<List<ItemStack>> generateRewardsAsync(Map<RewardGenerator.Tier, Integer> tierQuantities);
+    void shutdown();
 }
 
-public class RewardGenerator {
+public class RewardGenerator implements IRewardGenerator {
     private final RandomEvents plugin;
     private FileConfiguration rewardsConfig = null;
     private File rewardsFile = null;
-    private final Random random = new Random();
-    // private final List<RewardItem> possibleRewards = new ArrayList<>();
-    // private int totalChanceWeight = 0;
-
-    private final Map<Tier, List<RewardItem>> possibleRewardsByTier = new EnumMap<>(Tier.class);
-    private final Map<Tier, Double> totalChanceWeightByTier = new EnumMap<>(Tier.class);
+    // Replaced whole on reload, so a roll in progress always sees one consistent table
+    private volatile RewardTable table = RewardTable.EMPTY;
+    private final ExecutorService workers = Executors.newFixedThreadPool(
+        Math.max(1, Math.min(4, Runtime.getRuntime().availableProcessors() - 1)), r -> {
+            Thread thread = new Thread(r, "RandomEvents-Rewards");
+            thread.setDaemon(true);
+            return thread;
+        });
 
     public enum Tier {
         BASIC, COMMON, RARE;
@@ -109,12 +118,12 @@ public class RewardGenerator {
             }
         }
 
-        possibleRewardsByTier.clear();
-        totalChanceWeightByTier.clear();
+        Map<Tier, AliasTable<RewardItem>> samplersByTier = new EnumMap<>(Tier.class);
 
         ConfigurationSection tiersSection = rewardsConfig.getConfigurationSection("tiers");
         if (tiersSection == null) {
             plugin.getLogger().warning("No 'tiers' section found in rewards.yml. No rewards will be loaded.");
+            table = RewardTable.EMPTY;
             return;
         }
 
@@ -154,8 +163,8 @@ public class RewardGenerator {
                     int minAmount = rewardsSection.getInt(itemKey + ".minAmount", 1);
                     int maxAmount = rewardsSection.getInt(itemKey + ".maxAmount", 1);
 
-                    if (minAmount <= 0 || maxAmount < minAmount || chance <= 0 || chance > 100) {
-                        plugin.getLogger().warning("Invalid amount/chance for " + itemKey + " in tier " + tierKey + " in rewards.yml. Chance must be between 0 and 100, amounts must be positive. Skipping.");
+                    if (minAmount <= 0 || maxAmount < minAmount || chance <= 0) {
+                        plugin.getLogger().warning("Invalid amount/chance for " + itemKey + " in tier " + tierKey + " in rewards.yml. Chance must be positive, amounts must be positive. Skipping.");
                         continue;
                     }
 
@@ -203,64 +212,63 @@ public class RewardGenerator {
             }
 
             if (!tierRewards.isEmpty()) {
-                // Validate total percentage is approximately 100%
+                // Chances are relative weights, so a total other than 100 still works
                 if (Math.abs(tierTotalChanceWeight - 100.0) > 0.01) {
-                    plugin.getLogger().warning("Total chance weight for tier " + currentTier + " is " + tierTotalChanceWeight + "%. It should sum to 100%.");
+                    plugin.getLogger().info("Total chance weight for tier " + currentTier + " is " + tierTotalChanceWeight + "%, chances will be scaled to sum to 100%.");
                 }
-                possibleRewardsByTier.put(currentTier, tierRewards);
-                totalChanceWeightByTier.put(currentTier, tierTotalChanceWeight);
+                samplersByTier.put(currentTier, new AliasTable<>(tierRewards, reward -> reward.chance));
                 plugin.getLogger().info("Loaded " + tierRewards.size() + " rewards for tier " + currentTier + " with total chance weight " + String.format("%.2f%%", tierTotalChanceWeight));
             } else {
                 plugin.getLogger().warning("No valid rewards loaded for tier " + currentTier + " from rewards.yml.");
             }
         }
-        if (possibleRewardsByTier.isEmpty()) {
+        if (samplersByTier.isEmpty()) {
             plugin.getLogger().warning("No valid rewards loaded from any tier in rewards.yml.");
         }
+        table = new RewardTable(samplersByTier);
     }
 
     public List<ItemStack> generateRewards(Tier tier, int numberOfItemStacksToGenerate) {
-        List<ItemStack> generatedItems = new ArrayList<>();
-        List<RewardItem> rewardsForTier = possibleRewardsByTier.get(tier);
-        Double tierTotalChanceWeight = totalChanceWeightByTier.get(tier);
+        return generateRewards(tier, numberOfItemStacksToGenerate, ThreadLocalRandom.current());
+    }
+
+    /**
+     * Generates rewards for one tier, drawing from the given random source
+     * @param tier The tier to roll
+     * @param numberOfItemStacksToGenerate The number of stacks to roll
+     * @param random The random source, e.g. a session stream so the rolls can be replayed
+     * @return The generated ItemStacks
+     */
+    public List<ItemStack> generateRewards(Tier tier, int numberOfItemStacksToGenerate, Random random) {
+        List<ItemStack> generatedItems = new ArrayList<>(Math.max(0, numberOfItemStacksToGenerate));
+        rollInto(generatedItems, table, tier, numberOfItemStacksToGenerate, random);
+        return generatedItems;
+    }
 
-        if (rewardsForTier == null || rewardsForTier.isEmpty() || tierTotalChanceWeight == null || tierTotalChanceWeight <= 0) {
+    /**
+     * Rolls rewards from one table into a list. Only reads immutable state, so it is safe on any thread.
+     * @param generatedItems The list to add the rolled stacks to
+     * @param rewardTable The table to roll from
+     * @param tier The tier to roll
+     * @param numberOfItemStacksToGenerate The number of stacks to roll
+     * @param random The random source of the calling thread
+     */
+    private void rollInto(List<ItemStack> generatedItems, RewardTable rewardTable, Tier tier, int numberOfItemStacksToGenerate, Random random) {
+        AliasTable<RewardItem> sampler = rewardTable.getSampler(tier);
+
+        if (sampler == null) {
             plugin.getLogger().warning("Cannot generate rewards for tier " + tier + ": No rewards loaded or total chance weight is zero for this tier.");
-            return generatedItems;
+            return;
         }
 
         for (int i = 0; i < numberOfItemStacksToGenerate; i++) {
-            double roll = random.nextDouble() * 100.0; // Roll between 0 and 100
-            double currentSum = 0.0;
-            RewardItem selectedReward = null;
-
-            for (RewardItem reward : rewardsForTier) {
-                currentSum += reward.chance;
-                if (roll < currentSum) {
-                    selectedReward = reward;
-                    break;
-                }
-            }
+            RewardItem selectedReward = sampler.sample(random);
 
             if (selectedReward != null) {
                 int amount = random.nextInt((selectedReward.maxAmount - selectedReward.minAmount) + 1) + selectedReward.minAmount;
-                ItemStack itemStack = new ItemStack(selectedReward.material, amount);
-
-                if (!selectedReward.enchantments.isEmpty()) {
-                    // Convert EnchantmentData to the format expected by ItemHelper
-                    List<Map<String, Object>> enchantmentList = new ArrayList<>();
-                    for (EnchantmentData enchData : selectedReward.enchantments) {
-                        Map<String, Object> enchMap = new HashMap<>();
-                        enchMap.put("name", enchData.enchantment.getKey().getKey());
-                        enchMap.put("level", enchData.level);
-                        enchantmentList.add(enchMap);
-                    }
-                    itemStack = ItemHelper.applyEnchantments(itemStack, enchantmentList);
-                }
-                generatedItems.add(itemStack);
+                generatedItems.add(selectedReward.createStack(amount));
             }
         }
-        return generatedItems;
     }
 
     /**
@@ -269,6 +277,16 @@ public class RewardGenerator {
      * @return List of all generated ItemStacks
      */
     public List<ItemStack> generateRewards(Map<Tier, Integer> tierQuantities) {
+        return generateRewards(tierQuantities, ThreadLocalRandom.current());
+    }
+
+    /**
+     * Generates rewards based on a map of tiers and their quantities, drawing from the given random source
+     * @param tierQuantities Map of Tier to number of items to generate for that tier
+     * @param random The random source, e.g. a session stream so the rolls can be replayed
+     * @return List of all generated ItemStacks
+     */
+    public List<ItemStack> generateRewards(Map<Tier, Integer> tierQuantities, Random random) {
         List<ItemStack> allGeneratedItems = new ArrayList<>();
         
         for (Map.Entry<Tier, Integer> entry : tierQuantities.entrySet()) {
@@ -276,13 +294,77 @@ public class RewardGenerator {
             int quantity = entry.getValue();
             
             if (quantity > 0) {
-                allGeneratedItems.addAll(generateRewards(tier, quantity));
+                allGeneratedItems.addAll(generateRewards(tier, quantity, random));
             }
         }
         
         return allGeneratedItems;
     }
 
+    /**
+     * Rolls rewards on a worker thread, e.g. to prepare large loot fills without spending tick time.
+     * All tiers are rolled from the same table, even if rewards are reloaded meanwhile.
+     * @param tierQuantities Map of Tier to number of items to generate for that tier
+     * @return A future completed on the main thread with all generated ItemStacks
+     */
+    public CompletableFuture<List<ItemStack>> generateRewardsAsync(Map<Tier, Integer> tierQuantities) {
+        Map<Tier, Integer> quantities = new EnumMap<>(Tier.class);
+        quantities.putAll(tierQuantities);
+        RewardTable rewardTable = table;
+
+        CompletableFuture<List<ItemStack>> result = new CompletableFuture<>();
+        CompletableFuture.supplyAsync(() -> {
+            List<ItemStack> allGeneratedItems = new ArrayList<>();
+            Random random = ThreadLocalRandom.current();
+            for (Map.Entry<Tier, Integer> entry : quantities.entrySet()) {
+                if (entry.getValue() > 0) {
+                    rollInto(allGeneratedItems, rewardTable, entry.getKey(), entry.getValue(), random);
+                }
+            }
+            return allGeneratedItems;
+        }, workers).whenComplete((items, error) -> {
+            // Hand the stacks back on the main thread, where they are safe to put into the world
+            if (!plugin.isEnabled()) {
+                complete(result, items, error);
+                return;
+            }
+            plugin.getServer().getScheduler().runTask(plugin, () -> complete(result, items, error));
+        });
+        return result;
+    }
+
+    private static <T> void complete(CompletableFuture<T> future, T value, Throwable error) {
+        if (error != null) {
+            future.completeExceptionally(error);
+        } else {
+            future.complete(value);
+        }
+    }
+
+    /**
+     * Stops the worker threads; rolls still queued are abandoned
+     */
+    public void shutdown() {
+        workers.shutdownNow();
+    }
+
+    /**
+     * Immutable set of samplers built by one load of rewards.yml
+     */
+    private static final class RewardTable {
+        static final RewardTable EMPTY = new RewardTable(new EnumMap<>(Tier.class));
+
+        private final Map<Tier, AliasTable<RewardItem>> samplersByTier;
+
+        RewardTable(Map<Tier, AliasTable<RewardItem>> samplersByTier) {
+            this.samplersByTier = Collections.unmodifiableMap(new EnumMap<>(samplersByTier));
+        }
+
+        AliasTable<RewardItem> getSampler(Tier tier) {
+            return samplersByTier.get(tier);
+        }
+    }
+
     // Inner class to hold reward item details
     private static class RewardItem {
         Material material;
@@ -290,6 +372,8 @@ public class RewardGenerator {
         int minAmount;
         int maxAmount;
         List<EnchantmentData> enchantments;
+        // Built once at load with enchantments applied, never handed out directly
+        private final ItemStack prototype;
 
         RewardItem(Material material, double chance, int minAmount, int maxAmount, List<EnchantmentData> enchantments) {
             this.material = material;
@@ -297,6 +381,28 @@ public class RewardGenerator {
             this.minAmount = minAmount;
             this.maxAmount = maxAmount;
             this.enchantments = enchantments != null ? enchantments : new ArrayList<>();
+            this.prototype = buildPrototype();
+        }
+
+        private ItemStack buildPrototype() {
+            if (enchantments.isEmpty()) {
+                return new ItemStack(material, 1);
+            }
+            Map<Enchantment, Integer> enchantmentMap = new HashMap<>();
+            for (EnchantmentData enchData : enchantments) {
+                enchantmentMap.put(enchData.enchantment, enchData.level);
+            }
+            return ItemHelper.createEnchantedItem(material, 1, enchantmentMap);
+        }
+
+        /**
+         * @param amount The stack size
+         * @return A copy of the prototype with the given amount
+         */
+        ItemStack createStack(int amount) {
+            ItemStack stack = prototype.clone();
+            stack.setAmount(amount);
+            return stack;
         }
     }
 }
@@ -3,9 +3,12 @@ package nc.randomEvents.services;
 import nc.randomEvents.RandomEvents;
 import nc.randomEvents.core.EventSession;
 import nc.randomEvents.core.SessionParticipant;
+import nc.randomEvents.core.SessionScope;
+import nc.randomEvents.services.profiling.ProfilerHook;
 
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
 
 import org.bukkit.entity.Player;
 
@@ -16,14 +19,23 @@ interface ISessionRegistry {
     boolean isActive(UUID sessionId);
     Collection<EventSession> getActiveSessions();
     EventSession getSession(UUID sessionId);
+    EventSession getSessionForPlayer(UUID playerId);
+    Random getRandom(UUID sessionId, String stream);
+    List<SessionScope> getEndedScopes();
 }
 
 public class SessionRegistry implements ISessionRegistry {
+    private final RandomEvents plugin;
     private final Map<UUID, EventSession> activeSessions = new ConcurrentHashMap<>();
     private final Set<SessionParticipant> participants = new HashSet<>();
+    // Reverse index of player UUID -> session, kept in sync on register/unregister and join/leave
+    private final Map<UUID, EventSession> playerSessions = new ConcurrentHashMap<>();
+    // Scopes of the most recently ended sessions, kept so leaks can be reported after the fact
+    private static final int MAX_ENDED_SCOPES = 20;
+    private final Deque<SessionScope> endedScopes = new ArrayDeque<>();
     
     public SessionRegistry(RandomEvents plugin) {
-        
+        this.plugin = plugin;
     }
     
     /**
@@ -38,8 +50,11 @@ public class SessionRegistry implements ISessionRegistry {
      */
     public void registerSession(EventSession session) {
         activeSessions.put(session.getSessionId(), session);
+        for (Player player : session.getPlayers()) {
+            indexPlayer(session, player.getUniqueId());
+        }
         // Notify all participants of session start
-        participants.forEach(p -> p.onSessionStart(session.getSessionId()));
+        participants.forEach(p -> notifyParticipant(session, p, "onSessionStart", () -> p.onSessionStart(session.getSessionId())));
     }
     
     /**
@@ -49,9 +64,54 @@ public class SessionRegistry implements ISessionRegistry {
         EventSession session = activeSessions.get(sessionId);
         if (session != null) {
             // Notify all participants of session end BEFORE removing the session
-            participants.forEach(p -> p.onSessionEnd(sessionId));
+            participants.forEach(p -> notifyParticipant(session, p, "onSessionEnd", () -> p.onSessionEnd(sessionId)));
             // Now remove the session
             activeSessions.remove(sessionId);
+            for (Player player : session.getPlayers()) {
+                unindexPlayer(session, player.getUniqueId());
+            }
+            endedScopes.addFirst(session.getScope());
+            while (endedScopes.size() > MAX_ENDED_SCOPES) {
+                endedScopes.removeLast();
+            }
+        }
+    }
+
+    /**
+     * @return The scopes of the most recently ended sessions, newest first
+     */
+    public List<SessionScope> getEndedScopes() {
+        return new ArrayList<>(endedScopes);
+    }
+
+    /**
+     * Record that a player has joined an active session
+     * @param session The session the player joined
+     * @param playerId The UUID of the player
+     */
+    public void indexPlayer(EventSession session, UUID playerId) {
+        if (!activeSessions.containsKey(session.getSessionId())) {
+            return;
+        }
+        // A player keeps pointing at the oldest session they are part of
+        playerSessions.putIfAbsent(playerId, session);
+    }
+
+    /**
+     * Record that a player has left a session
+     * @param session The session the player left
+     * @param playerId The UUID of the player
+     */
+    public void unindexPlayer(EventSession session, UUID playerId) {
+        if (!playerSessions.remove(playerId, session)) {
+            return;
+        }
+        // Fall back to any other active session the player is still part of
+        for (EventSession other : activeSessions.values()) {
+            if (other != session && other.hasPlayer(playerId)) {
+                playerSessions.put(playerId, other);
+                return;
+            }
         }
     }
     
@@ -78,18 +138,43 @@ public class SessionRegistry implements ISessionRegistry {
         return activeSessions.get(sessionId);
     }
 
+    /**
+     * Get a seeded random stream of a session, so its rolls can be replayed from the logged seed
+     * @param sessionId The session ID, may be null
+     * @param stream The subsystem the stream is for
+     * @return The session's stream, or an unseeded source if the session is not active
+     */
+    public Random getRandom(UUID sessionId, String stream) {
+        EventSession session = sessionId != null ? activeSessions.get(sessionId) : null;
+        return session != null ? session.getRandom().stream(stream) : ThreadLocalRandom.current();
+    }
+
     /**
      * Get the session ID for a player
      * @param player The player to get the session ID for
      * @return The session ID, or null if the player is not in any session
      */
     public UUID getSessionIdForPlayer(Player player) {
-        for (EventSession session : activeSessions.values()) {
-            if (session.getPlayers().contains(player)) {
-                return session.getSessionId();
-            }
-        }
-        return null;
+        EventSession session = playerSessions.get(player.getUniqueId());
+        return session != null ? session.getSessionId() : null;
+    }
+
+    /**
+     * Get the session a player is participating in
+     * @param playerId The UUID of the player
+     * @return The session, or null if the player is not in any session
+     */
+    public EventSession getSessionForPlayer(UUID playerId) {
+        return playerSessions.get(playerId);
+    }
+
+    /**
+     * Get the session a player is participating in
+     * @param player The player to look up
+     * @return The session, or null if the player is not in any session
+     */
+    public EventSession getSessionForPlayer(Player player) {
+        return playerSessions.get(player.getUniqueId());
     }
 
     /**
@@ -105,7 +190,24 @@ public class SessionRegistry implements ISessionRegistry {
      */
     public void forceCleanupAll() {
         for (EventSession session : activeSessions.values()) {
-            participants.forEach(p -> p.cleanupSession(session.getSessionId(), true));
+            participants.forEach(p -> notifyParticipant(session, p, "cleanupSession", () -> p.cleanupSession(session.getSessionId(), true)));
+        }
+    }
+
+    /**
+     * Calls a participant's lifecycle hook, timing it under the session's event when the profiler is on
+     * @param session The session the call is for
+     * @param participant The participant being notified
+     * @param hookName The lifecycle method being called
+     * @param call The call itself
+     */
+    private void notifyParticipant(EventSession session, SessionParticipant participant, String hookName, Runnable call) {
+        ProfilerHook hook = plugin.getTickProfiler().hook(session.getEvent().getName(), participant.getClass().getSimpleName() + "." + hookName);
+        long start = hook.start();
+        try {
+            call.run();
+        } finally {
+            hook.stop(start);
         }
     }
     
@@ -7,22 +7,26 @@ import nc.randomEvents.core.LootContainer.ContainerType;
 import nc.randomEvents.listeners.ContainerListener;
 import nc.randomEvents.core.SessionParticipant;
 import nc.randomEvents.services.SessionRegistry;
-import nc.randomEvents.utils.PersistentDataHelper;
-import org.bukkit.Chunk;
+import nc.randomEvents.utils.PdcKeys;
 import org.bukkit.Location;
 import org.bukkit.Material;
-import org.bukkit.World;
 import org.bukkit.block.Block;
-import org.bukkit.block.BlockState;
 import org.bukkit.block.Container;
+import org.bukkit.World;
 import org.bukkit.entity.Entity;
 import org.bukkit.entity.Item;
+import org.bukkit.entity.ItemFrame;
+import org.bukkit.entity.LivingEntity;
 import org.bukkit.entity.Player;
+import org.bukkit.inventory.EntityEquipment;
+import org.bukkit.inventory.EquipmentSlot;
+import org.bukkit.inventory.Inventory;
+import org.bukkit.inventory.InventoryHolder;
 import org.bukkit.inventory.ItemStack;
 import org.bukkit.inventory.meta.ItemMeta;
-import org.bukkit.persistence.PersistentDataType;
 
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
 
 interface IContainerManager {
@@ -34,12 +38,20 @@ interface IContainerManager {
 public class ContainerManager implements SessionParticipant, IContainerManager {
     private final RandomEvents plugin;
     private final SessionRegistry sessionRegistry;
-    private static final String CONTAINER_KEY = "container";
-    private static final String CONTAINER_SESSION_KEY = "container_session";
-    private static final String CLEAR_AT_END_KEY = "clear_at_end";
-    private static final String QUEST_ITEM_KEY = "quest_item";
-    private static final String QUEST_ITEM_SESSION_KEY = "quest_item_session";
     
+    private static final EquipmentSlot[] HELD_SLOTS = {
+        EquipmentSlot.HAND, EquipmentSlot.OFF_HAND, EquipmentSlot.HEAD,
+        EquipmentSlot.CHEST, EquipmentSlot.LEGS, EquipmentSlot.FEET
+    };
+    private static final int DEFAULT_SWEEP_BUDGET_MS = 2;
+    private static final int DEFAULT_SWEEP_CHUNKS_PER_TICK = 64;
+
+    // Everywhere each session's quest items may have gone
+    private final QuestItemTracker questItemTracker = new QuestItemTracker();
+
+    // In-progress quest item sweeps by session
+    private final Map<UUID, QuestItemSweep> activeSweeps = new HashMap<>();
+
     // Track containers by session
     private final Map<UUID, Set<Location>> sessionContainers = new ConcurrentHashMap<>();
     private ContainerListener containerListener;
@@ -135,8 +147,7 @@ public class ContainerManager implements SessionParticipant, IContainerManager {
      */
     public boolean isEventContainer(Block block) {
         if (!(block.getState() instanceof Container)) return false;
-        return PersistentDataHelper.has(((Container) block.getState()).getPersistentDataContainer(), 
-                                       plugin, CONTAINER_KEY, PersistentDataType.BYTE);
+        return PdcKeys.CONTAINER.has(((Container) block.getState()).getPersistentDataContainer());
     }
 
     /**
@@ -146,14 +157,7 @@ public class ContainerManager implements SessionParticipant, IContainerManager {
      */
     public UUID getEventSessionId(Block block) {
         if (!(block.getState() instanceof Container container)) return null;
-        String raw = PersistentDataHelper.get(container.getPersistentDataContainer(), plugin, 
-                                             CONTAINER_SESSION_KEY, PersistentDataType.STRING);
-        try {
-            return raw != null ? UUID.fromString(raw) : null;
-        } catch (IllegalArgumentException e) {
-            plugin.getLogger().warning("Invalid session ID: " + raw);
-            return null;
-        }
+        return PdcKeys.CONTAINER_SESSION.get(container.getPersistentDataContainer());
     }
 
     /**
@@ -167,9 +171,56 @@ public class ContainerManager implements SessionParticipant, IContainerManager {
         ItemMeta meta = item.getItemMeta();
         if (meta == null) return false;
 
-        return PersistentDataHelper.has(meta.getPersistentDataContainer(), plugin, QUEST_ITEM_KEY, PersistentDataType.BYTE) &&
-               sessionId.toString().equals(PersistentDataHelper.get(meta.getPersistentDataContainer(), plugin, 
-                                      QUEST_ITEM_SESSION_KEY, PersistentDataType.STRING));
+        return PdcKeys.QUEST_ITEM.has(meta.getPersistentDataContainer()) &&
+               PdcKeys.QUEST_ITEM_SESSION.matches(meta.getPersistentDataContainer(), sessionId);
+    }
+
+    /**
+     * Gets the session a quest item belongs to
+     * @param item The item to check
+     * @return The session ID, or null if the item is not a quest item
+     */
+    public UUID getQuestItemSessionId(ItemStack item) {
+        if (item == null || !item.hasItemMeta()) return null;
+        ItemMeta meta = item.getItemMeta();
+        if (meta == null || !PdcKeys.QUEST_ITEM.has(meta.getPersistentDataContainer())) return null;
+        return PdcKeys.QUEST_ITEM_SESSION.get(meta.getPersistentDataContainer());
+    }
+
+    /**
+     * Records that a quest item may now be held by an entity (player, dropped item, mob, item frame...)
+     * @param item The item that moved; ignored if it is not a quest item of an active session
+     * @param holder The entity that may now hold it
+     */
+    public void trackQuestItem(ItemStack item, Entity holder) {
+        UUID sessionId = getQuestItemSessionId(item);
+        if (sessionId != null && holder != null && sessionRegistry.isActive(sessionId)) {
+            questItemTracker.trackEntity(sessionId, holder.getUniqueId());
+        }
+    }
+
+    /**
+     * Records that a quest item may now be stored in a block inventory
+     * @param item The item that moved; ignored if it is not a quest item of an active session
+     * @param location The location of the block holding it
+     */
+    public void trackQuestItem(ItemStack item, Location location) {
+        UUID sessionId = getQuestItemSessionId(item);
+        if (sessionId != null && location != null && sessionRegistry.isActive(sessionId)) {
+            questItemTracker.trackBlock(sessionId, location);
+        }
+    }
+
+    /**
+     * Forgets an entity that held a quest item and no longer exists, e.g. a fully picked up item
+     * @param item The quest item it held
+     * @param holder The entity to forget
+     */
+    public void untrackQuestItem(ItemStack item, Entity holder) {
+        UUID sessionId = getQuestItemSessionId(item);
+        if (sessionId != null) {
+            questItemTracker.untrackEntity(sessionId, holder.getUniqueId());
+        }
     }
 
     @Override
@@ -187,6 +238,7 @@ public class ContainerManager implements SessionParticipant, IContainerManager {
     @Override
     public void cleanupSession(UUID sessionId, boolean force) {
         EventSession session = sessionRegistry.getSession(sessionId);
+        QuestItemTracker.Holders holders = questItemTracker.endSession(sessionId);
         
         // Only clean up containers if the session exists and the event wants them cleaned up
         if (!force && session != null) {
@@ -206,8 +258,7 @@ public class ContainerManager implements SessionParticipant, IContainerManager {
                     
                     // Check if this container should be cleared
                     boolean shouldClear = true;
-                    Byte clearAtEnd = PersistentDataHelper.get(container.getPersistentDataContainer(), 
-                                                              plugin, CLEAR_AT_END_KEY, PersistentDataType.BYTE);
+                    Byte clearAtEnd = PdcKeys.CLEAR_AT_END.get(container.getPersistentDataContainer());
                     if (clearAtEnd != null) {
                         shouldClear = clearAtEnd == 1;
                     }
@@ -232,70 +283,130 @@ public class ContainerManager implements SessionParticipant, IContainerManager {
             return;
         }
 
-        // Clean up quest items in player inventories
-        Set<Player> players = session.getPlayers();
+        // Session players always get checked; everything else only if a quest item was seen moving there
+        Set<Player> players = session != null ? session.getPlayers() : Collections.emptySet();
         for (Player player : players) {
-            // Clean main inventory
-            for (ItemStack item : player.getInventory().getContents()) {
-                if (item != null && isQuestItem(item, sessionId)) {
-                    player.getInventory().remove(item);
-                }
-            }
+            removeQuestItems(player, sessionId);
+        }
 
-            // Clean armor
-            for (ItemStack item : player.getInventory().getArmorContents()) {
-                if (item != null && isQuestItem(item, sessionId)) {
-                    player.getInventory().setArmorContents(null);
-                    break;
-                }
+        if (holders == null) {
+            return;
+        }
+        if (holders.overflowed) {
+            // Too many holders to track precisely, fall back to sweeping loaded chunks
+            sweepQuestItems(sessionId);
+            return;
+        }
+
+        for (UUID entityId : holders.entities) {
+            Entity entity = plugin.getServer().getEntity(entityId);
+            if (entity != null && !players.contains(entity)) {
+                removeQuestItems(entity, sessionId);
             }
+        }
 
-            // Clean offhand
-            ItemStack offhand = player.getInventory().getItemInOffHand();
-            if (offhand != null && isQuestItem(offhand, sessionId)) {
-                player.getInventory().setItemInOffHand(null);
+        for (Location location : holders.blocks) {
+            World world = location.getWorld();
+            if (world == null || !world.isChunkLoaded(location.getBlockX() >> 4, location.getBlockZ() >> 4)) continue;
+            if (location.getBlock().getState(false) instanceof Container container) {
+                removeQuestItems(container.getInventory(), sessionId);
             }
+        }
+    }
+
+    /**
+     * Removes a session's quest items from whatever an entity can hold
+     * @param entity The entity to clean
+     * @param sessionId The session ID
+     */
+    private void removeQuestItems(Entity entity, UUID sessionId) {
+        if (entity instanceof Player player) {
+            removeQuestItems(player.getInventory(), sessionId);
 
             // Clean cursor
             player.updateInventory(); // triggers sync from client
             ItemStack cursorItem = player.getItemOnCursor();
-            if (cursorItem != null && isQuestItem(cursorItem, sessionId)) {
+            if (isQuestItem(cursorItem, sessionId)) {
                 player.setItemOnCursor(null);
             }
 
-            // Clean ender chest
-            for (ItemStack item : player.getEnderChest().getContents()) {
-                if (item != null && isQuestItem(item, sessionId)) {
-                    player.getEnderChest().remove(item);
-                }
+            removeQuestItems(player.getEnderChest(), sessionId);
+            return;
+        }
+
+        if (entity instanceof Item item) {
+            if (isQuestItem(item.getItemStack(), sessionId)) {
+                item.remove();
             }
+            return;
         }
 
-        // Clean up quest items in the world
-        for (World world : plugin.getServer().getWorlds()) {
-            // Clean up dropped items
-            for (Entity entity : world.getEntities()) {
-                if (entity instanceof Item) {
-                    Item item = (Item) entity;
-                    if (isQuestItem(item.getItemStack(), sessionId)) {
-                        item.remove();
-                    }
+        if (entity instanceof ItemFrame frame && isQuestItem(frame.getItem(), sessionId)) {
+            frame.setItem(null);
+        }
+        if (entity instanceof InventoryHolder holder) {
+            removeQuestItems(holder.getInventory(), sessionId);
+        }
+        if (entity instanceof LivingEntity living && living.getEquipment() != null) {
+            EntityEquipment equipment = living.getEquipment();
+            for (EquipmentSlot slot : HELD_SLOTS) {
+                if (isQuestItem(equipment.getItem(slot), sessionId)) {
+                    equipment.setItem(slot, null);
                 }
             }
+        }
+    }
 
-            // Clean up block inventories
-            for (Chunk chunk : world.getLoadedChunks()) {
-                for (BlockState blockState : chunk.getTileEntities()) {
-                    if (blockState instanceof Container) {
-                        Container container = (Container) blockState;
-                        for (ItemStack item : container.getInventory().getContents()) {
-                            if (item != null && isQuestItem(item, sessionId)) {
-                                container.getInventory().remove(item);
-                            }
-                        }
-                    }
-                }
+    /**
+     * Removes a session's quest items from an inventory, including armor and offhand slots
+     * @param inventory The inventory to clean
+     * @param sessionId The session ID
+     */
+    private void removeQuestItems(Inventory inventory, UUID sessionId) {
+        ItemStack[] contents = inventory.getContents();
+        for (int slot = 0; slot < contents.length; slot++) {
+            if (isQuestItem(contents[slot], sessionId)) {
+                inventory.setItem(slot, null);
+            }
+        }
+    }
+
+    /**
+     * Removes quest items of a session from dropped items and containers in all loaded chunks.
+     * The sweep runs incrementally under the configured per-tick budget, unless the plugin is disabling,
+     * in which case it finishes immediately.
+     * @param sessionId The session ID to sweep for
+     * @return A future completed with the number of removed item stacks
+     */
+    public CompletableFuture<Integer> sweepQuestItems(UUID sessionId) {
+        QuestItemSweep existing = activeSweeps.get(sessionId);
+        if (existing != null) {
+            if (!plugin.isEnabled()) {
+                existing.finishNow();
             }
+            return existing.getFuture();
+        }
+
+        Integer budgetMillis = plugin.getConfigManager().getSettingIntValue("questSweepBudgetMs");
+        Integer chunksPerTick = plugin.getConfigManager().getSettingIntValue("questSweepChunksPerTick");
+        QuestItemSweep sweep = new QuestItemSweep(plugin, sessionId, item -> isQuestItem(item, sessionId),
+                budgetMillis != null ? budgetMillis : DEFAULT_SWEEP_BUDGET_MS,
+                chunksPerTick != null ? chunksPerTick : DEFAULT_SWEEP_CHUNKS_PER_TICK);
+
+        activeSweeps.put(sessionId, sweep);
+        sweep.getFuture().whenComplete((removed, error) -> {
+            activeSweeps.remove(sessionId);
+            if (removed != null && removed > 0) {
+                plugin.getLogger().info("Removed " + removed + " quest item stacks for session: " + sessionId);
+            }
+        });
+
+        if (plugin.isEnabled()) {
+            sweep.start();
+        } else {
+            // Scheduled tasks no longer run while disabling
+            sweep.finishNow();
         }
+        return sweep.getFuture();
     }
 }
@@ -5,11 +5,11 @@ import nc.randomEvents.core.EventSession;
 import nc.randomEvents.core.SessionParticipant;
 import nc.randomEvents.listeners.EntityListener;
 import nc.randomEvents.services.SessionRegistry;
-import nc.randomEvents.utils.PersistentDataHelper;
+import nc.randomEvents.utils.ChunkPos;
+import nc.randomEvents.utils.PdcKeys;
 import org.bukkit.*;
 import org.bukkit.entity.*;
 import org.bukkit.event.entity.CreatureSpawnEvent.SpawnReason;
-import org.bukkit.persistence.PersistentDataType;
 
 import java.util.*;
 
@@ -19,11 +19,11 @@ interface IEntityManager {
 
 public class EntityManager implements SessionParticipant, IEntityManager {
     private final RandomEvents plugin;
-    private static final String ENTITY_KEY = "entity";
-    private static final String ENTITY_ID_KEY = "entity_id";
-    private static final String ENTITY_SESSION_KEY = "entity_session";
     private final SessionRegistry sessionRegistry;
-    private final Map<UUID, Set<UUID>> sessionEntities = new HashMap<>();
+    // Session ID -> (entity UUID -> chunk the entity was last seen in)
+    private final Map<UUID, Map<UUID, ChunkPos>> sessionEntities = new HashMap<>();
+    // Entity UUID -> session ID, for O(1) lookups from listeners
+    private final Map<UUID, UUID> entitySessions = new HashMap<>();
     private EntityListener entityListener;
     public EntityManager(RandomEvents plugin) {
         this.plugin = plugin;
@@ -48,15 +48,13 @@ public class EntityManager implements SessionParticipant, IEntityManager {
         
         if (entity != null) {
             // Add persistent data
-            PersistentDataHelper.set(entity.getPersistentDataContainer(), plugin, ENTITY_KEY, 
-                                   PersistentDataType.BYTE, (byte) 1);
-            PersistentDataHelper.set(entity.getPersistentDataContainer(), plugin, ENTITY_ID_KEY, 
-                                   PersistentDataType.STRING, entityId);
-            PersistentDataHelper.set(entity.getPersistentDataContainer(), plugin, ENTITY_SESSION_KEY, 
-                                   PersistentDataType.STRING, sessionId.toString());
+            PdcKeys.ENTITY.set(entity.getPersistentDataContainer(), (byte) 1);
+            PdcKeys.ENTITY_ID.set(entity.getPersistentDataContainer(), entityId);
+            PdcKeys.ENTITY_SESSION.set(entity.getPersistentDataContainer(), sessionId);
 
             // Track the entity
-            sessionEntities.computeIfAbsent(sessionId, k -> new HashSet<>()).add(entity.getUniqueId());
+            sessionEntities.computeIfAbsent(sessionId, k -> new HashMap<>()).put(entity.getUniqueId(), ChunkPos.of(entity.getLocation()));
+            entitySessions.put(entity.getUniqueId(), sessionId);
 
             return entity;
         }
@@ -66,7 +64,7 @@ public class EntityManager implements SessionParticipant, IEntityManager {
     @Override
     public void onSessionStart(UUID sessionId) {
         plugin.getLogger().info("EntityManager tracking new session: " + sessionId);
-        sessionEntities.put(sessionId, new HashSet<>());
+        sessionEntities.putIfAbsent(sessionId, new HashMap<>());
     }
 
     @Override
@@ -75,6 +73,32 @@ public class EntityManager implements SessionParticipant, IEntityManager {
         cleanupSession(sessionId, false);
     }
 
+    /**
+     * Records the chunk a tracked entity is currently in, so cleanup can find it after it unloads
+     * @param entity The entity to record
+     */
+    public void updateLastSeen(Entity entity) {
+        UUID sessionId = entitySessions.get(entity.getUniqueId());
+        if (sessionId == null) return;
+        Map<UUID, ChunkPos> entities = sessionEntities.get(sessionId);
+        if (entities != null) {
+            entities.put(entity.getUniqueId(), ChunkPos.of(entity.getLocation()));
+        }
+    }
+
+    /**
+     * Stops tracking an entity, e.g. after it died
+     * @param entity The entity to stop tracking
+     */
+    public void untrack(Entity entity) {
+        UUID sessionId = entitySessions.remove(entity.getUniqueId());
+        if (sessionId == null) return;
+        Map<UUID, ChunkPos> entities = sessionEntities.get(sessionId);
+        if (entities != null) {
+            entities.remove(entity.getUniqueId());
+        }
+    }
+
     /**
      * Checks if an entity belongs to a specific session
      * @param entity The entity to check
@@ -83,9 +107,8 @@ public class EntityManager implements SessionParticipant, IEntityManager {
      */
     private boolean isSessionEntity(Entity entity, UUID sessionId) {
         if (entity == null) return false;
-        return PersistentDataHelper.has(entity.getPersistentDataContainer(), plugin, ENTITY_KEY, PersistentDataType.BYTE) &&
-               sessionId.toString().equals(PersistentDataHelper.get(entity.getPersistentDataContainer(), plugin, ENTITY_SESSION_KEY, 
-                                      PersistentDataType.STRING));
+        return PdcKeys.ENTITY.has(entity.getPersistentDataContainer()) &&
+               PdcKeys.ENTITY_SESSION.matches(entity.getPersistentDataContainer(), sessionId);
     }
 
     /**
@@ -100,24 +123,61 @@ public class EntityManager implements SessionParticipant, IEntityManager {
         if (!force) {
             boolean clearEntitiesAtEnd = session != null && session.getEvent().getClearEntitiesAtEnd();
             if (!clearEntitiesAtEnd) {
+                forgetSession(sessionId);
                 return;
             }
         }
 
-        Set<UUID> entities = sessionEntities.remove(sessionId);
-        if (entities != null) {
-            for (World world : plugin.getServer().getWorlds()) {
-                for (Entity entity : world.getEntities()) {
-                    if (entities.contains(entity.getUniqueId()) || isSessionEntity(entity, sessionId)) {
-                        entity.remove();
-                    }
+        Map<UUID, ChunkPos> entities = sessionEntities.remove(sessionId);
+        if (entities == null) {
+            return;
+        }
+
+        // Resolve tracked entities directly and remember every chunk they were seen in
+        Set<ChunkPos> chunks = new HashSet<>();
+        for (Map.Entry<UUID, ChunkPos> entry : entities.entrySet()) {
+            entitySessions.remove(entry.getKey());
+            Entity entity = plugin.getServer().getEntity(entry.getKey());
+            if (entity != null) {
+                ChunkPos current = ChunkPos.of(entity.getLocation());
+                if (current != null) chunks.add(current);
+                entity.remove();
+            }
+            if (entry.getValue() != null) {
+                chunks.add(entry.getValue());
+            }
+        }
+
+        // Fallback: tagged entities we lost track of can only be near where the tracked ones were
+        for (ChunkPos pos : chunks) {
+            Chunk chunk = pos.getLoadedChunk(plugin);
+            if (chunk == null) continue;
+            for (Entity entity : chunk.getEntities()) {
+                if (isSessionEntity(entity, sessionId)) {
+                    entity.remove();
                 }
             }
         }
     }
 
+    /**
+     * Stops tracking every entity of a session without removing them
+     * @param sessionId The session ID to forget
+     */
+    private void forgetSession(UUID sessionId) {
+        Map<UUID, ChunkPos> entities = sessionEntities.remove(sessionId);
+        if (entities != null) {
+            entitySessions.keySet().removeAll(entities.keySet());
+        }
+    }
 
-    public Map<UUID, Set<UUID>> getSessionEntities() {
-        return sessionEntities;
+    /**
+     * Gets the entities currently tracked for a session
+     * @param sessionId The session ID
+     * @return An unmodifiable view of the tracked entity UUIDs
+     */
+    public Set<UUID> getSessionEntities(UUID sessionId) {
+        Map<UUID, ChunkPos> entities = sessionEntities.get(sessionId);
+        return entities != null ? Collections.unmodifiableSet(entities.keySet()) : Collections.emptySet();
     }
 } 
\ No newline at end of file
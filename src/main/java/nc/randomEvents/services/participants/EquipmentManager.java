@@ -5,7 +5,7 @@ import nc.randomEvents.core.SessionParticipant;
 import nc.randomEvents.listeners.EquipmentListener;
 import nc.randomEvents.services.SessionRegistry;
 import nc.randomEvents.utils.ItemHelper;
-import nc.randomEvents.utils.PersistentDataHelper;
+import nc.randomEvents.utils.PdcKeys;
 import net.kyori.adventure.text.Component;
 import net.kyori.adventure.text.format.NamedTextColor;
 import org.bukkit.*;
@@ -15,7 +15,6 @@ import org.bukkit.inventory.Inventory;
 import org.bukkit.inventory.ItemStack;
 import org.bukkit.inventory.meta.BlockStateMeta;
 import org.bukkit.inventory.meta.ItemMeta;
-import org.bukkit.persistence.PersistentDataType;
 
 import java.util.*;
 
@@ -26,9 +25,6 @@ interface IEquipmentManager {
 
 public class EquipmentManager implements SessionParticipant, IEquipmentManager {
     private final RandomEvents plugin;
-    private static final String EQUIPMENT_KEY = "equipment";
-    private static final String EQUIPMENT_ID_KEY = "equipment_id";
-    private static final String EQUIPMENT_SESSION_KEY = "equipment_session";
     private final SessionRegistry sessionRegistry;
     private EquipmentListener equipmentListener;
     
@@ -122,12 +118,9 @@ public class EquipmentManager implements SessionParticipant, IEquipmentManager {
         // Add persistent data to the item
         ItemMeta meta = item.getItemMeta();
         if (meta != null) {
-            PersistentDataHelper.set(meta.getPersistentDataContainer(), plugin, EQUIPMENT_KEY, 
-                                   PersistentDataType.BYTE, (byte) 1);
-            PersistentDataHelper.set(meta.getPersistentDataContainer(), plugin, EQUIPMENT_ID_KEY, 
-                                   PersistentDataType.STRING, equipmentId);
-            PersistentDataHelper.set(meta.getPersistentDataContainer(), plugin, EQUIPMENT_SESSION_KEY, 
-                                   PersistentDataType.STRING, sessionId.toString());
+            PdcKeys.EQUIPMENT.set(meta.getPersistentDataContainer(), (byte) 1);
+            PdcKeys.EQUIPMENT_ID.set(meta.getPersistentDataContainer(), equipmentId);
+            PdcKeys.EQUIPMENT_SESSION.set(meta.getPersistentDataContainer(), sessionId);
             item.setItemMeta(meta);
         }
 
@@ -148,12 +141,9 @@ public class EquipmentManager implements SessionParticipant, IEquipmentManager {
             // Add persistent data to each item
             ItemMeta meta = item.getItemMeta();
             if (meta != null) {
-                PersistentDataHelper.set(meta.getPersistentDataContainer(), plugin, EQUIPMENT_KEY, 
-                                       PersistentDataType.BYTE, (byte) 1);
-                PersistentDataHelper.set(meta.getPersistentDataContainer(), plugin, EQUIPMENT_ID_KEY, 
-                                       PersistentDataType.STRING, kitId);
-                PersistentDataHelper.set(meta.getPersistentDataContainer(), plugin, EQUIPMENT_SESSION_KEY, 
-                                       PersistentDataType.STRING, sessionId.toString());
+                PdcKeys.EQUIPMENT.set(meta.getPersistentDataContainer(), (byte) 1);
+                PdcKeys.EQUIPMENT_ID.set(meta.getPersistentDataContainer(), kitId);
+                PdcKeys.EQUIPMENT_SESSION.set(meta.getPersistentDataContainer(), sessionId);
                 item.setItemMeta(meta);
             }
 
@@ -223,7 +213,7 @@ public class EquipmentManager implements SessionParticipant, IEquipmentManager {
         ItemMeta meta = item.getItemMeta();
         if (meta == null) return false;
 
-        return PersistentDataHelper.has(meta.getPersistentDataContainer(), plugin, EQUIPMENT_KEY, PersistentDataType.BYTE);
+        return PdcKeys.EQUIPMENT.has(meta.getPersistentDataContainer());
     }
 
     /**
@@ -237,22 +227,7 @@ public class EquipmentManager implements SessionParticipant, IEquipmentManager {
         ItemMeta meta = item.getItemMeta();
         if (meta == null) return null;
 
-        String sessionIdStr = PersistentDataHelper.get(
-            meta.getPersistentDataContainer(),
-            plugin,
-            EQUIPMENT_SESSION_KEY,
-            PersistentDataType.STRING
-        );
-        
-        if (sessionIdStr != null) {
-            try {
-                return UUID.fromString(sessionIdStr);
-            } catch (IllegalArgumentException e) {
-                plugin.getLogger().warning("Invalid session ID format in item: " + sessionIdStr);
-                return null;
-            }
-        }
-        return null;
+        return PdcKeys.EQUIPMENT_SESSION.get(meta.getPersistentDataContainer());
     }
 
     /**
@@ -267,9 +242,8 @@ public class EquipmentManager implements SessionParticipant, IEquipmentManager {
         ItemMeta meta = item.getItemMeta();
         if (meta == null) return false;
 
-        return PersistentDataHelper.has(meta.getPersistentDataContainer(), plugin, EQUIPMENT_KEY, PersistentDataType.BYTE) &&
-               sessionId.toString().equals(PersistentDataHelper.get(meta.getPersistentDataContainer(), plugin, EQUIPMENT_SESSION_KEY, 
-                                      PersistentDataType.STRING));
+        return PdcKeys.EQUIPMENT.has(meta.getPersistentDataContainer()) &&
+               PdcKeys.EQUIPMENT_SESSION.matches(meta.getPersistentDataContainer(), sessionId);
     }
 
     /**
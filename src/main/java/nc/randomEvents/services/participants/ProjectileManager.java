@@ -3,13 +3,15 @@ package nc.randomEvents.services.participants;
 import nc.randomEvents.RandomEvents;    
 import nc.randomEvents.core.SessionParticipant;
 import nc.randomEvents.listeners.ProjectileListener;
+import nc.randomEvents.services.ConfigView;
 import nc.randomEvents.services.SessionRegistry;
-import nc.randomEvents.utils.PersistentDataHelper;
+import nc.randomEvents.utils.ChunkPos;
+import nc.randomEvents.utils.PdcKeys;
+import org.bukkit.Chunk;
 import org.bukkit.Location;
-import org.bukkit.World;
 import org.bukkit.entity.*;
-import org.bukkit.persistence.PersistentDataType;
 import org.bukkit.projectiles.ProjectileSource;
+import org.bukkit.scheduler.BukkitRunnable;
 import org.bukkit.util.Vector;
 
 import java.util.*;
@@ -30,18 +32,34 @@ interface IProjectileManager {
 public class ProjectileManager implements SessionParticipant, IProjectileManager {
     private final RandomEvents plugin;
     private final SessionRegistry sessionRegistry;
-    private static final String PROJECTILE_KEY = "event_projectile";
-    private static final String PROJECTILE_DAMAGE_KEY = "projectile_damage";
-    private static final String PROJECTILE_SESSION_KEY = "projectile_session";
-    private final Map<UUID, Set<UUID>> sessionProjectiles = new HashMap<>();
+    private static final long SWEEP_INTERVAL_TICKS = 20L;
+    // Session ID -> (projectile UUID -> live projectile), only projectiles currently in a loaded world
+    private final Map<UUID, Map<UUID, TrackedProjectile>> sessionProjectiles = new HashMap<>();
+    // Projectile UUID -> session ID, for O(1) lookups from listeners
+    private final Map<UUID, UUID> projectileSessions = new HashMap<>();
     private ProjectileListener projectileListener;
+    // Max lifetime in seconds, compiled from settings.projectileMaxLifetime on every reload
+    private final ConfigView<Integer> maxLifetime;
+
+    private static class TrackedProjectile {
+        private final long spawnTick;
+        private ChunkPos lastChunk;
+
+        TrackedProjectile(long spawnTick, ChunkPos lastChunk) {
+            this.spawnTick = spawnTick;
+            this.lastChunk = lastChunk;
+        }
+    }
+
     public ProjectileManager(RandomEvents plugin) {
         this.plugin = plugin;
         this.sessionRegistry = plugin.getSessionRegistry();
         plugin.getSessionRegistry().registerParticipant(this);
+        this.maxLifetime = plugin.getConfigManager().registerView("settings", reader -> reader.getSettingInt("projectileMaxLifetime", 30));
         
         projectileListener = new ProjectileListener(plugin);
         projectileListener.registerListener(plugin);
+        startLifetimeSweeper();
         plugin.getLogger().info("ProjectileManager initialized");
     }
 
@@ -64,27 +82,102 @@ public class ProjectileManager implements SessionParticipant, IProjectileManager
             projectile.setVelocity(direction.multiply(speed));
 
             // Add persistent data
-            PersistentDataHelper.set(projectile.getPersistentDataContainer(), plugin, PROJECTILE_KEY, 
-                                   PersistentDataType.BYTE, (byte) 1);
-            PersistentDataHelper.set(projectile.getPersistentDataContainer(), plugin, PROJECTILE_SESSION_KEY, 
-                                   PersistentDataType.STRING, sessionId.toString());
+            PdcKeys.PROJECTILE.set(projectile.getPersistentDataContainer(), (byte) 1);
+            PdcKeys.PROJECTILE_SESSION.set(projectile.getPersistentDataContainer(), sessionId);
+            PdcKeys.PROJECTILE_SPAWN_TICK.set(projectile.getPersistentDataContainer(), (long) plugin.getServer().getCurrentTick());
             
             // Set custom damage if specified
             if (damage != null) {
-                PersistentDataHelper.set(projectile.getPersistentDataContainer(), plugin, PROJECTILE_DAMAGE_KEY, 
-                                       PersistentDataType.DOUBLE, damage);
+                PdcKeys.PROJECTILE_DAMAGE.set(projectile.getPersistentDataContainer(), damage);
             }
 
             // Track the projectile
-            sessionProjectiles.computeIfAbsent(sessionId, k -> new HashSet<>()).add(projectile.getUniqueId());
+            track(sessionId, projectile);
         }
         return projectile;
     }
 
+    /**
+     * Adds a projectile to the live index of a session. Its lifetime counts from the spawn tick stored on it,
+     * so a projectile whose chunk unloads and reloads does not start over.
+     * @param sessionId The session the projectile belongs to
+     * @param projectile The projectile to track
+     */
+    public void track(UUID sessionId, Projectile projectile) {
+        Long spawnTick = PdcKeys.PROJECTILE_SPAWN_TICK.get(projectile.getPersistentDataContainer());
+        if (spawnTick == null) {
+            spawnTick = (long) plugin.getServer().getCurrentTick();
+            PdcKeys.PROJECTILE_SPAWN_TICK.set(projectile.getPersistentDataContainer(), spawnTick);
+        }
+        TrackedProjectile tracked = new TrackedProjectile(spawnTick, ChunkPos.of(projectile.getLocation()));
+        sessionProjectiles.computeIfAbsent(sessionId, k -> new HashMap<>()).put(projectile.getUniqueId(), tracked);
+        projectileSessions.put(projectile.getUniqueId(), sessionId);
+    }
+
+    /**
+     * Records the chunk a tracked projectile is currently in
+     * @param projectile The projectile to update
+     */
+    public void updateLastSeen(Projectile projectile) {
+        TrackedProjectile tracked = getTracked(projectile.getUniqueId());
+        if (tracked != null) {
+            tracked.lastChunk = ChunkPos.of(projectile.getLocation());
+        }
+    }
+
+    /**
+     * Removes a projectile from the live index, e.g. once it has left the world
+     * @param projectile The projectile to stop tracking
+     */
+    public void untrack(Projectile projectile) {
+        UUID sessionId = projectileSessions.remove(projectile.getUniqueId());
+        if (sessionId == null) return;
+        Map<UUID, TrackedProjectile> projectiles = sessionProjectiles.get(sessionId);
+        if (projectiles != null) {
+            projectiles.remove(projectile.getUniqueId());
+        }
+    }
+
+    private TrackedProjectile getTracked(UUID projectileId) {
+        UUID sessionId = projectileSessions.get(projectileId);
+        if (sessionId == null) return null;
+        Map<UUID, TrackedProjectile> projectiles = sessionProjectiles.get(sessionId);
+        return projectiles != null ? projectiles.get(projectileId) : null;
+    }
+
+    /**
+     * Periodically removes tracked projectiles older than the configured max lifetime
+     */
+    private void startLifetimeSweeper() {
+        new BukkitRunnable() {
+            @Override
+            public void run() {
+                int lifetimeSeconds = maxLifetime.get();
+                if (lifetimeSeconds <= 0 || projectileSessions.isEmpty()) {
+                    return;
+                }
+                long oldestAllowed = plugin.getServer().getCurrentTick() - lifetimeSeconds * 20L;
+                for (Map<UUID, TrackedProjectile> projectiles : sessionProjectiles.values()) {
+                    Iterator<Map.Entry<UUID, TrackedProjectile>> it = projectiles.entrySet().iterator();
+                    while (it.hasNext()) {
+                        Map.Entry<UUID, TrackedProjectile> entry = it.next();
+                        if (entry.getValue().spawnTick > oldestAllowed) continue;
+                        it.remove();
+                        projectileSessions.remove(entry.getKey());
+                        Entity entity = plugin.getServer().getEntity(entry.getKey());
+                        if (entity != null) {
+                            entity.remove();
+                        }
+                    }
+                }
+            }
+        }.runTaskTimer(plugin, SWEEP_INTERVAL_TICKS, SWEEP_INTERVAL_TICKS);
+    }
+
     @Override
     public void onSessionStart(UUID sessionId) {
         plugin.getLogger().info("ProjectileManager tracking new session: " + sessionId);
-        sessionProjectiles.put(sessionId, new HashSet<>());
+        sessionProjectiles.putIfAbsent(sessionId, new HashMap<>());
     }
 
     @Override
@@ -98,35 +191,65 @@ public class ProjectileManager implements SessionParticipant, IProjectileManager
         if (!force) {
             boolean clearProjectilesAtEnd = sessionRegistry.getSession(sessionId).getEvent().clearProjectilesAtEnd();
             if (!clearProjectilesAtEnd) {
+                forgetSession(sessionId);
                 return;
             }
         }
-        Set<UUID> projectiles = sessionProjectiles.get(sessionId);
-        if (projectiles != null) {
-            for (World world : plugin.getServer().getWorlds()) {
-                for (Entity entity : world.getEntities()) {
-                    // Check both UUID tracking and persistent data
-                    if (projectiles.contains(entity.getUniqueId()) || isSessionProjectile(entity, sessionId)) {
-                        entity.remove();
-                    }
+        Map<UUID, TrackedProjectile> projectiles = sessionProjectiles.remove(sessionId);
+        if (projectiles == null) {
+            return;
+        }
+        // The index only holds live projectiles, so this touches nothing else
+        Set<ChunkPos> missingChunks = new HashSet<>();
+        for (Map.Entry<UUID, TrackedProjectile> entry : projectiles.entrySet()) {
+            projectileSessions.remove(entry.getKey());
+            Entity entity = plugin.getServer().getEntity(entry.getKey());
+            if (entity != null) {
+                entity.remove();
+            } else if (entry.getValue().lastChunk != null) {
+                missingChunks.add(entry.getValue().lastChunk);
+            }
+        }
+
+        // Fall back to the chunks unresolved projectiles were last seen in, if loaded
+        for (ChunkPos pos : missingChunks) {
+            Chunk chunk = pos.getLoadedChunk(plugin);
+            if (chunk == null) continue;
+            for (Entity entity : chunk.getEntities()) {
+                if (isSessionProjectile(entity, sessionId)) {
+                    entity.remove();
                 }
             }
         }
-        sessionProjectiles.remove(sessionId);
     }
 
+    /**
+     * Stops tracking every projectile of a session without removing them
+     * @param sessionId The session ID to forget
+     */
+    private void forgetSession(UUID sessionId) {
+        Map<UUID, TrackedProjectile> projectiles = sessionProjectiles.remove(sessionId);
+        if (projectiles != null) {
+            projectileSessions.keySet().removeAll(projectiles.keySet());
+        }
+    }
+
+    /**
+     * Checks if an entity is an event projectile for a specific session
+     * @param entity The entity to check
+     * @param sessionId The session ID to check against
+     * @return true if the entity is a projectile of the session
+     */
     private boolean isSessionProjectile(Entity entity, UUID sessionId) {
         if (!(entity instanceof Projectile)) return false;
         
         // First check if it's a tracked projectile at all
-        if (!PersistentDataHelper.has(entity.getPersistentDataContainer(), plugin, PROJECTILE_KEY, PersistentDataType.BYTE)) {
+        if (!PdcKeys.PROJECTILE.has(entity.getPersistentDataContainer())) {
             return false;
         }
         
         // Then check if it belongs to this session
-        String storedSessionId = PersistentDataHelper.get(entity.getPersistentDataContainer(), plugin, 
-                                                        PROJECTILE_SESSION_KEY, PersistentDataType.STRING);
-        return storedSessionId != null && storedSessionId.equals(sessionId.toString());
+        return PdcKeys.PROJECTILE_SESSION.matches(entity.getPersistentDataContainer(), sessionId);
     }
 
 } 
\ No newline at end of file
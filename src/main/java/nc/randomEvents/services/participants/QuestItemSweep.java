@@ -0,0 +1,146 @@
+package nc.randomEvents.services.participants;
+
+import nc.randomEvents.RandomEvents;
+import org.bukkit.Chunk;
+import org.bukkit.World;
+import org.bukkit.block.BlockState;
+import org.bukkit.block.Container;
+import org.bukkit.entity.Entity;
+import org.bukkit.entity.Item;
+import org.bukkit.inventory.Inventory;
+import org.bukkit.inventory.ItemStack;
+import org.bukkit.scheduler.BukkitRunnable;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Predicate;
+
+/**
+ * Resumable sweep that removes quest items from dropped items and containers in loaded chunks.
+ * Work is split across ticks: each tick processes chunks until either the chunk limit or the time budget is hit,
+ * and the cursor (world index + chunk index) carries over to the next tick.
+ */
+class QuestItemSweep extends BukkitRunnable {
+    private final RandomEvents plugin;
+    private final UUID sessionId;
+    private final Predicate<ItemStack> isQuestItem;
+    private final long budgetNanos;
+    private final int maxChunksPerTick;
+    private final CompletableFuture<Integer> future = new CompletableFuture<>();
+    private final List<World> worlds;
+
+    // Cursor
+    private int worldIndex = 0;
+    private Chunk[] chunks = null;
+    private int chunkIndex = 0;
+
+    private int removed = 0;
+    private boolean scheduled = false;
+
+    QuestItemSweep(RandomEvents plugin, UUID sessionId, Predicate<ItemStack> isQuestItem, int budgetMillis, int maxChunksPerTick) {
+        this.plugin = plugin;
+        this.sessionId = sessionId;
+        this.isQuestItem = isQuestItem;
+        this.budgetNanos = Math.max(1, budgetMillis) * 1_000_000L;
+        this.maxChunksPerTick = Math.max(1, maxChunksPerTick);
+        this.worlds = new ArrayList<>(plugin.getServer().getWorlds());
+    }
+
+    /**
+     * Schedules the sweep to run a slice every tick until it is done
+     * @return A future completed with the number of removed item stacks
+     */
+    CompletableFuture<Integer> start() {
+        scheduled = true;
+        runTaskTimer(plugin, 0L, 1L);
+        return future;
+    }
+
+    /**
+     * Finishes the remaining work immediately, e.g. while the plugin is disabling and tasks no longer run
+     */
+    void finishNow() {
+        if (scheduled) {
+            cancel();
+            scheduled = false;
+        }
+        step(Long.MAX_VALUE, Integer.MAX_VALUE);
+    }
+
+    CompletableFuture<Integer> getFuture() {
+        return future;
+    }
+
+    UUID getSessionId() {
+        return sessionId;
+    }
+
+    @Override
+    public void run() {
+        if (step(budgetNanos, maxChunksPerTick)) {
+            cancel();
+            scheduled = false;
+        }
+    }
+
+    /**
+     * Processes chunks from the cursor onwards
+     * @param budget Maximum time to spend, in nanoseconds
+     * @param maxChunks Maximum number of chunks to process
+     * @return true if the sweep has finished
+     */
+    private boolean step(long budget, int maxChunks) {
+        if (future.isDone()) return true;
+
+        long start = System.nanoTime();
+        int processed = 0;
+        while (worldIndex < worlds.size()) {
+            if (chunks == null) {
+                World world = worlds.get(worldIndex);
+                // Skip worlds that were unloaded since the sweep started
+                chunks = plugin.getServer().getWorld(world.getUID()) != null ? world.getLoadedChunks() : new Chunk[0];
+                chunkIndex = 0;
+            }
+            while (chunkIndex < chunks.length) {
+                if (processed >= maxChunks || System.nanoTime() - start >= budget) {
+                    return false;
+                }
+                Chunk chunk = chunks[chunkIndex++];
+                if (chunk.isLoaded()) {
+                    sweepChunk(chunk);
+                }
+                processed++;
+            }
+            chunks = null;
+            worldIndex++;
+        }
+
+        future.complete(removed);
+        return true;
+    }
+
+    private void sweepChunk(Chunk chunk) {
+        // Dropped items
+        for (Entity entity : chunk.getEntities()) {
+            if (entity instanceof Item item && isQuestItem.test(item.getItemStack())) {
+                item.remove();
+                removed++;
+            }
+        }
+
+        // Block inventories, read live to avoid copying every tile entity
+        for (BlockState blockState : chunk.getTileEntities(false)) {
+            if (blockState instanceof Container container) {
+                Inventory inventory = container.getInventory();
+                for (ItemStack item : inventory.getContents()) {
+                    if (item != null && isQuestItem.test(item)) {
+                        inventory.remove(item);
+                        removed++;
+                    }
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package nc.randomEvents.services.participants;
+
+import org.bukkit.Location;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Remembers every holder a session's quest items may have moved into: players, entities (dropped items,
+ * mobs, item frames...) and block inventories. Holders are only ever added (entities are dropped once they
+ * are known to be gone), so the set is a superset of where the items really are.
+ */
+class QuestItemTracker {
+    private static final int MAX_HOLDERS_PER_SESSION = 4096;
+
+    static class Holders {
+        final Set<UUID> entities = new HashSet<>();
+        final Set<Location> blocks = new HashSet<>();
+        // Set once the session outgrows MAX_HOLDERS_PER_SESSION; cleanup must then fall back to a sweep
+        boolean overflowed = false;
+
+        private boolean isFull() {
+            return entities.size() + blocks.size() >= MAX_HOLDERS_PER_SESSION;
+        }
+    }
+
+    private final Map<UUID, Holders> sessionHolders = new HashMap<>();
+
+    /**
+     * Records an entity (player, dropped item, mob...) as a quest item holder
+     * @param sessionId The session the quest item belongs to
+     * @param entityId The entity UUID
+     */
+    void trackEntity(UUID sessionId, UUID entityId) {
+        Holders holders = sessionHolders.computeIfAbsent(sessionId, k -> new Holders());
+        if (holders.overflowed || holders.entities.contains(entityId)) return;
+        if (holders.isFull()) {
+            holders.overflowed = true;
+            return;
+        }
+        holders.entities.add(entityId);
+    }
+
+    /**
+     * Records a block inventory as a quest item holder
+     * @param sessionId The session the quest item belongs to
+     * @param location Any location inside the block
+     */
+    void trackBlock(UUID sessionId, Location location) {
+        if (location.getWorld() == null) return;
+        Holders holders = sessionHolders.computeIfAbsent(sessionId, k -> new Holders());
+        if (holders.overflowed) return;
+        Location blockLocation = new Location(location.getWorld(), location.getBlockX(), location.getBlockY(), location.getBlockZ());
+        if (holders.blocks.contains(blockLocation)) return;
+        if (holders.isFull()) {
+            holders.overflowed = true;
+            return;
+        }
+        holders.blocks.add(blockLocation);
+    }
+
+    /**
+     * Forgets an entity that no longer exists
+     * @param sessionId The session the quest item belonged to
+     * @param entityId The entity UUID
+     */
+    void untrackEntity(UUID sessionId, UUID entityId) {
+        Holders holders = sessionHolders.get(sessionId);
+        if (holders != null) {
+            holders.entities.remove(entityId);
+        }
+    }
+
+    /**
+     * Removes and returns the holders of a session
+     * @param sessionId The session ID
+     * @return The recorded holders, or null if the session was never tracked
+     */
+    Holders endSession(UUID sessionId) {
+        return sessionHolders.remove(sessionId);
+    }
+}
@@ -1,5 +1,6 @@
 package nc.randomEvents.services.participants;
 
+import java.util.List;
 import java.util.UUID;
 
 import nc.randomEvents.core.SessionParticipant;
@@ -26,5 +27,22 @@ public class TestManager implements SessionParticipant {
     public void cleanupSession(UUID sessionId, boolean force) {
         plugin.getLogger().info("TestManager cleaning up session: " + sessionId);
     }
+
+    /**
+     * Logs the outcome of a test event's self checks
+     * @param testName The name of the test event
+     * @param failures Descriptions of every failed check, empty if all passed
+     * @return True if every check passed
+     */
+    public boolean report(String testName, List<String> failures) {
+        if (failures.isEmpty()) {
+            plugin.getLogger().info("TestManager " + testName + ": all checks passed");
+            return true;
+        }
+        for (String failure : failures) {
+            plugin.getLogger().warning("TestManager " + testName + " failed: " + failure);
+        }
+        return false;
+    }
     
 }
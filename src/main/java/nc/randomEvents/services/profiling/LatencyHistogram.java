@@ -0,0 +1,90 @@
+package nc.randomEvents.services.profiling;
+
+import java.util.Arrays;
+
+/**
+ * Fixed-size log-linear histogram of nanosecond durations, in the style of HdrHistogram.
+ * Every power of two is split into 16 linear sub-buckets, so recorded values keep about 6% precision
+ * across the whole range while recording stays a few arithmetic operations and one array increment.
+ */
+public class LatencyHistogram {
+    private static final int SUB_BUCKET_BITS = 4;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    private static final int BUCKETS = (64 - SUB_BUCKET_BITS + 1) * SUB_BUCKETS;
+
+    private final long[] counts = new long[BUCKETS];
+    private long totalCount = 0;
+    private long totalNanos = 0;
+    private long maxNanos = 0;
+
+    /**
+     * Records one duration; synchronized because a few listeners, like pre-login, run off the main thread
+     * @param nanos The duration in nanoseconds
+     */
+    public synchronized void record(long nanos) {
+        if (nanos < 0) nanos = 0;
+        counts[indexOf(nanos)]++;
+        totalCount++;
+        totalNanos += nanos;
+        if (nanos > maxNanos) maxNanos = nanos;
+    }
+
+    /**
+     * @param percentile The percentile to look up, between 0 and 100
+     * @return The upper bound of the bucket holding that percentile, in nanoseconds, or 0 if nothing was recorded
+     */
+    public synchronized long getValueAtPercentile(double percentile) {
+        if (totalCount == 0) return 0;
+        long rank = Math.max(1, (long) Math.ceil(totalCount * Math.min(100.0, percentile) / 100.0));
+        long seen = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            seen += counts[i];
+            if (seen >= rank) {
+                return Math.min(upperBoundOf(i), maxNanos);
+            }
+        }
+        return maxNanos;
+    }
+
+    public synchronized long getCount() {
+        return totalCount;
+    }
+
+    public synchronized long getTotalNanos() {
+        return totalNanos;
+    }
+
+    public synchronized long getMaxNanos() {
+        return maxNanos;
+    }
+
+    /**
+     * Clears every recorded value
+     */
+    public synchronized void reset() {
+        Arrays.fill(counts, 0L);
+        totalCount = 0;
+        totalNanos = 0;
+        maxNanos = 0;
+    }
+
+    private static int indexOf(long value) {
+        if (value < SUB_BUCKETS) {
+            return (int) value;
+        }
+        int exponent = 63 - Long.numberOfLeadingZeros(value);
+        int subBucket = (int) (value >>> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1);
+        return (exponent - SUB_BUCKET_BITS + 1) * SUB_BUCKETS + subBucket;
+    }
+
+    private static long upperBoundOf(int index) {
+        if (index < SUB_BUCKETS) {
+            return index;
+        }
+        int exponent = index / SUB_BUCKETS + SUB_BUCKET_BITS - 1;
+        int subBucket = index % SUB_BUCKETS;
+        int shift = exponent - SUB_BUCKET_BITS;
+        long lower = (long) (SUB_BUCKETS + subBucket) << shift;
+        return lower + (1L << shift) - 1;
+    }
+}
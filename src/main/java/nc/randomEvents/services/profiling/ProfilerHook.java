@@ -0,0 +1,47 @@
+package nc.randomEvents.services.profiling;
+
+/**
+ * One instrumented call site, e.g. a Meteor session's onTick or a listener method.
+ * Callers keep a reference and bracket the call with {@link #start()} and {@link #stop(long)};
+ * while the profiler is off this costs a single field read.
+ */
+public final class ProfilerHook {
+    private final String owner;
+    private final String name;
+    private final LatencyHistogram histogram = new LatencyHistogram();
+    volatile boolean active = false;
+
+    ProfilerHook(String owner, String name) {
+        this.owner = owner;
+        this.name = name;
+    }
+
+    /**
+     * @return The start timestamp to pass to {@link #stop(long)}, or 0 if the hook is not being profiled
+     */
+    public long start() {
+        return active ? System.nanoTime() : 0L;
+    }
+
+    /**
+     * Records the time since {@link #start()}
+     * @param startNanos The value returned by start()
+     */
+    public void stop(long startNanos) {
+        if (startNanos != 0L) {
+            histogram.record(System.nanoTime() - startNanos);
+        }
+    }
+
+    public String getOwner() {
+        return owner;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    LatencyHistogram getHistogram() {
+        return histogram;
+    }
+}
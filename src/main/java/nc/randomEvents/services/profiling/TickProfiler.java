@@ -0,0 +1,154 @@
+package nc.randomEvents.services.profiling;
+
+import nc.randomEvents.RandomEvents;
+import org.bukkit.event.Event;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.Listener;
+import org.bukkit.plugin.EventExecutor;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+interface ITickProfiler {
+    ProfilerHook hook(String owner, String name);
+    void registerEvents(Listener listener);
+    void start(String ownerFilter);
+    void stop();
+    boolean isRunning();
+    List<TickProfiler.HookStats> report();
+}
+
+/**
+ * Measures how long event hooks, session participants and listeners take, per owner and hook.
+ * Profiling is off by default and only the hooks matching the current filter take timestamps, so it
+ * can be left running on a live server; histograms are cleared each time profiling starts.
+ */
+public class TickProfiler implements ITickProfiler {
+    /** Owner filter matching every hook */
+    public static final String ALL = "all";
+
+    private final RandomEvents plugin;
+    private final Map<String, ProfilerHook> hooks = new ConcurrentHashMap<>();
+    private volatile boolean running = false;
+    private volatile String ownerFilter = ALL;
+    private volatile long startedAt = 0L;
+    private volatile long stoppedAt = 0L;
+
+    /**
+     * Summary of one hook over the current profiling window
+     */
+    public record HookStats(String owner, String hook, long calls, double callsPerSecond,
+                            long p50Nanos, long p99Nanos, long maxNanos, long totalNanos) {
+    }
+
+    public TickProfiler(RandomEvents plugin) {
+        this.plugin = plugin;
+    }
+
+    /**
+     * Gets or creates the hook for a call site; look it up once and keep it rather than calling this per call
+     * @param owner The event or listener the hook belongs to
+     * @param name The hook name, e.g. onTick
+     * @return The hook
+     */
+    public ProfilerHook hook(String owner, String name) {
+        return hooks.computeIfAbsent(owner + "#" + name, key -> {
+            ProfilerHook hook = new ProfilerHook(owner, name);
+            hook.active = running && matches(hook);
+            return hook;
+        });
+    }
+
+    /**
+     * Registers every {@link EventHandler} method of a listener like the plugin manager would,
+     * wrapping each one in its own hook named after the method
+     * @param listener The listener to register
+     */
+    public void registerEvents(Listener listener) {
+        String owner = listener.getClass().getSimpleName();
+        for (Method method : listener.getClass().getMethods()) {
+            EventHandler handler = method.getAnnotation(EventHandler.class);
+            if (handler == null || method.isBridge() || method.isSynthetic() || method.getParameterCount() != 1) {
+                continue;
+            }
+            Class<?> parameter = method.getParameterTypes()[0];
+            if (!Event.class.isAssignableFrom(parameter)) {
+                plugin.getLogger().warning(owner + "." + method.getName() + " is not a valid event handler");
+                continue;
+            }
+            Class<? extends Event> eventClass = parameter.asSubclass(Event.class);
+            EventExecutor delegate = EventExecutor.create(method, eventClass);
+            ProfilerHook hook = hook(owner, method.getName());
+            EventExecutor timed = (target, event) -> {
+                long start = hook.start();
+                try {
+                    delegate.execute(target, event);
+                } finally {
+                    hook.stop(start);
+                }
+            };
+            plugin.getServer().getPluginManager().registerEvent(eventClass, listener, handler.priority(), timed, plugin, handler.ignoreCancelled());
+        }
+    }
+
+    /**
+     * Clears all histograms and starts timing the hooks that match the filter
+     * @param ownerFilter An event or listener name, or {@link #ALL}
+     */
+    public void start(String ownerFilter) {
+        this.ownerFilter = ownerFilter;
+        this.startedAt = System.nanoTime();
+        this.running = true;
+        for (ProfilerHook hook : hooks.values()) {
+            hook.getHistogram().reset();
+            hook.active = matches(hook);
+        }
+    }
+
+    /**
+     * Stops timing; the recorded values stay available to {@link #report()} until the next start
+     */
+    public void stop() {
+        if (!running) return;
+        running = false;
+        stoppedAt = System.nanoTime();
+        for (ProfilerHook hook : hooks.values()) {
+            hook.active = false;
+        }
+    }
+
+    public boolean isRunning() {
+        return running;
+    }
+
+    public String getOwnerFilter() {
+        return ownerFilter;
+    }
+
+    /**
+     * @return Stats for every hook that was called since profiling started, most total time first
+     */
+    public List<HookStats> report() {
+        long end = running ? System.nanoTime() : stoppedAt;
+        double seconds = Math.max(1e-9, (end - startedAt) / 1_000_000_000.0);
+        List<HookStats> stats = new ArrayList<>();
+        for (ProfilerHook hook : hooks.values()) {
+            LatencyHistogram histogram = hook.getHistogram();
+            long calls = histogram.getCount();
+            if (calls == 0) continue;
+            stats.add(new HookStats(hook.getOwner(), hook.getName(), calls, calls / seconds,
+                    histogram.getValueAtPercentile(50), histogram.getValueAtPercentile(99),
+                    histogram.getMaxNanos(), histogram.getTotalNanos()));
+        }
+        stats.sort(Comparator.comparingLong(HookStats::totalNanos).reversed());
+        return stats;
+    }
+
+    private boolean matches(ProfilerHook hook) {
+        return ALL.equalsIgnoreCase(ownerFilter) || hook.getOwner().equalsIgnoreCase(ownerFilter);
+    }
+}
@@ -0,0 +1,99 @@
+package nc.randomEvents.services.scheduling;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Set;
+
+/**
+ * Session-facing view of the plugin's timing wheel.
+ * Tracks every task the session registered so they can all be cancelled at once when the session ends.
+ * Like the Bukkit scheduler's sync tasks, it must only be used from the main thread.
+ */
+public class SessionScheduler {
+    private final TimingWheel wheel;
+    private final Set<SessionTask> tasks = Collections.newSetFromMap(new IdentityHashMap<>());
+    private boolean closed = false;
+    // Maintained by the wheel: tasks of this scheduler still linked into a bucket, and runs it refused after close
+    int queued = 0;
+    int runsAfterClose = 0;
+
+    public SessionScheduler(TimingWheel wheel) {
+        this.wheel = wheel;
+    }
+
+    /**
+     * Runs a callback once after a delay
+     * @param action The callback to run
+     * @param delay Ticks to wait, at least one
+     * @return The scheduled task, for cancelling it early
+     */
+    public SessionTask runLater(Runnable action, long delay) {
+        return SessionTask.of(action).runLater(this, delay);
+    }
+
+    /**
+     * Runs a callback repeatedly until it is cancelled or the session ends
+     * @param action The callback to run
+     * @param delay Ticks to wait before the first run, at least one
+     * @param period Ticks between runs
+     * @return The scheduled task, for cancelling it early
+     */
+    public SessionTask runTimer(Runnable action, long delay, long period) {
+        return SessionTask.of(action).runTimer(this, delay, period);
+    }
+
+    /**
+     * Cancels every task of the session and rejects new ones
+     */
+    public void cancelAll() {
+        closed = true;
+        for (SessionTask task : new ArrayList<>(tasks)) {
+            task.cancel();
+        }
+        tasks.clear();
+    }
+
+    /**
+     * @return The number of tasks still scheduled for the session
+     */
+    public int getTaskCount() {
+        return tasks.size();
+    }
+
+    /**
+     * @return Whether the session ended and its tasks were cancelled
+     */
+    public boolean isClosed() {
+        return closed;
+    }
+
+    /**
+     * @return The number of this session's tasks still waiting in the timing wheel, which after closing is a leak
+     */
+    public int getQueuedCount() {
+        return queued;
+    }
+
+    /**
+     * @return The number of times a task of this session came due after the session ended; each was dropped
+     */
+    public int getRunsAfterClose() {
+        return runsAfterClose;
+    }
+
+    void submit(SessionTask task, long delay) {
+        if (closed) {
+            // The session already ended, so its work must not start
+            task.cancel();
+            return;
+        }
+        tasks.add(task);
+        wheel.schedule(task, delay);
+    }
+
+    void forget(SessionTask task) {
+        tasks.remove(task);
+        wheel.unschedule(task);
+    }
+}
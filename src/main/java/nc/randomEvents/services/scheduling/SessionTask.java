@@ -0,0 +1,92 @@
+package nc.randomEvents.services.scheduling;
+
+/**
+ * A callback run by the plugin's timing wheel on behalf of a session.
+ * Mirrors the BukkitRunnable style: subclass it (or wrap a Runnable with {@link #of}), schedule it through a
+ * {@link SessionScheduler}, and call {@link #cancel()} from inside or outside to stop it.
+ */
+public abstract class SessionTask implements Runnable {
+    // Absolute wheel tick of the next run, and ticks between runs (0 for one-shot tasks)
+    long deadline;
+    long period;
+    // Links into the wheel bucket the task waits in, null while running or unscheduled
+    TimingWheel.Bucket bucket;
+    SessionTask prev;
+    SessionTask next;
+    private boolean cancelled;
+    // Package-private so the wheel can attribute queued tasks and late runs to their session
+    SessionScheduler owner;
+
+    /**
+     * Wraps a callback as a task
+     * @param action The callback to run
+     * @return The unscheduled task
+     */
+    public static SessionTask of(Runnable action) {
+        return new SessionTask() {
+            @Override
+            public void run() {
+                action.run();
+            }
+        };
+    }
+
+    /**
+     * Runs this task once after a delay
+     * @param scheduler The scheduler of the owning session
+     * @param delay Ticks to wait, at least one
+     * @return This task
+     */
+    public final SessionTask runLater(SessionScheduler scheduler, long delay) {
+        return runTimer(scheduler, delay, 0L);
+    }
+
+    /**
+     * Runs this task repeatedly until it is cancelled or its session ends
+     * @param scheduler The scheduler of the owning session
+     * @param delay Ticks to wait before the first run, at least one
+     * @param period Ticks between runs, or 0 to run once
+     * @return This task
+     */
+    public final SessionTask runTimer(SessionScheduler scheduler, long delay, long period) {
+        if (owner != null) {
+            throw new IllegalStateException("Task is already scheduled");
+        }
+        if (period < 0) {
+            throw new IllegalArgumentException("Period must not be negative");
+        }
+        this.owner = scheduler;
+        this.period = period;
+        scheduler.submit(this, delay);
+        return this;
+    }
+
+    /**
+     * Stops the task and removes it from the wheel; it will not run again. Safe to call from inside {@link #run()}.
+     */
+    public void cancel() {
+        if (cancelled) return;
+        cancelled = true;
+        if (owner != null) {
+            owner.forget(this);
+        }
+    }
+
+    public boolean isCancelled() {
+        return cancelled;
+    }
+
+    boolean isRepeating() {
+        return period > 0;
+    }
+
+    /**
+     * Marks a finished one-shot task as done, without it counting as cancelled by the caller
+     */
+    void finish() {
+        cancelled = true;
+        if (owner != null) {
+            owner.forget(this);
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package nc.randomEvents.services.scheduling;
+
+import nc.randomEvents.RandomEvents;
+
+interface ITickLoadMonitor {
+    double getLoad();
+    long getEffectiveInterval(long baseInterval, long maxInterval);
+}
+
+/**
+ * Turns the server's average tick time into a load factor that adaptive events use to tick less often.
+ * Below settings.adaptiveTickStartMspt the load is 0 and events tick at their normal rate; it rises linearly to 1
+ * at settings.adaptiveTickMaxMspt, where events tick at the slowest rate they allow. A start of 0 turns it off.
+ */
+public class TickLoadMonitor implements ITickLoadMonitor {
+    private static final int DEFAULT_MAX_MSPT = 50;
+
+    private final RandomEvents plugin;
+    // The load is sampled at most once per wheel tick, however many sessions ask
+    private long sampledTick = -1;
+    private double load = 0.0;
+
+    public TickLoadMonitor(RandomEvents plugin) {
+        this.plugin = plugin;
+    }
+
+    /**
+     * @return How loaded the server is, from 0 (at or below the start threshold) to 1 (at or above the max)
+     */
+    public double getLoad() {
+        long now = plugin.getTimingWheel().getCurrentTick();
+        if (now != sampledTick) {
+            sampledTick = now;
+            load = sample();
+        }
+        return load;
+    }
+
+    /**
+     * Stretches a tick interval according to the current load, in whole multiples of the base interval
+     * so the effective interval only changes when the load moves noticeably
+     * @param baseInterval The event's normal tick interval
+     * @param maxInterval The slowest interval the event allows
+     * @return The interval to use for the next tick, between baseInterval and maxInterval
+     */
+    public long getEffectiveInterval(long baseInterval, long maxInterval) {
+        if (maxInterval <= baseInterval) {
+            return baseInterval;
+        }
+        double currentLoad = getLoad();
+        if (currentLoad <= 0.0) {
+            return baseInterval;
+        }
+        long stretched = baseInterval + Math.round(currentLoad * (maxInterval - baseInterval));
+        long steps = (stretched + baseInterval - 1) / baseInterval;
+        return Math.min(maxInterval, steps * baseInterval);
+    }
+
+    private double sample() {
+        Integer start = plugin.getConfigManager().getSettingIntValue("adaptiveTickStartMspt");
+        if (start == null || start <= 0) {
+            return 0.0;
+        }
+        Integer max = plugin.getConfigManager().getSettingIntValue("adaptiveTickMaxMspt");
+        int full = max != null && max > start ? max : Math.max(start + 1, DEFAULT_MAX_MSPT);
+        double mspt = plugin.getServer().getAverageTickTime();
+        return Math.max(0.0, Math.min(1.0, (mspt - start) / (full - start)));
+    }
+}
@@ -0,0 +1,140 @@
+package nc.randomEvents.services.scheduling;
+
+import nc.randomEvents.RandomEvents;
+import nc.randomEvents.utils.Metrics;
+
+interface ITickPhaseAllocator {
+    TickPhaseAllocator.Phase allocate(long interval);
+    void release(TickPhaseAllocator.Phase phase);
+    int getLoad(long tick);
+    int getPeakLoad();
+    int getAllocationCount();
+}
+
+/**
+ * Spreads periodic session ticks across server ticks. Each ticking session is given a phase within its
+ * interval, chosen so the busiest tick it lands on is as quiet as possible, so ten sessions of the same
+ * event tick on ten different server ticks instead of all on the same one.
+ * <p>
+ * Load is tracked on a ring of {@value #CYCLE} ticks, a multiple of every common interval (1-10, 12, 15,
+ * 20, 25, 30, 40, 50, 60, 100, 200 and more); intervals that don't divide it are tracked approximately.
+ * Like the timing wheel, it is used from the main thread; the metrics readers only take snapshots.
+ */
+public class TickPhaseAllocator implements ITickPhaseAllocator {
+    static final int CYCLE = 25200;
+
+    private final int[] load = new int[CYCLE];
+    private int allocations = 0;
+
+    /**
+     * A session's place in the tick cycle, released when the session stops ticking
+     */
+    public static final class Phase {
+        private final long interval;
+        private final int offset;
+        private boolean released = false;
+
+        private Phase(long interval, int offset) {
+            this.interval = interval;
+            this.offset = offset;
+        }
+
+        /**
+         * @param currentTick The timing wheel's current tick
+         * @return The delay, between 1 and the interval, that puts the first run on this phase
+         */
+        public long firstDelay(long currentTick) {
+            long delay = Math.floorMod(offset - currentTick, interval);
+            return delay == 0 ? interval : delay;
+        }
+
+        public long getInterval() {
+            return interval;
+        }
+
+        public int getOffset() {
+            return offset;
+        }
+    }
+
+    public TickPhaseAllocator(RandomEvents plugin) {
+        Metrics metrics = plugin.getMetrics();
+        if (metrics != null) {
+            metrics.addCustomChart(new Metrics.SingleLineChart("ticking_sessions", this::getAllocationCount));
+            metrics.addCustomChart(new Metrics.SingleLineChart("peak_sessions_per_tick", this::getPeakLoad));
+        }
+    }
+
+    /**
+     * Picks the least loaded phase for a new periodic task and reserves it
+     * @param interval Ticks between runs, at least one
+     * @return The reserved phase
+     */
+    public synchronized Phase allocate(long interval) {
+        if (interval < 1) {
+            throw new IllegalArgumentException("Interval must be at least one tick");
+        }
+        int best = 0;
+        int bestPeak = Integer.MAX_VALUE;
+        long bestTotal = Long.MAX_VALUE;
+        for (int offset = 0; offset < Math.min(interval, CYCLE); offset++) {
+            int peak = 0;
+            long total = 0;
+            for (long slot = offset; slot < CYCLE; slot += interval) {
+                peak = Math.max(peak, load[(int) slot]);
+                total += load[(int) slot];
+            }
+            if (peak < bestPeak || (peak == bestPeak && total < bestTotal)) {
+                best = offset;
+                bestPeak = peak;
+                bestTotal = total;
+            }
+        }
+        adjust(interval, best, 1);
+        allocations++;
+        return new Phase(interval, best);
+    }
+
+    /**
+     * Frees a phase so later sessions can use it; releasing twice has no effect
+     * @param phase The phase returned by {@link #allocate(long)}
+     */
+    public synchronized void release(Phase phase) {
+        if (phase == null || phase.released) return;
+        phase.released = true;
+        adjust(phase.interval, phase.offset, -1);
+        allocations--;
+    }
+
+    private void adjust(long interval, int offset, int delta) {
+        for (long slot = offset; slot < CYCLE; slot += interval) {
+            load[(int) slot] += delta;
+        }
+    }
+
+    /**
+     * @param tick A timing wheel tick
+     * @return The number of sessions that tick on it
+     */
+    public synchronized int getLoad(long tick) {
+        return load[(int) Math.floorMod(tick, (long) CYCLE)];
+    }
+
+    /**
+     * @return The most sessions scheduled to tick on any single server tick
+     */
+    public synchronized int getPeakLoad() {
+        int peak = 0;
+        for (int slotLoad : load) {
+            peak = Math.max(peak, slotLoad);
+        }
+        return peak;
+    }
+
+    /**
+     * @return The number of phases currently reserved
+     */
+    public synchronized int getAllocationCount() {
+        return allocations;
+    }
+}
@@ -0,0 +1,245 @@
+package nc.randomEvents.services.scheduling;
+
+import nc.randomEvents.RandomEvents;
+import org.bukkit.scheduler.BukkitTask;
+
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+interface ITimingWheel {
+    void schedule(SessionTask task, long delay);
+    void advance();
+    long getCurrentTick();
+    int getPendingCount();
+    void shutdown();
+}
+
+/**
+ * Plugin-wide hierarchical timing wheel that runs all session-owned periodic and delayed work from a single
+ * Bukkit repeating task, instead of one scheduler entry per session, mob or sheep.
+ * <p>
+ * Level 0 has one bucket per tick for the next 64 ticks; each higher level has buckets 64 times wider. Tasks
+ * move down a level when the wheel below wraps around, so scheduling is O(1) and each tick only touches the
+ * bucket that is due. Buckets are intrusive doubly linked lists, so a cancelled task is unlinked right away
+ * and does not keep what it references (e.g. its session) alive until its original deadline.
+ */
+public class TimingWheel implements ITimingWheel {
+    private static final int SLOT_BITS = 6;
+    private static final int SLOTS = 1 << SLOT_BITS;
+    private static final int SLOT_MASK = SLOTS - 1;
+    private static final int LEVELS = 4; // 64^4 ticks, about 9.7 days, before delays are clamped
+
+    private final Logger logger;
+    private final Bucket[] buckets = newBuckets();
+    private final BukkitTask driver; // Null for a wheel advanced by hand
+    // Empty bucket swapped in for the bucket being run, so the wheel allocates nothing per tick
+    private Bucket spare = new Bucket();
+    private long currentTick = 0;
+    private int pending = 0;
+
+    public TimingWheel(RandomEvents plugin) {
+        this.logger = plugin.getLogger();
+        this.driver = plugin.getServer().getScheduler().runTaskTimer(plugin, this::advance, 1L, 1L);
+    }
+
+    /**
+     * Creates a wheel that is not driven by the server, for checks that step it with {@link #advance()}
+     * @param logger Receives exceptions thrown by tasks
+     */
+    public TimingWheel(Logger logger) {
+        this.logger = logger;
+        this.driver = null;
+    }
+
+    private static Bucket[] newBuckets() {
+        Bucket[] buckets = new Bucket[LEVELS * SLOTS];
+        for (int i = 0; i < buckets.length; i++) {
+            buckets[i] = new Bucket();
+        }
+        return buckets;
+    }
+
+    /**
+     * Schedules a task to run after a delay; called through SessionScheduler so the session owns the task
+     * @param task The task to run
+     * @param delay Ticks to wait, values below one run on the next tick
+     */
+    public void schedule(SessionTask task, long delay) {
+        long maxDelay = (1L << (SLOT_BITS * LEVELS)) - 1;
+        task.deadline = currentTick + Math.min(Math.max(1L, delay), maxDelay);
+        place(task);
+        pending++;
+    }
+
+    /**
+     * Removes a task from its bucket, if it is still waiting to run
+     * @param task The cancelled task
+     */
+    void unschedule(SessionTask task) {
+        if (task.bucket != null) {
+            task.bucket.remove(task);
+            pending--;
+        }
+    }
+
+    /**
+     * @return The number of ticks the wheel has advanced since the plugin started
+     */
+    public long getCurrentTick() {
+        return currentTick;
+    }
+
+    /**
+     * @return The number of scheduled tasks
+     */
+    public int getPendingCount() {
+        return pending;
+    }
+
+    /**
+     * Stops the driving task and drops everything still scheduled
+     */
+    public void shutdown() {
+        if (driver != null) {
+            driver.cancel();
+        }
+        for (Bucket bucket : buckets) {
+            while (bucket.poll() != null) {
+                // Unlinks every task
+            }
+        }
+        pending = 0;
+    }
+
+    private void place(SessionTask task) {
+        long delta = task.deadline - currentTick;
+        int level = 0;
+        while (level < LEVELS - 1 && delta >= (1L << (SLOT_BITS * (level + 1)))) {
+            level++;
+        }
+        int slot = (int) ((task.deadline >>> (SLOT_BITS * level)) & SLOT_MASK);
+        buckets[level * SLOTS + slot].add(task);
+    }
+
+    /**
+     * Moves the wheel one tick forward and runs every task that is due; the driving task calls this each server tick
+     */
+    public void advance() {
+        currentTick++;
+
+        // When a level wraps, spread the next bucket of the level above over the levels below
+        for (int level = 1; level < LEVELS; level++) {
+            if ((currentTick & ((1L << (SLOT_BITS * level)) - 1)) != 0) {
+                break;
+            }
+            int slot = (int) ((currentTick >>> (SLOT_BITS * level)) & SLOT_MASK);
+            // Detached first, so a task placed back into this bucket is not seen again
+            SessionTask task = buckets[level * SLOTS + slot].detach();
+            while (task != null) {
+                SessionTask next = task.next;
+                task.next = null;
+                place(task);
+                task = next;
+            }
+        }
+
+        int slot = (int) (currentTick & SLOT_MASK);
+        Bucket due = buckets[slot];
+        if (due.head == null) return;
+        // Swap the bucket out, so tasks scheduled while running land in the other one
+        buckets[slot] = spare;
+
+        SessionTask task;
+        // Polling one at a time means tasks cancelled by an earlier task in this bucket are already unlinked
+        while ((task = due.poll()) != null) {
+            pending--;
+            if (task.owner != null && task.owner.isClosed()) {
+                // Should have been cancelled with its session; record the leak instead of running stale work
+                task.owner.runsAfterClose++;
+                task.cancel();
+                continue;
+            }
+            try {
+                task.run();
+            } catch (Throwable t) {
+                logger.log(Level.SEVERE, "Session task threw an exception", t);
+            }
+            if (task.isCancelled()) continue;
+            if (task.isRepeating()) {
+                task.deadline = currentTick + task.period;
+                place(task);
+                pending++;
+            } else {
+                task.finish();
+            }
+        }
+        spare = due;
+    }
+
+    /**
+     * First-in, first-out list of tasks linked through their own fields
+     */
+    static final class Bucket {
+        private SessionTask head;
+        private SessionTask tail;
+
+        private void add(SessionTask task) {
+            if (task.owner != null) {
+                task.owner.queued++;
+            }
+            task.bucket = this;
+            task.prev = tail;
+            task.next = null;
+            if (tail != null) {
+                tail.next = task;
+            } else {
+                head = task;
+            }
+            tail = task;
+        }
+
+        private void remove(SessionTask task) {
+            if (task.owner != null) {
+                task.owner.queued--;
+            }
+            if (task.prev != null) {
+                task.prev.next = task.next;
+            } else {
+                head = task.next;
+            }
+            if (task.next != null) {
+                task.next.prev = task.prev;
+            } else {
+                tail = task.prev;
+            }
+            task.prev = null;
+            task.next = null;
+            task.bucket = null;
+        }
+
+        /**
+         * Empties the bucket, handing back the chain of its tasks; nothing else may touch them until re-placed
+         */
+        private SessionTask detach() {
+            SessionTask first = head;
+            for (SessionTask task = first; task != null; task = task.next) {
+                if (task.owner != null) {
+                    task.owner.queued--;
+                }
+                task.prev = null;
+                task.bucket = null;
+            }
+            head = null;
+            tail = null;
+            return first;
+        }
+
+        private SessionTask poll() {
+            SessionTask task = head;
+            if (task != null) {
+                remove(task);
+            }
+            return task;
+        }
+    }
+}
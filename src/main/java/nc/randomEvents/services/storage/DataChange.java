@@ -0,0 +1,70 @@
+package nc.randomEvents.services.storage;
+
+/**
+ * A single record change handed to a DataStore: an upsert of field values, or a tombstone.
+ * Field values are positional, matching a names array shared by every record of the data type.
+ */
+public final class DataChange {
+    private final String sectionPath;
+    private final String id;
+    private final String[] fieldNames;
+    private final Object[] values;
+
+    private DataChange(String sectionPath, String id, String[] fieldNames, Object[] values) {
+        this.sectionPath = sectionPath;
+        this.id = id;
+        this.fieldNames = fieldNames;
+        this.values = values;
+    }
+
+    /**
+     * Creates a change that inserts or replaces a record
+     * @param sectionPath The section of the data type
+     * @param id The record ID
+     * @param fieldNames The names of the data type's fields, shared between records and not modified
+     * @param values The field values, by position in fieldNames; null values are not stored
+     * @return The upsert change
+     */
+    public static DataChange upsert(String sectionPath, String id, String[] fieldNames, Object[] values) {
+        if (fieldNames.length != values.length) {
+            throw new IllegalArgumentException("Expected " + fieldNames.length + " field values but got " + values.length);
+        }
+        return new DataChange(sectionPath, id, fieldNames, values);
+    }
+
+    /**
+     * Creates a change that removes a record
+     * @param sectionPath The section of the data type
+     * @param id The record ID
+     * @return The tombstone change
+     */
+    public static DataChange delete(String sectionPath, String id) {
+        return new DataChange(sectionPath, id, null, null);
+    }
+
+    public String getSectionPath() {
+        return sectionPath;
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    /**
+     * @return The field names, or null for a tombstone
+     */
+    public String[] getFieldNames() {
+        return fieldNames;
+    }
+
+    /**
+     * @return The field values by position in {@link #getFieldNames()}, or null for a tombstone
+     */
+    public Object[] getValues() {
+        return values;
+    }
+
+    public boolean isDelete() {
+        return values == null;
+    }
+}
@@ -0,0 +1,82 @@
+package nc.randomEvents.services.storage;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Set;
+import java.util.function.BiConsumer;
+
+/**
+ * Storage backend behind the DataManager.
+ * Records are addressed by a section path (one per data type) and an ID, and hold plain field values:
+ * strings, numbers, booleans, lists and nested maps.
+ * The DataManager calls write and clear from a single writer thread, and open and load only while that writer is idle.
+ * Single records may be read from any thread, so implementations must guard them against concurrent writes.
+ */
+public interface DataStore {
+    /**
+     * @return The name of this backend, as used in the dataStore setting
+     */
+    String getName();
+
+    /**
+     * Reads the persisted state, replacing anything read before
+     * @throws IOException If the stored data cannot be read
+     */
+    void open() throws IOException;
+
+    /**
+     * Whether single records are read from disk when requested, instead of from an in-memory copy of all data.
+     * Only such stores can back a lazily loaded data type, as anything else keeps every record in memory anyway.
+     * @return True if only an index of the records is kept in memory
+     */
+    boolean readsOnDemand();
+
+    /**
+     * Visits every record of a section
+     * @param sectionPath The section of the data type
+     * @param visitor Receives each record ID and its fields; the reader is only valid during the call
+     */
+    void load(String sectionPath, BiConsumer<String, RecordReader> visitor);
+
+    /**
+     * Gets a single record
+     * @param sectionPath The section of the data type
+     * @param id The record ID
+     * @return The record's fields, or null if the record does not exist
+     */
+    RecordReader loadRecord(String sectionPath, String id);
+
+    /**
+     * Checks whether a record exists without reading it
+     * @param sectionPath The section of the data type
+     * @param id The record ID
+     * @return True if the record is stored
+     */
+    boolean contains(String sectionPath, String id);
+
+    /**
+     * Gets the IDs of every record in a section
+     * @param sectionPath The section of the data type
+     * @return A copy of the record IDs
+     */
+    Set<String> getIds(String sectionPath);
+
+    /**
+     * Durably applies a batch of changes, in order
+     * @param changes The upserts and tombstones to apply
+     * @throws IOException If the changes could not be persisted
+     */
+    void write(List<DataChange> changes) throws IOException;
+
+    /**
+     * Removes every record
+     * @throws IOException If the stored data could not be cleared
+     */
+    void clear() throws IOException;
+
+    /**
+     * Releases any open files
+     * @throws IOException If pending data could not be written
+     */
+    void close() throws IOException;
+}
@@ -0,0 +1,387 @@
+package nc.randomEvents.services.storage;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.*;
+import java.util.function.BiConsumer;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.zip.CRC32;
+
+/**
+ * Stores records in an append-only binary journal of upserts and tombstones.
+ * Each write only appends the changed records, and the journal is periodically compacted into a snapshot
+ * holding the latest version of every record, so write cost no longer depends on how much data exists.
+ * Only an index of where each record's latest version lives is kept in memory; values are read from disk on request.
+ * <p>
+ * Both files start with a magic number, followed by records of the form
+ * {@code [int length][int crc32][byte op][UTF section][UTF id][encoded values]}, where length and crc cover
+ * everything after the crc. A torn record at the end of the journal (e.g. from a crash mid-write) is discarded.
+ */
+public class JournalDataStore implements DataStore {
+    public static final String NAME = "journal";
+
+    private static final int MAGIC = 0x52454A31; // "REJ1"
+    private static final int HEADER_SIZE = 4;
+    private static final byte OP_UPSERT = 1;
+    private static final byte OP_DELETE = 2;
+    private static final int MAX_RECORD_SIZE = 16 * 1024 * 1024;
+    // The journal is compacted once it is larger than both this and the last snapshot
+    private static final long COMPACT_MIN_BYTES = 1024 * 1024;
+
+    private final Logger logger;
+    private final Path snapshotFile;
+    private final Path journalFile;
+    // Section path -> record ID -> position of the latest version of every record
+    private final Map<String, Map<String, RecordPosition>> index = new HashMap<>();
+    private FileChannel snapshot;
+    private FileChannel journal;
+    private long journalBytes;
+    private long snapshotBytes;
+
+    public JournalDataStore(File folder, Logger logger) {
+        this.logger = logger;
+        this.snapshotFile = new File(folder, "data.snapshot").toPath();
+        this.journalFile = new File(folder, "data.journal").toPath();
+    }
+
+    @Override
+    public String getName() {
+        return NAME;
+    }
+
+    @Override
+    public synchronized void open() throws IOException {
+        close();
+        index.clear();
+        Files.createDirectories(journalFile.getParent());
+
+        snapshotBytes = Files.exists(snapshotFile) ? replay(snapshotFile, false) : 0;
+        long validJournalBytes = Files.exists(journalFile) ? replay(journalFile, true) : 0;
+
+        if (Files.exists(snapshotFile)) {
+            snapshot = FileChannel.open(snapshotFile, StandardOpenOption.READ);
+        }
+        journal = FileChannel.open(journalFile, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        if (validJournalBytes < HEADER_SIZE) {
+            journal.truncate(0);
+            journal.write(header(), 0);
+            validJournalBytes = HEADER_SIZE;
+        } else if (journal.size() > validJournalBytes) {
+            logger.warning("Discarding " + (journal.size() - validJournalBytes) + " bytes of incomplete records at the end of " + journalFile);
+            journal.truncate(validJournalBytes);
+        }
+        journal.position(validJournalBytes);
+        journalBytes = validJournalBytes;
+    }
+
+    @Override
+    public boolean readsOnDemand() {
+        return true;
+    }
+
+    @Override
+    public synchronized void load(String sectionPath, BiConsumer<String, RecordReader> visitor) {
+        Map<String, RecordPosition> section = index.get(sectionPath);
+        if (section == null) {
+            return;
+        }
+        for (Map.Entry<String, RecordPosition> entry : section.entrySet()) {
+            byte[] payload = readPayload(sectionPath, entry.getKey(), entry.getValue());
+            if (payload != null) {
+                visitor.accept(entry.getKey(), consumer -> ValueCodec.decode(payload, consumer));
+            }
+        }
+    }
+
+    @Override
+    public synchronized RecordReader loadRecord(String sectionPath, String id) {
+        Map<String, RecordPosition> section = index.get(sectionPath);
+        RecordPosition position = section != null ? section.get(id) : null;
+        byte[] payload = position != null ? readPayload(sectionPath, id, position) : null;
+        if (payload == null) {
+            return null;
+        }
+        return consumer -> ValueCodec.decode(payload, consumer);
+    }
+
+    @Override
+    public synchronized boolean contains(String sectionPath, String id) {
+        Map<String, RecordPosition> section = index.get(sectionPath);
+        return section != null && section.containsKey(id);
+    }
+
+    @Override
+    public synchronized Set<String> getIds(String sectionPath) {
+        Map<String, RecordPosition> section = index.get(sectionPath);
+        return section != null ? new HashSet<>(section.keySet()) : new HashSet<>();
+    }
+
+    @Override
+    public synchronized void write(List<DataChange> changes) throws IOException {
+        if (journal == null) {
+            throw new IOException("Journal is not open");
+        }
+
+        ByteArrayOutputStream batch = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(batch);
+        List<RecordPosition> positions = new ArrayList<>(changes.size());
+        for (DataChange change : changes) {
+            byte[] payload = change.isDelete() ? null : ValueCodec.encode(change.getFieldNames(), change.getValues());
+            long recordStart = journalBytes + out.size();
+            int payloadOffset = writeRecord(out, change.getSectionPath(), change.getId(), payload);
+            positions.add(payload == null ? null : new RecordPosition(true, recordStart + payloadOffset, payload.length));
+        }
+        out.flush();
+
+        try {
+            append(journal, ByteBuffer.wrap(batch.toByteArray()));
+            journal.force(false);
+        } catch (IOException e) {
+            // Cut off the torn batch, so later batches start where the index expects and replay reaches them
+            try {
+                journal.truncate(journalBytes);
+                journal.position(journalBytes);
+            } catch (IOException rollback) {
+                e.addSuppressed(rollback);
+            }
+            throw e;
+        }
+        journalBytes += batch.size();
+
+        // Only point the index at the batch once it is durable
+        for (int i = 0; i < changes.size(); i++) {
+            DataChange change = changes.get(i);
+            apply(change.getSectionPath(), change.getId(), positions.get(i));
+        }
+
+        if (journalBytes > COMPACT_MIN_BYTES && journalBytes > snapshotBytes) {
+            compact();
+        }
+    }
+
+    @Override
+    public synchronized void clear() throws IOException {
+        index.clear();
+        compact();
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        if (snapshot != null) {
+            snapshot.close();
+            snapshot = null;
+        }
+        if (journal != null) {
+            journal.force(false);
+            journal.close();
+            journal = null;
+        }
+    }
+
+    /**
+     * Appends a batch at the journal's current position
+     * @param channel The journal
+     * @param batch The encoded records
+     * @throws IOException If the batch could not be written; part of it may have been
+     */
+    protected void append(FileChannel channel, ByteBuffer batch) throws IOException {
+        while (batch.hasRemaining()) {
+            channel.write(batch);
+        }
+    }
+
+    /**
+     * Writes the latest version of every record into a new snapshot and empties the journal.
+     * If the server stops between the two steps, replaying the old journal over the new snapshot is harmless.
+     */
+    private void compact() throws IOException {
+        Path temp = snapshotFile.resolveSibling(snapshotFile.getFileName() + ".tmp");
+        Map<String, Map<String, RecordPosition>> compacted = new HashMap<>();
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temp)))) {
+            out.writeInt(MAGIC);
+            long position = HEADER_SIZE;
+            for (Map.Entry<String, Map<String, RecordPosition>> section : index.entrySet()) {
+                Map<String, RecordPosition> compactedSection = new LinkedHashMap<>();
+                for (Map.Entry<String, RecordPosition> record : section.getValue().entrySet()) {
+                    byte[] payload = read(record.getValue());
+                    int payloadOffset = writeRecord(out, section.getKey(), record.getKey(), payload);
+                    compactedSection.put(record.getKey(), new RecordPosition(false, position + payloadOffset, payload.length));
+                    position += payloadOffset + payload.length;
+                }
+                compacted.put(section.getKey(), compactedSection);
+            }
+        }
+        try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.WRITE)) {
+            channel.force(true);
+        }
+        try {
+            Files.move(temp, snapshotFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(temp, snapshotFile, StandardCopyOption.REPLACE_EXISTING);
+        }
+        snapshotBytes = Files.size(snapshotFile);
+        if (snapshot != null) {
+            snapshot.close();
+        }
+        snapshot = FileChannel.open(snapshotFile, StandardOpenOption.READ);
+        index.clear();
+        index.putAll(compacted);
+
+        if (journal != null) {
+            journal.truncate(HEADER_SIZE);
+            journal.position(HEADER_SIZE);
+            journal.force(false);
+        }
+        journalBytes = HEADER_SIZE;
+    }
+
+    /**
+     * Reads every valid record of a file into the index
+     * @param file The snapshot or journal to read
+     * @param inJournal Whether the file is the journal
+     * @return The number of bytes up to the end of the last valid record
+     */
+    private long replay(Path file, boolean inJournal) throws IOException {
+        try (InputStream stream = Files.newInputStream(file);
+             DataInputStream in = new DataInputStream(new BufferedInputStream(stream))) {
+            int magic;
+            try {
+                magic = in.readInt();
+            } catch (EOFException e) {
+                return 0;
+            }
+            if (magic != MAGIC) {
+                throw new IOException(file + " is not a RandomEvents data journal");
+            }
+
+            long valid = HEADER_SIZE;
+            CRC32 crc = new CRC32();
+            while (true) {
+                int length;
+                int checksum;
+                byte[] body;
+                try {
+                    length = in.readInt();
+                    checksum = in.readInt();
+                    if (length <= 0 || length > MAX_RECORD_SIZE) {
+                        break;
+                    }
+                    body = new byte[length];
+                    in.readFully(body);
+                } catch (EOFException e) {
+                    break;
+                }
+                crc.reset();
+                crc.update(body);
+                if ((int) crc.getValue() != checksum) {
+                    break;
+                }
+
+                ByteArrayInputStream bodyStream = new ByteArrayInputStream(body);
+                DataInputStream record = new DataInputStream(bodyStream);
+                byte op = record.readByte();
+                String sectionPath = record.readUTF();
+                String id = record.readUTF();
+                int payloadLength = bodyStream.available();
+                long payloadStart = valid + 8L + length - payloadLength;
+                apply(sectionPath, id, op == OP_DELETE ? null : new RecordPosition(inJournal, payloadStart, payloadLength));
+                valid += 8L + length;
+            }
+            return valid;
+        }
+    }
+
+    private void apply(String sectionPath, String id, RecordPosition position) {
+        if (position == null) {
+            Map<String, RecordPosition> section = index.get(sectionPath);
+            if (section != null) {
+                section.remove(id);
+            }
+        } else {
+            index.computeIfAbsent(sectionPath, k -> new LinkedHashMap<>()).put(id, position);
+        }
+    }
+
+    /**
+     * Reads a record's encoded values, logging and skipping it if the file cannot be read
+     */
+    private byte[] readPayload(String sectionPath, String id, RecordPosition position) {
+        try {
+            return read(position);
+        } catch (IOException e) {
+            logger.log(Level.WARNING, "Failed to read record '" + id + "' in " + sectionPath + ", skipping.", e);
+            return null;
+        }
+    }
+
+    private byte[] read(RecordPosition position) throws IOException {
+        FileChannel channel = position.inJournal() ? journal : snapshot;
+        if (channel == null) {
+            throw new IOException("Journal is not open");
+        }
+        ByteBuffer buffer = ByteBuffer.allocate(position.length());
+        while (buffer.hasRemaining()) {
+            // Positional reads leave the journal's append position alone
+            if (channel.read(buffer, position.offset() + buffer.position()) < 0) {
+                throw new EOFException("Record ends past the end of " + (position.inJournal() ? journalFile : snapshotFile));
+            }
+        }
+        return buffer.array();
+    }
+
+    /**
+     * Writes a record
+     * @return The offset of the payload from the start of the record
+     */
+    private static int writeRecord(DataOutputStream out, String sectionPath, String id, byte[] payload) throws IOException {
+        ByteArrayOutputStream bodyBytes = new ByteArrayOutputStream(32 + (payload != null ? payload.length : 0));
+        DataOutputStream body = new DataOutputStream(bodyBytes);
+        body.writeByte(payload == null ? OP_DELETE : OP_UPSERT);
+        body.writeUTF(sectionPath);
+        body.writeUTF(id);
+        if (payload != null) {
+            body.write(payload);
+        }
+        body.flush();
+
+        byte[] bytes = bodyBytes.toByteArray();
+        CRC32 crc = new CRC32();
+        crc.update(bytes);
+        out.writeInt(bytes.length);
+        out.writeInt((int) crc.getValue());
+        out.write(bytes);
+        return 8 + bytes.length - (payload != null ? payload.length : 0);
+    }
+
+    /**
+     * Where a record's encoded values are stored
+     * @param inJournal Whether they are in the journal rather than the snapshot
+     * @param offset The file offset of the first byte
+     * @param length The number of bytes
+     */
+    private record RecordPosition(boolean inJournal, long offset, int length) {
+    }
+
+    private static ByteBuffer header() {
+        ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+        header.putInt(MAGIC);
+        header.flip();
+        return header;
+    }
+}
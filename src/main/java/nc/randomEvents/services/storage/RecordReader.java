@@ -0,0 +1,18 @@
+package nc.randomEvents.services.storage;
+
+import java.io.IOException;
+import java.util.function.BiConsumer;
+
+/**
+ * The stored fields of a single record, handed out by a DataStore without copying them into a map first.
+ * Nested values (e.g. a location) arrive as maps or configuration sections.
+ */
+@FunctionalInterface
+public interface RecordReader {
+    /**
+     * Passes every stored field of the record to a consumer, in stored order
+     * @param consumer Receives each field name and value
+     * @throws IOException If the record cannot be decoded
+     */
+    void forEachField(BiConsumer<String, Object> consumer) throws IOException;
+}
@@ -0,0 +1,183 @@
+package nc.randomEvents.services.storage;
+
+import org.bukkit.configuration.ConfigurationSection;
+import org.bukkit.configuration.InvalidConfigurationException;
+import org.bukkit.configuration.file.YamlConfiguration;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiConsumer;
+
+/**
+ * Compact tagged binary encoding of record field values.
+ * Values without a dedicated tag (e.g. nested ConfigurationSerializable objects) fall back to a YAML blob.
+ */
+final class ValueCodec {
+    private static final byte NULL = 0;
+    private static final byte STRING = 1;
+    private static final byte INT = 2;
+    private static final byte LONG = 3;
+    private static final byte DOUBLE = 4;
+    private static final byte FLOAT = 5;
+    private static final byte BOOLEAN = 6;
+    private static final byte LIST = 7;
+    private static final byte MAP = 8;
+    private static final byte YAML = 9;
+
+    private ValueCodec() {
+    }
+
+    /**
+     * Encodes the field values of a record, skipping null values
+     * @param names The field names
+     * @param values The field values, by position in names
+     * @return The encoded bytes
+     * @throws IOException If a value cannot be encoded
+     */
+    static byte[] encode(String[] names, Object[] values) throws IOException {
+        int present = 0;
+        for (Object value : values) {
+            if (value != null) present++;
+        }
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(64);
+        DataOutputStream out = new DataOutputStream(bytes);
+        out.writeByte(MAP);
+        out.writeInt(present);
+        for (int i = 0; i < names.length; i++) {
+            if (values[i] == null) continue;
+            out.writeUTF(names[i]);
+            writeValue(out, values[i]);
+        }
+        out.flush();
+        return bytes.toByteArray();
+    }
+
+    /**
+     * Decodes the field values of a record straight into a consumer, in their original order
+     * @param data The encoded bytes
+     * @param consumer Receives each field name and value
+     * @throws IOException If the bytes are not a valid encoding
+     */
+    static void decode(byte[] data, BiConsumer<String, Object> consumer) throws IOException {
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(data));
+        if (in.readByte() != MAP) {
+            throw new IOException("Record does not start with a map");
+        }
+        int size = in.readInt();
+        for (int i = 0; i < size; i++) {
+            String key = in.readUTF();
+            consumer.accept(key, readValue(in));
+        }
+    }
+
+    private static void writeMap(DataOutputStream out, Map<?, ?> map) throws IOException {
+        out.writeByte(MAP);
+        out.writeInt(map.size());
+        for (Map.Entry<?, ?> entry : map.entrySet()) {
+            out.writeUTF(String.valueOf(entry.getKey()));
+            writeValue(out, entry.getValue());
+        }
+    }
+
+    private static void writeValue(DataOutputStream out, Object value) throws IOException {
+        if (value == null) {
+            out.writeByte(NULL);
+        } else if (value instanceof String string) {
+            out.writeByte(STRING);
+            out.writeUTF(string);
+        } else if (value instanceof Integer || value instanceof Short || value instanceof Byte) {
+            out.writeByte(INT);
+            out.writeInt(((Number) value).intValue());
+        } else if (value instanceof Long longValue) {
+            out.writeByte(LONG);
+            out.writeLong(longValue);
+        } else if (value instanceof Double doubleValue) {
+            out.writeByte(DOUBLE);
+            out.writeDouble(doubleValue);
+        } else if (value instanceof Float floatValue) {
+            out.writeByte(FLOAT);
+            out.writeFloat(floatValue);
+        } else if (value instanceof Boolean booleanValue) {
+            out.writeByte(BOOLEAN);
+            out.writeBoolean(booleanValue);
+        } else if (value instanceof List<?> list) {
+            out.writeByte(LIST);
+            out.writeInt(list.size());
+            for (Object element : list) {
+                writeValue(out, element);
+            }
+        } else if (value instanceof Map<?, ?> map) {
+            writeMap(out, map);
+        } else if (value instanceof ConfigurationSection section) {
+            writeMap(out, section.getValues(false));
+        } else {
+            YamlConfiguration yaml = new YamlConfiguration();
+            yaml.set("value", value);
+            out.writeByte(YAML);
+            byte[] text = yaml.saveToString().getBytes(StandardCharsets.UTF_8);
+            out.writeInt(text.length);
+            out.write(text);
+        }
+    }
+
+    private static Map<String, Object> readMap(DataInputStream in) throws IOException {
+        int size = in.readInt();
+        Map<String, Object> map = new LinkedHashMap<>();
+        for (int i = 0; i < size; i++) {
+            String key = in.readUTF();
+            map.put(key, readValue(in));
+        }
+        return map;
+    }
+
+    private static Object readValue(DataInputStream in) throws IOException {
+        byte tag = in.readByte();
+        switch (tag) {
+            case NULL:
+                return null;
+            case STRING:
+                return in.readUTF();
+            case INT:
+                return in.readInt();
+            case LONG:
+                return in.readLong();
+            case DOUBLE:
+                return in.readDouble();
+            case FLOAT:
+                return in.readFloat();
+            case BOOLEAN:
+                return in.readBoolean();
+            case LIST: {
+                int size = in.readInt();
+                List<Object> list = new ArrayList<>(size);
+                for (int i = 0; i < size; i++) {
+                    list.add(readValue(in));
+                }
+                return list;
+            }
+            case MAP:
+                return readMap(in);
+            case YAML: {
+                byte[] text = new byte[in.readInt()];
+                in.readFully(text);
+                YamlConfiguration yaml = new YamlConfiguration();
+                try {
+                    yaml.loadFromString(new String(text, StandardCharsets.UTF_8));
+                } catch (InvalidConfigurationException e) {
+                    throw new IOException("Invalid YAML value", e);
+                }
+                return yaml.get("value");
+            }
+            default:
+                throw new IOException("Unknown value tag " + tag);
+        }
+    }
+}
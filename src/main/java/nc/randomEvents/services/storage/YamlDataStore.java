@@ -0,0 +1,145 @@
+package nc.randomEvents.services.storage;
+
+import org.bukkit.configuration.ConfigurationSection;
+import org.bukkit.configuration.InvalidConfigurationException;
+import org.bukkit.configuration.file.YamlConfiguration;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.*;
+import java.util.function.BiConsumer;
+
+/**
+ * Stores every record in a single human-editable YAML file.
+ * Each write rewrites the whole file, so this suits servers with little data.
+ */
+public class YamlDataStore implements DataStore {
+    public static final String NAME = "yaml";
+
+    private final File file;
+    private YamlConfiguration data = new YamlConfiguration();
+
+    public YamlDataStore(File file) {
+        this.file = file;
+    }
+
+    @Override
+    public String getName() {
+        return NAME;
+    }
+
+    @Override
+    public synchronized void open() throws IOException {
+        YamlConfiguration loaded = new YamlConfiguration();
+        if (file.exists()) {
+            try {
+                loaded.load(file);
+            } catch (InvalidConfigurationException e) {
+                throw new IOException("Invalid YAML in " + file, e);
+            }
+        }
+        data = loaded;
+    }
+
+    @Override
+    public boolean readsOnDemand() {
+        // The whole file is parsed into memory on open
+        return false;
+    }
+
+    @Override
+    public synchronized void load(String sectionPath, BiConsumer<String, RecordReader> visitor) {
+        ConfigurationSection section = data.getConfigurationSection(sectionPath);
+        if (section == null) {
+            return;
+        }
+        for (String id : section.getKeys(false)) {
+            ConfigurationSection record = section.getConfigurationSection(id);
+            if (record != null) {
+                visitor.accept(id, reader(record));
+            }
+        }
+    }
+
+    @Override
+    public synchronized RecordReader loadRecord(String sectionPath, String id) {
+        ConfigurationSection record = data.getConfigurationSection(sectionPath + "." + id);
+        return record != null ? reader(record) : null;
+    }
+
+    @Override
+    public synchronized boolean contains(String sectionPath, String id) {
+        return data.isConfigurationSection(sectionPath + "." + id);
+    }
+
+    /**
+     * Reads a record's fields straight from its section, locking out the writer while doing so
+     */
+    private RecordReader reader(ConfigurationSection record) {
+        return consumer -> {
+            synchronized (this) {
+                for (String key : record.getKeys(false)) {
+                    consumer.accept(key, record.get(key));
+                }
+            }
+        };
+    }
+
+    @Override
+    public synchronized Set<String> getIds(String sectionPath) {
+        ConfigurationSection section = data.getConfigurationSection(sectionPath);
+        return section != null ? new HashSet<>(section.getKeys(false)) : new HashSet<>();
+    }
+
+    @Override
+    public synchronized void write(List<DataChange> changes) throws IOException {
+        for (DataChange change : changes) {
+            String path = change.getSectionPath() + "." + change.getId();
+            data.set(path, null);
+            if (!change.isDelete()) {
+                ConfigurationSection record = data.createSection(path);
+                String[] names = change.getFieldNames();
+                Object[] values = change.getValues();
+                for (int i = 0; i < names.length; i++) {
+                    if (values[i] instanceof Map<?, ?> map) {
+                        record.createSection(names[i], map);
+                    } else if (values[i] != null) {
+                        record.set(names[i], values[i]);
+                    }
+                }
+            }
+        }
+        save();
+    }
+
+    @Override
+    public synchronized void clear() throws IOException {
+        data = new YamlConfiguration();
+        save();
+    }
+
+    @Override
+    public void close() {
+        // Every write is saved immediately, nothing to release
+    }
+
+    /**
+     * Writes the file to a temporary sibling and moves it into place, so a crash never leaves a partial file
+     */
+    private void save() throws IOException {
+        Path target = file.toPath();
+        Path temp = target.resolveSibling(target.getFileName() + ".tmp");
+        Files.createDirectories(target.getParent());
+        Files.writeString(temp, data.saveToString(), StandardCharsets.UTF_8);
+        try {
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+}
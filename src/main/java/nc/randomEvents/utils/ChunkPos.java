@@ -0,0 +1,74 @@
+package nc.randomEvents.utils;
+
+import org.bukkit.Chunk;
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.bukkit.plugin.Plugin;
+
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * Lightweight reference to a chunk that does not hold the world or chunk loaded
+ */
+public final class ChunkPos {
+    private final UUID worldId;
+    private final int x;
+    private final int z;
+
+    public ChunkPos(UUID worldId, int x, int z) {
+        this.worldId = worldId;
+        this.x = x;
+        this.z = z;
+    }
+
+    /**
+     * Gets the chunk position containing a location
+     * @param location The location to convert
+     * @return The chunk position, or null if the location has no world
+     */
+    public static ChunkPos of(Location location) {
+        if (location == null || location.getWorld() == null) return null;
+        return new ChunkPos(location.getWorld().getUID(), location.getBlockX() >> 4, location.getBlockZ() >> 4);
+    }
+
+    /**
+     * Gets the chunk if its world exists and it is currently loaded, without loading it
+     * @param plugin The plugin instance
+     * @return The loaded chunk, or null if it is not loaded
+     */
+    public Chunk getLoadedChunk(Plugin plugin) {
+        World world = plugin.getServer().getWorld(worldId);
+        if (world == null || !world.isChunkLoaded(x, z)) return null;
+        return world.getChunkAt(x, z);
+    }
+
+    public UUID getWorldId() {
+        return worldId;
+    }
+
+    public int getX() {
+        return x;
+    }
+
+    public int getZ() {
+        return z;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof ChunkPos other)) return false;
+        return x == other.x && z == other.z && worldId.equals(other.worldId);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(worldId, x, z);
+    }
+
+    @Override
+    public String toString() {
+        return worldId + "[" + x + ", " + z + "]";
+    }
+}
@@ -4,6 +4,7 @@ import org.bukkit.Location;
 import org.bukkit.entity.Player;
 
 import java.util.*;
+import java.util.concurrent.ThreadLocalRandom;
 
 public class LocationHelper {
 
@@ -124,9 +125,20 @@ public class LocationHelper {
      * @return A new location offset from the source
      */
     public static Location getPointAwayFrom(Location source, double distance) {
+        return getPointAwayFrom(source, distance, ThreadLocalRandom.current());
+    }
+
+    /**
+     * Gets a point a specific distance away from a location in a direction drawn from the given random source
+     * @param source The source location
+     * @param distance The distance to offset
+     * @param random The random source, e.g. a session stream
+     * @return A new location offset from the source
+     */
+    public static Location getPointAwayFrom(Location source, double distance, Random random) {
         if (source == null) return null;
         
-        double angle = Math.random() * 2 * Math.PI;
+        double angle = random.nextDouble() * 2 * Math.PI;
         double x = source.getX() + (Math.cos(angle) * distance);
         double z = source.getZ() + (Math.sin(angle) * distance);
         
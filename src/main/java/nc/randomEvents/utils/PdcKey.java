@@ -0,0 +1,86 @@
+package nc.randomEvents.utils;
+
+import org.bukkit.NamespacedKey;
+import org.bukkit.persistence.PersistentDataContainer;
+import org.bukkit.persistence.PersistentDataType;
+import org.bukkit.plugin.Plugin;
+
+/**
+ * A persistent data key paired with the data type stored under it.
+ * The underlying NamespacedKey is built once when {@link PdcKeys#init(Plugin)} runs.
+ * @param <T> The primary object type
+ * @param <Z> The retrieved object type
+ */
+public final class PdcKey<T, Z> {
+    private final String name;
+    private final PersistentDataType<T, Z> type;
+    private NamespacedKey key;
+
+    PdcKey(String name, PersistentDataType<T, Z> type) {
+        this.name = name;
+        this.type = type;
+    }
+
+    void bind(Plugin plugin) {
+        this.key = PersistentDataHelper.createKey(plugin, name);
+    }
+
+    /**
+     * Gets the unprefixed name of this key
+     * @return The key name
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Gets the NamespacedKey this accessor reads and writes
+     * @return The NamespacedKey
+     */
+    public NamespacedKey getKey() {
+        return key;
+    }
+
+    /**
+     * Gets the PersistentDataType stored under this key
+     * @return The PersistentDataType
+     */
+    public PersistentDataType<T, Z> getType() {
+        return type;
+    }
+
+    /**
+     * Sets a value in a PersistentDataContainer
+     * @param container The container to set the value in
+     * @param value The value to set
+     */
+    public void set(PersistentDataContainer container, Z value) {
+        container.set(key, type, value);
+    }
+
+    /**
+     * Gets a value from a PersistentDataContainer
+     * @param container The container to get the value from
+     * @return The value, or null if not found
+     */
+    public Z get(PersistentDataContainer container) {
+        return container.get(key, type);
+    }
+
+    /**
+     * Checks if a PersistentDataContainer has a value for this key
+     * @param container The container to check
+     * @return true if the container has the value, false otherwise
+     */
+    public boolean has(PersistentDataContainer container) {
+        return container.has(key, type);
+    }
+
+    /**
+     * Removes this key from a PersistentDataContainer
+     * @param container The container to remove the value from
+     */
+    public void remove(PersistentDataContainer container) {
+        container.remove(key);
+    }
+}
@@ -0,0 +1,77 @@
+package nc.randomEvents.utils;
+
+import org.bukkit.persistence.PersistentDataType;
+import org.bukkit.plugin.Plugin;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Registry of every persistent data key the plugin reads or writes.
+ * Keys are bound to the plugin namespace once at startup so hot paths never build or validate keys.
+ */
+public final class PdcKeys {
+    private static final List<PdcKey<?, ?>> KEYS = new ArrayList<>();
+
+    // Entities
+    public static final PdcKey<Byte, Byte> ENTITY = register("entity", PersistentDataType.BYTE);
+    public static final PdcKey<String, String> ENTITY_ID = register("entity_id", PersistentDataType.STRING);
+    public static final SessionIdKey ENTITY_SESSION = registerSessionId("entity_session");
+
+    // Projectiles
+    public static final PdcKey<Byte, Byte> PROJECTILE = register("event_projectile", PersistentDataType.BYTE);
+    public static final PdcKey<Double, Double> PROJECTILE_DAMAGE = register("projectile_damage", PersistentDataType.DOUBLE);
+    public static final SessionIdKey PROJECTILE_SESSION = registerSessionId("projectile_session");
+    public static final PdcKey<Long, Long> PROJECTILE_SPAWN_TICK = register("projectile_spawn_tick", PersistentDataType.LONG);
+
+    // Equipment
+    public static final PdcKey<Byte, Byte> EQUIPMENT = register("equipment", PersistentDataType.BYTE);
+    public static final PdcKey<String, String> EQUIPMENT_ID = register("equipment_id", PersistentDataType.STRING);
+    public static final SessionIdKey EQUIPMENT_SESSION = registerSessionId("equipment_session");
+
+    // Containers
+    public static final PdcKey<Byte, Byte> CONTAINER = register("container", PersistentDataType.BYTE);
+    public static final PdcKey<String, String> CONTAINER_ID = register("container_id", PersistentDataType.STRING);
+    public static final SessionIdKey CONTAINER_SESSION = registerSessionId("container_session");
+    public static final PdcKey<String, String> CONTAINER_TYPE = register("container_type", PersistentDataType.STRING);
+    public static final PdcKey<Byte, Byte> CLEAR_AT_END = register("clear_at_end", PersistentDataType.BYTE);
+    public static final PdcKey<Byte, Byte> QUEST_ITEM = register("quest_item", PersistentDataType.BYTE);
+    public static final SessionIdKey QUEST_ITEM_SESSION = registerSessionId("quest_item_session");
+
+    // Event specific
+    public static final SessionIdKey METEOR_SESSION = registerSessionId("meteor_session");
+    public static final PdcKey<Byte, Byte> LOOT_GOBLIN = register("loot_goblin", PersistentDataType.BYTE);
+    public static final PdcKey<Byte, Byte> CRYING = register("crying", PersistentDataType.BYTE);
+
+    private PdcKeys() {
+    }
+
+    private static <T, Z> PdcKey<T, Z> register(String name, PersistentDataType<T, Z> type) {
+        PdcKey<T, Z> key = new PdcKey<>(name, type);
+        KEYS.add(key);
+        return key;
+    }
+
+    private static SessionIdKey registerSessionId(String name) {
+        return new SessionIdKey(register(name, UuidDataType.INSTANCE));
+    }
+
+    /**
+     * Binds every registered key to the plugin namespace. Must run before any manager touches persistent data.
+     * @param plugin The plugin instance
+     */
+    public static void init(Plugin plugin) {
+        for (PdcKey<?, ?> key : KEYS) {
+            key.bind(plugin);
+        }
+    }
+
+    /**
+     * Gets all registered keys
+     * @return An unmodifiable view of the registered keys
+     */
+    public static List<PdcKey<?, ?>> getKeys() {
+        return Collections.unmodifiableList(KEYS);
+    }
+}
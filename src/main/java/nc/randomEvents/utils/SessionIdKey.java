@@ -0,0 +1,94 @@
+package nc.randomEvents.utils;
+
+import org.bukkit.NamespacedKey;
+import org.bukkit.persistence.PersistentDataContainer;
+import org.bukkit.persistence.PersistentDataType;
+
+import java.util.UUID;
+
+/**
+ * Session ID tag stored in binary form. Tags written by older versions as UUID strings
+ * under the same key are still readable; they are replaced the next time the tag is written.
+ */
+public final class SessionIdKey {
+    private final PdcKey<long[], UUID> key;
+
+    SessionIdKey(PdcKey<long[], UUID> key) {
+        this.key = key;
+    }
+
+    /**
+     * Writes a session ID in binary form, replacing any legacy string tag
+     * @param container The container to set the value in
+     * @param sessionId The session ID to store
+     */
+    public void set(PersistentDataContainer container, UUID sessionId) {
+        key.set(container, sessionId);
+    }
+
+    /**
+     * Reads a session ID, falling back to the legacy string form
+     * @param container The container to read from
+     * @return The session ID, or null if missing or malformed
+     */
+    public UUID get(PersistentDataContainer container) {
+        if (key.has(container)) {
+            try {
+                return key.get(container);
+            } catch (IllegalArgumentException e) {
+                return null;
+            }
+        }
+        String legacy = getLegacy(container);
+        if (legacy != null) {
+            try {
+                return UUID.fromString(legacy);
+            } catch (IllegalArgumentException e) {
+                return null;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Checks if a container is tagged with a specific session ID
+     * @param container The container to check
+     * @param sessionId The session ID to compare against
+     * @return true if the stored session ID matches
+     */
+    public boolean matches(PersistentDataContainer container, UUID sessionId) {
+        NamespacedKey namespacedKey = key.getKey();
+        // get() with the wrong type throws, so check the binary form first; a legacy string tag falls through
+        if (container.has(namespacedKey, PersistentDataType.LONG_ARRAY)) {
+            long[] raw = container.get(namespacedKey, PersistentDataType.LONG_ARRAY);
+            return raw != null
+                    && raw.length == 2
+                    && raw[0] == sessionId.getMostSignificantBits()
+                    && raw[1] == sessionId.getLeastSignificantBits();
+        }
+        return getLegacy(container) != null && sessionId.equals(get(container));
+    }
+
+    /**
+     * Checks if a container has a session ID in either form
+     * @param container The container to check
+     * @return true if a session ID tag is present
+     */
+    public boolean has(PersistentDataContainer container) {
+        return key.has(container) || getLegacy(container) != null;
+    }
+
+    // Legacy string form under the same key, kept readable until tagged entities and items from older versions are gone
+    private String getLegacy(PersistentDataContainer container) {
+        NamespacedKey namespacedKey = key.getKey();
+        return container.has(namespacedKey, PersistentDataType.STRING) ? container.get(namespacedKey, PersistentDataType.STRING) : null;
+    }
+
+    /**
+     * Removes the session ID tag from a container
+     * @param container The container to remove the value from
+     */
+    public void remove(PersistentDataContainer container) {
+        key.remove(container);
+    }
+}
@@ -0,0 +1,67 @@
+package nc.randomEvents.utils;
+
+import org.bukkit.Location;
+import org.bukkit.Sound;
+import org.bukkit.World;
+import org.bukkit.entity.Player;
+
+/**
+ * A sound with its volume and pitch, resolved once when the cue is created.
+ * Keep cues as constants so playing them in hot paths needs no registry lookup; unknown sounds play nothing.
+ */
+public final class SoundCue {
+    private final String name;
+    private final Sound sound;
+    private final float volume;
+    private final float pitch;
+
+    private SoundCue(String name, Sound sound, float volume, float pitch) {
+        this.name = name;
+        this.sound = sound;
+        this.volume = volume;
+        this.pitch = pitch;
+    }
+
+    /**
+     * @param name The sound name, e.g. "entity.sheep.ambient"
+     * @param volume The volume to play at
+     * @param pitch The pitch to play at
+     * @return The resolved cue
+     */
+    public static SoundCue of(String name, float volume, float pitch) {
+        return new SoundCue(name, SoundHelper.getSoundSafely(name), volume, pitch);
+    }
+
+    /**
+     * Plays the cue to everyone near a location
+     * @param world The world to play in
+     * @param location The location to play at
+     */
+    public void play(World world, Location location) {
+        if (sound != null && world != null) {
+            world.playSound(location, sound, volume, pitch);
+        }
+    }
+
+    /**
+     * Plays the cue to a single player
+     * @param player The player to play to
+     * @param location The location to play at
+     */
+    public void play(Player player, Location location) {
+        if (sound != null) {
+            player.playSound(location, sound, volume, pitch);
+        }
+    }
+
+    /**
+     * @return Whether the sound exists on this server version
+     */
+    public boolean isAvailable() {
+        return sound != null;
+    }
+
+    public String getName() {
+        return name;
+    }
+}
@@ -7,17 +7,24 @@ import org.bukkit.Sound;
 import org.bukkit.World;
 import org.bukkit.entity.Player;
 
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
 public class SoundHelper {
+    // Resolved sounds by the name callers pass in, including empty entries for names the registry doesn't know
+    private static final Map<String, Optional<Sound>> SOUND_CACHE = new ConcurrentHashMap<>();
+
     public static Sound getSoundSafely(String name) {
+        return SOUND_CACHE.computeIfAbsent(name, SoundHelper::lookupSound).orElse(null);
+    }
+
+    private static Optional<Sound> lookupSound(String name) {
         // Convert to lowercase and ensure proper namespaced format
         NamespacedKey key = NamespacedKey.minecraft(name.toLowerCase());
 
         // Try to fetch from the sound registry
-        Sound sound = Registry.SOUNDS.get(key);
-
-        // Return the found sound or null if not present
-        return (sound != null) ? sound : null;
-       
+        return Optional.ofNullable(Registry.SOUNDS.get(key));
     }
 
     public static void playPlayerSoundSafely(Player player, String name, Location location, float volume, float pitch) {
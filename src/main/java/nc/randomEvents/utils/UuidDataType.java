@@ -0,0 +1,39 @@
+package nc.randomEvents.utils;
+
+import org.bukkit.persistence.PersistentDataAdapterContext;
+import org.bukkit.persistence.PersistentDataType;
+
+import java.util.UUID;
+
+/**
+ * Stores a UUID as its two 64-bit halves instead of a 36 character string
+ */
+public final class UuidDataType implements PersistentDataType<long[], UUID> {
+    public static final UuidDataType INSTANCE = new UuidDataType();
+
+    private UuidDataType() {
+    }
+
+    @Override
+    public Class<long[]> getPrimitiveType() {
+        return long[].class;
+    }
+
+    @Override
+    public Class<UUID> getComplexType() {
+        return UUID.class;
+    }
+
+    @Override
+    public long[] toPrimitive(UUID complex, PersistentDataAdapterContext context) {
+        return new long[] { complex.getMostSignificantBits(), complex.getLeastSignificantBits() };
+    }
+
+    @Override
+    public UUID fromPrimitive(long[] primitive, PersistentDataAdapterContext context) {
+        if (primitive.length != 2) {
+            throw new IllegalArgumentException("Expected 2 longs for a UUID but got " + primitive.length);
+        }
+        return new UUID(primitive[0], primitive[1]);
+    }
+}